@@ -0,0 +1,205 @@
+package com.hamkkebu.transactionservice.codef.client;
+
+import com.hamkkebu.transactionservice.codef.config.CodefConfig;
+import com.hamkkebu.transactionservice.config.VirtualThreads;
+import com.hamkkebu.transactionservice.repository.CodefCallQuotaRepository;
+import io.codef.api.EasyCodefServiceType;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Codef API 호출 실행기 (속도 제한, 카드사별 격벽, 재시도, 타임아웃, 지표)
+ *
+ * <p>EasyCodef 호출은 동기 방식이고 자체 타임아웃이 없으므로, 전용 스레드 풀에서 실행하고
+ * 호출 스레드는 time limiter 시간까지만 기다립니다. 느린 카드사가 요청 스레드를 HTTP 타임아웃 내내 붙잡지 않습니다.</p>
+ * <p>적용 순서 (바깥 → 안쪽):</p>
+ * <ol>
+ *   <li>Retry: 일시적 오류 코드({@link CodefTransientException})만 지터가 있는 지수 백오프로 재시도</li>
+ *   <li>RateLimiter: 서비스 타입별 초당 호출 수 토큰 버킷 (API/SANDBOX, 인스턴스 단위) - 재시도도 호출 횟수에 포함</li>
+ *   <li>Bulkhead: 카드사(organization)별 동시 호출 수 제한</li>
+ *   <li>일일 한도: DEMO 서비스 타입의 하루 호출 수 (DB에서 전체 레플리카 합산, 한도 기준 시간대의 날짜별)
+ *       - 재시도도 호출 횟수에 포함, 격벽에서 거절된 호출은 차감하지 않음</li>
+ *   <li>TimeLimiter: 호출당 최대 대기 시간</li>
+ * </ol>
+ * <p>호출마다 {@code codef.client.requests} 타이머를 endpoint/organization/outcome 태그로 기록합니다.</p>
+ * <p>SIMULATOR 모드에서는 {@link CodefClient}와 함께 등록하지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression(CodefConfig.REAL_CODEF_CONDITION)
+public class CodefCallExecutor {
+
+    private static final String METRIC_NAME = "codef.client.requests";
+    private static final String INSTANCE_NAME = "codef";
+
+    private final String serviceType;
+    // DEMO는 null (하루 한도는 dailyLimit으로 제한)
+    private final RateLimiter rateLimiter;
+    private final CodefCallQuotaRepository quotaRepository;
+    // DEMO가 아니면 0 (제한 없음)
+    private final int dailyLimit;
+    private final ZoneId quotaZone;
+    private final Retry retry;
+    private final TimeLimiter timeLimiter;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> transientCodes;
+    private final ExecutorService callExecutor;
+
+    public CodefCallExecutor(CodefConfig codefConfig,
+                             RateLimiterRegistry rateLimiterRegistry,
+                             RetryRegistry retryRegistry,
+                             TimeLimiterRegistry timeLimiterRegistry,
+                             BulkheadRegistry bulkheadRegistry,
+                             MeterRegistry meterRegistry,
+                             CodefCallQuotaRepository quotaRepository,
+                             @Value("${codef.client.demo-daily-limit:100}") int demoDailyLimit,
+                             @Value("${codef.client.daily-limit-zone:Asia/Seoul}") ZoneId quotaZone,
+                             @Value("${codef.client.transient-codes:CF-00016,CF-01004,CF-09990,CF-09999}")
+                             Set<String> transientCodes,
+                             @Value("${codef.client.max-threads:32}") int maxThreads,
+                             @Value("${codef.client.virtual-threads:false}") boolean virtualThreads) {
+        EasyCodefServiceType easyCodefServiceType = codefConfig.getEasyCodefServiceType();
+        boolean demo = easyCodefServiceType == EasyCodefServiceType.DEMO;
+        this.serviceType = easyCodefServiceType.name();
+        this.rateLimiter = demo ? null
+                : rateLimiterRegistry.rateLimiter(INSTANCE_NAME + "-" + serviceType.toLowerCase(Locale.ROOT));
+        this.quotaRepository = quotaRepository;
+        this.dailyLimit = demo ? demoDailyLimit : 0;
+        this.quotaZone = quotaZone;
+        this.retry = retryRegistry.retry(INSTANCE_NAME);
+        this.timeLimiter = timeLimiterRegistry.timeLimiter(INSTANCE_NAME);
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.meterRegistry = meterRegistry;
+        this.transientCodes = Set.copyOf(transientCodes);
+
+        // 대기열 없이 최대 maxThreads개까지만 실행 (초과 시 즉시 거절, 카드사별 격벽이 먼저 제한함)
+        // 가상 스레드는 EasyCodef 내부 synchronized 구간에서 캐리어를 점유할 수 있으므로,
+        // pinning 진단(jvm.threads.virtual.pinned)으로 확인한 뒤 codef.client.virtual-threads로 별도로 켬
+        this.callExecutor = new ThreadPoolExecutor(0, maxThreads, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), VirtualThreads.threadFactory("codef-call-", virtualThreads));
+
+        log.info("[Codef] Call executor initialized: serviceType={}, rateLimiter={}, dailyLimit={}, maxThreads={}, "
+                        + "transientCodes={}", serviceType, rateLimiter != null ? rateLimiter.getName() : "none",
+                dailyLimit, maxThreads, this.transientCodes);
+    }
+
+    /**
+     * 재시도 없이 실행 (계정 등록/간편인증 등 재요청 시 부작용이 있는 API용)
+     *
+     * @param endpoint     지표 태그용 엔드포인트 이름
+     * @param organization 카드사 기관 코드
+     * @param call         EasyCodef 호출 (응답 파싱 포함)
+     */
+    public <T> T execute(String endpoint, String organization, Callable<T> call) throws Exception {
+        return execute(endpoint, organization, call, false);
+    }
+
+    /**
+     * 일시적 오류 시 재시도하며 실행 (조회 API용)
+     *
+     * <p>call 안에서 {@link #checkTransient}로 결과 코드를 검사하면 일시적 오류 코드가 재시도됩니다.</p>
+     */
+    public <T> T executeWithRetry(String endpoint, String organization, Callable<T> call) throws Exception {
+        return execute(endpoint, organization, call, true);
+    }
+
+    /**
+     * 일시적 오류 결과 코드이면 {@link CodefTransientException}을 던짐
+     */
+    public void checkTransient(String code, String message) {
+        if (code != null && transientCodes.contains(code)) {
+            throw new CodefTransientException(code, message);
+        }
+    }
+
+    private <T> T execute(String endpoint, String organization, Callable<T> call, boolean retryable)
+            throws Exception {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(
+                INSTANCE_NAME + "-" + (organization != null ? organization : "unknown"), INSTANCE_NAME);
+
+        Callable<T> guarded = Bulkhead.decorateCallable(bulkhead, () -> {
+            consumeDailyQuota();
+            return timeLimiter.executeFutureSupplier(() -> callExecutor.submit(call));
+        });
+        Callable<T> attempt = rateLimiter != null ? RateLimiter.decorateCallable(rateLimiter, guarded) : guarded;
+        Callable<T> decorated = retryable ? Retry.decorateCallable(retry, attempt) : attempt;
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return decorated.call();
+        } catch (Exception e) {
+            outcome = outcomeOf(e);
+            log.warn("[Codef] Call failed: endpoint={}, organization={}, outcome={}, error={}",
+                    endpoint, organization, outcome, e.getMessage());
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .tag("endpoint", endpoint)
+                    .tag("organization", organization != null ? organization : "unknown")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 일일 한도 차감 (한도 소진 시 {@link CodefQuotaExceededException})
+     */
+    private void consumeDailyQuota() {
+        if (dailyLimit > 0 && !quotaRepository.tryConsume(serviceType, LocalDate.now(quotaZone), dailyLimit)) {
+            throw new CodefQuotaExceededException(serviceType, dailyLimit);
+        }
+    }
+
+    private static String outcomeOf(Exception e) {
+        if (e instanceof RequestNotPermitted) {
+            return "rate_limited";
+        }
+        if (e instanceof CodefQuotaExceededException) {
+            return "quota_exceeded";
+        }
+        if (e instanceof BulkheadFullException || e instanceof RejectedExecutionException) {
+            return "bulkhead_full";
+        }
+        if (e instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (e instanceof CodefTransientException) {
+            return "transient_error";
+        }
+        return "error";
+    }
+
+    @PreDestroy
+    void shutdown() {
+        callExecutor.shutdownNow();
+    }
+}
@@ -3,11 +3,15 @@ package com.hamkkebu.transactionservice.codef.client;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hamkkebu.transactionservice.codef.config.CodefConfig;
+import com.hamkkebu.transactionservice.codef.dto.CodefApproval;
+import com.hamkkebu.transactionservice.codef.dto.CodefCard;
+import com.hamkkebu.transactionservice.codef.dto.CodefResponse;
 import io.codef.api.EasyCodef;
 import io.codef.api.EasyCodefServiceType;
 import io.codef.api.EasyCodefUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -20,15 +24,20 @@ import java.util.Map;
  *
  * <p>EasyCodef 라이브러리를 감싸서 비즈니스 로직에서 편리하게 사용할 수 있도록 합니다.</p>
  * <p>토큰 관리는 EasyCodef 내부에서 자동 처리됩니다.</p>
+ * <p>모든 호출은 {@link CodefCallExecutor}를 거쳐 속도 제한/카드사별 격벽/타임아웃이 적용되며,
+ * 조회 API만 일시적 오류 시 재시도합니다.</p>
  */
 @Slf4j
 @Component
+@ConditionalOnExpression(CodefConfig.REAL_CODEF_CONDITION)
 @RequiredArgsConstructor
-public class CodefClient {
+public class CodefClient implements CodefGateway {
 
     private final EasyCodef easyCodef;
     private final CodefConfig codefConfig;
     private final ObjectMapper objectMapper;
+    private final CodefResponseParser responseParser;
+    private final CodefCallExecutor callExecutor;
 
     // Codef API 엔드포인트
     private static final String CARD_LIST_URL = "/v1/kr/card/p/account/card-list";
@@ -42,6 +51,7 @@ public class CodefClient {
      * @param loginPw      카드사 로그인 비밀번호 (평문 - RSA 암호화 후 전송)
      * @return Connected ID를 포함한 응답
      */
+    @Override
     public Map<String, Object> createAccount(String organization, String loginId, String loginPw) {
         try {
             List<HashMap<String, Object>> accountList = new ArrayList<>();
@@ -61,7 +71,8 @@ public class CodefClient {
             parameterMap.put("accountList", accountList);
 
             EasyCodefServiceType serviceType = codefConfig.getEasyCodefServiceType();
-            String result = easyCodef.createAccount(serviceType, parameterMap);
+            String result = callExecutor.execute("create-account", organization,
+                    () -> easyCodef.createAccount(serviceType, parameterMap));
 
             log.info("[Codef] Account created for organization={}", organization);
             return parseResponse(result);
@@ -83,6 +94,7 @@ public class CodefClient {
      * @param loginTypeLevel 간편인증 수단 (1:카카오톡, 2:페이코, 3:삼성패스 등)
      * @return twoWayInfo를 포함한 응답 (2차 요청에 필요)
      */
+    @Override
     public Map<String, Object> createAccountSimpleAuth(String organization, String loginTypeLevel) {
         try {
             List<HashMap<String, Object>> accountList = new ArrayList<>();
@@ -101,7 +113,8 @@ public class CodefClient {
             parameterMap.put("accountList", accountList);
 
             EasyCodefServiceType serviceType = codefConfig.getEasyCodefServiceType();
-            String result = easyCodef.createAccount(serviceType, parameterMap);
+            String result = callExecutor.execute("simple-auth-request", organization,
+                    () -> easyCodef.createAccount(serviceType, parameterMap));
 
             log.info("[Codef] Simple auth requested for organization={}, level={}", organization, loginTypeLevel);
             return parseResponse(result);
@@ -131,6 +144,7 @@ public class CodefClient {
      * @return Connected ID를 포함한 응답
      */
     @SuppressWarnings("unchecked")
+    @Override
     public Map<String, Object> confirmSimpleAuth(String organization, Map<String, Object> twoWayInfo) {
         try {
             List<HashMap<String, Object>> accountList = new ArrayList<>();
@@ -160,7 +174,8 @@ public class CodefClient {
             }
 
             EasyCodefServiceType serviceType = codefConfig.getEasyCodefServiceType();
-            String result = easyCodef.createAccount(serviceType, parameterMap);
+            String result = callExecutor.execute("simple-auth-confirm", organization,
+                    () -> easyCodef.createAccount(serviceType, parameterMap));
 
             log.info("[Codef] Simple auth confirmed for organization={}", organization);
             return parseResponse(result);
@@ -178,7 +193,8 @@ public class CodefClient {
      * @param organization 카드사 기관 코드
      * @return 보유카드 목록
      */
-    public Map<String, Object> getCardList(String connectedId, String organization) {
+    @Override
+    public CodefResponse<CodefCard> getCardList(String connectedId, String organization) {
         try {
             HashMap<String, Object> parameterMap = new HashMap<>();
             parameterMap.put("connectedId", connectedId);
@@ -187,10 +203,15 @@ public class CodefClient {
             parameterMap.put("inquiryType", "0");
 
             EasyCodefServiceType serviceType = codefConfig.getEasyCodefServiceType();
-            String result = easyCodef.requestProduct(CARD_LIST_URL, serviceType, parameterMap);
+            CodefResponse<CodefCard> response = callExecutor.executeWithRetry("card-list", organization, () -> {
+                CodefResponse<CodefCard> parsed = responseParser.parseCardList(
+                        easyCodef.requestProduct(CARD_LIST_URL, serviceType, parameterMap));
+                callExecutor.checkTransient(parsed.code(), parsed.message());
+                return parsed;
+            });
 
             log.info("[Codef] Card list retrieved for organization={}", organization);
-            return parseResponse(result);
+            return response;
 
         } catch (Exception e) {
             log.error("[Codef] Failed to get card list: {}", e.getMessage(), e);
@@ -208,7 +229,8 @@ public class CodefClient {
      * @param cardId       카드 식별 번호 (선택)
      * @return 승인내역 목록
      */
-    public Map<String, Object> getApprovalList(String connectedId, String organization,
+    @Override
+    public CodefResponse<CodefApproval> getApprovalList(String connectedId, String organization,
                                                 String startDate, String endDate,
                                                 String cardId) {
         try {
@@ -225,11 +247,16 @@ public class CodefClient {
             }
 
             EasyCodefServiceType serviceType = codefConfig.getEasyCodefServiceType();
-            String result = easyCodef.requestProduct(APPROVAL_LIST_URL, serviceType, parameterMap);
+            CodefResponse<CodefApproval> response = callExecutor.executeWithRetry("approval-list", organization, () -> {
+                CodefResponse<CodefApproval> parsed = responseParser.parseApprovalList(
+                        easyCodef.requestProduct(APPROVAL_LIST_URL, serviceType, parameterMap));
+                callExecutor.checkTransient(parsed.code(), parsed.message());
+                return parsed;
+            });
 
             log.info("[Codef] Approval list retrieved for organization={}, period={}-{}",
                     organization, startDate, endDate);
-            return parseResponse(result);
+            return response;
 
         } catch (Exception e) {
             log.error("[Codef] Failed to get approval list: {}", e.getMessage(), e);
@@ -240,6 +267,7 @@ public class CodefClient {
     /**
      * Codef Connected ID에 추가 계정 등록
      */
+    @Override
     public Map<String, Object> addAccount(String connectedId, String organization,
                                            String loginId, String loginPw) {
         try {
@@ -261,7 +289,8 @@ public class CodefClient {
             parameterMap.put("accountList", accountList);
 
             EasyCodefServiceType serviceType = codefConfig.getEasyCodefServiceType();
-            String result = easyCodef.addAccount(serviceType, parameterMap);
+            String result = callExecutor.execute("add-account", organization,
+                    () -> easyCodef.addAccount(serviceType, parameterMap));
 
             log.info("[Codef] Account added to connectedId for organization={}", organization);
             return parseResponse(result);
@@ -273,7 +302,7 @@ public class CodefClient {
     }
 
     /**
-     * Codef API 응답 문자열을 Map으로 파싱
+     * Codef API 응답 문자열을 Map으로 파싱 (계정 등록 등 응답 구조가 요청마다 다른 API용)
      */
     private Map<String, Object> parseResponse(String result) {
         try {
@@ -0,0 +1,54 @@
+package com.hamkkebu.transactionservice.codef.client;
+
+import com.hamkkebu.transactionservice.codef.dto.CodefApproval;
+import com.hamkkebu.transactionservice.codef.dto.CodefCard;
+import com.hamkkebu.transactionservice.codef.dto.CodefResponse;
+
+import java.util.Map;
+
+/**
+ * Codef API 포트
+ *
+ * <p>카드 연동/동기화 서비스는 이 인터페이스에만 의존합니다.</p>
+ * <ul>
+ *   <li>{@link CodefClient}: 실제 EasyCodef 호출 (codef.service-type = SANDBOX / DEMO / API)</li>
+ *   <li>{@link CodefSimulatorGateway}: 로컬 시뮬레이터 (codef.service-type = SIMULATOR, 부하 테스트용)</li>
+ * </ul>
+ */
+public interface CodefGateway {
+
+    /**
+     * 카드사 계정 등록 (Connected ID 발급) - ID/PW 방식
+     */
+    Map<String, Object> createAccount(String organization, String loginId, String loginPw);
+
+    /**
+     * 카드사 계정 등록 - 간편인증 방식 (1차 요청)
+     */
+    Map<String, Object> createAccountSimpleAuth(String organization, String loginTypeLevel);
+
+    /**
+     * 간편인증 2차 확인 요청
+     */
+    Map<String, Object> confirmSimpleAuth(String organization, Map<String, Object> twoWayInfo);
+
+    /**
+     * Codef Connected ID에 추가 계정 등록
+     */
+    Map<String, Object> addAccount(String connectedId, String organization, String loginId, String loginPw);
+
+    /**
+     * 개인 보유카드 목록 조회
+     */
+    CodefResponse<CodefCard> getCardList(String connectedId, String organization);
+
+    /**
+     * 카드 승인내역 조회 (최신순)
+     *
+     * @param startDate 조회 시작일 (yyyyMMdd)
+     * @param endDate   조회 종료일 (yyyyMMdd)
+     * @param cardId    카드 식별 번호 (선택)
+     */
+    CodefResponse<CodefApproval> getApprovalList(String connectedId, String organization,
+                                                 String startDate, String endDate, String cardId);
+}
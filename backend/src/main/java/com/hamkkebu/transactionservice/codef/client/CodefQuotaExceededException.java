@@ -0,0 +1,13 @@
+package com.hamkkebu.transactionservice.codef.client;
+
+/**
+ * Codef 일일 호출 한도 소진 (DEMO 서비스 타입)
+ *
+ * <p>재시도 대상이 아니며, 다음 날(한도 기준 시간대) 한도가 다시 채워집니다.</p>
+ */
+public class CodefQuotaExceededException extends RuntimeException {
+
+    public CodefQuotaExceededException(String serviceType, int dailyLimit) {
+        super("Codef 일일 호출 한도 소진: " + serviceType + " " + dailyLimit + "회");
+    }
+}
@@ -0,0 +1,203 @@
+package com.hamkkebu.transactionservice.codef.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hamkkebu.transactionservice.codef.dto.CodefApproval;
+import com.hamkkebu.transactionservice.codef.dto.CodefCard;
+import com.hamkkebu.transactionservice.codef.dto.CodefResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Codef 조회 응답 스트리밍 파서
+ *
+ * <p>응답 JSON을 Map 트리로 만들지 않고 {@link JsonParser} 토큰을 읽으면서 바로 타입 있는 레코드로 변환합니다.
+ * 사용하지 않는 필드는 값 객체를 만들지 않고 건너뜁니다.</p>
+ */
+@Component
+public class CodefResponseParser {
+
+    private final JsonFactory jsonFactory;
+
+    public CodefResponseParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * data 항목 하나를 읽는 함수 (호출 시 parser는 항목의 START_OBJECT에 위치)
+     */
+    @FunctionalInterface
+    interface ItemReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * 카드 승인내역 응답 파싱
+     */
+    public CodefResponse<CodefApproval> parseApprovalList(String json) {
+        return parse(json, this::readApproval);
+    }
+
+    /**
+     * 보유카드 목록 응답 파싱
+     */
+    public CodefResponse<CodefCard> parseCardList(String json) {
+        return parse(json, this::readCard);
+    }
+
+    <T> CodefResponse<T> parse(String json, ItemReader<T> itemReader) {
+        String code = null;
+        String message = null;
+        List<T> data = new ArrayList<>();
+
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "result" -> {
+                        expect(value, JsonToken.START_OBJECT);
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String resultField = parser.currentName();
+                            parser.nextToken();
+                            if ("code".equals(resultField)) {
+                                code = parser.getValueAsString();
+                            } else if ("message".equals(resultField)) {
+                                message = parser.getValueAsString();
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                    }
+                    case "data" -> {
+                        if (value == JsonToken.START_ARRAY) {
+                            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                                data.add(itemReader.read(parser));
+                            }
+                        } else if (value == JsonToken.START_OBJECT) {
+                            // 결과가 한 건이면 data가 배열이 아닌 객체로 오는 경우가 있음
+                            T item = itemReader.read(parser);
+                            if (item != null) {
+                                data.add(item);
+                            }
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Codef 응답 파싱 실패", e);
+        }
+
+        return new CodefResponse<>(code, message, data);
+    }
+
+    private CodefApproval readApproval(JsonParser parser) throws IOException {
+        String approvalNo = null;
+        String approvalDate = null;
+        String approvalTime = null;
+        BigDecimal amount = BigDecimal.ZERO;
+        String storeName = null;
+        String storeCategory = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "resApprovalNo" -> approvalNo = parser.getValueAsString();
+                case "resApprovalDate" -> approvalDate = parser.getValueAsString();
+                case "resApprovalTime" -> approvalTime = parser.getValueAsString();
+                case "resApprovalAmount" -> amount = readAmount(parser, value);
+                case "resStoreName" -> storeName = parser.getValueAsString();
+                case "resStoreCategory" -> storeCategory = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        return new CodefApproval(approvalNo, approvalDate, approvalTime, amount, storeName, storeCategory);
+    }
+
+    private CodefCard readCard(JsonParser parser) throws IOException {
+        String cardNo = null;
+        String cardName = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "resCardNo" -> cardNo = parser.getValueAsString();
+                case "resCardName" -> cardName = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        return new CodefCard(cardNo, cardName);
+    }
+
+    /**
+     * 금액 읽기 (문자열 값은 파서 내부 버퍼에서 직접 변환하여 중간 문자열을 만들지 않음)
+     */
+    private BigDecimal readAmount(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT || value == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDecimalValue();
+        }
+        if (value != JsonToken.VALUE_STRING) {
+            parser.skipChildren();
+            return BigDecimal.ZERO;
+        }
+        try {
+            return parseAmount(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        } catch (NumberFormatException e) {
+            return BigDecimal.ZERO;
+        }
+    }
+
+    /**
+     * 금액 문자열 변환 ("12,300", "-5000", "1,234.50원" 등)
+     *
+     * <p>숫자, 부호, 소수점 외의 문자(콤마, 공백, 통화 표기)는 무시합니다. 숫자가 없으면 0을 반환합니다.</p>
+     *
+     * @throws NumberFormatException 18자리를 넘는 금액
+     */
+    static BigDecimal parseAmount(char[] buffer, int offset, int length) {
+        long unscaled = 0;
+        int scale = 0;
+        boolean negative = false;
+        boolean fraction = false;
+        boolean hasDigit = false;
+
+        for (int i = offset, end = offset + length; i < end; i++) {
+            char c = buffer[i];
+            if (c >= '0' && c <= '9') {
+                if (unscaled > (Long.MAX_VALUE - 9) / 10) {
+                    throw new NumberFormatException("Codef 금액 자릿수 초과");
+                }
+                unscaled = unscaled * 10 + (c - '0');
+                hasDigit = true;
+                if (fraction) {
+                    scale++;
+                }
+            } else if (c == '-') {
+                negative = true;
+            } else if (c == '.') {
+                fraction = true;
+            }
+        }
+
+        if (!hasDigit) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+    }
+
+    private void expect(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Unexpected token " + actual + ", expected " + expected);
+        }
+    }
+}
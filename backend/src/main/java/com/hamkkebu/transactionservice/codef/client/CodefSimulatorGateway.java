@@ -0,0 +1,230 @@
+package com.hamkkebu.transactionservice.codef.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hamkkebu.transactionservice.codef.dto.CodefApproval;
+import com.hamkkebu.transactionservice.codef.dto.CodefCard;
+import com.hamkkebu.transactionservice.codef.dto.CodefResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로컬 Codef 시뮬레이터 (codef.service-type = SIMULATOR)
+ *
+ * <p>실제 카드사/Codef를 호출하지 않고 승인내역을 생성합니다. 동기화 처리량 측정과 배치 파이프라인 튜닝용입니다.</p>
+ * <ul>
+ *   <li>승인내역은 (Connected ID, 기관 코드, 카드, 일자)로 시드를 정해 생성하므로 같은 조건이면 항상 같은 결과입니다.
+ *       재동기화 시 같은 승인번호가 반복되어 diff/upsert 경로도 실제와 같이 동작합니다.</li>
+ *   <li>오늘 날짜는 현재 시각 이전 승인만 반환합니다.</li>
+ *   <li>응답은 실제와 같은 JSON으로 만든 뒤 {@link CodefResponseParser}로 파싱합니다.</li>
+ *   <li>호출마다 latency(+ 0~latency-jitter) 만큼 지연하고, error-rate 확률로 일시적 오류 코드를 반환합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "codef.service-type", havingValue = "SIMULATOR")
+public class CodefSimulatorGateway implements CodefGateway {
+
+    private static final DateTimeFormatter CODEF_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter CODEF_TIME_FORMAT = DateTimeFormatter.ofPattern("HHmmss");
+    private static final String ERROR_CODE = "CF-09999";
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private static final String[][] STORES = {
+            {"시뮬레이터 편의점", "편의점"},
+            {"시뮬레이터 카페", "커피전문점"},
+            {"시뮬레이터 마트", "대형마트"},
+            {"시뮬레이터 식당", "일반음식점"},
+            {"시뮬레이터 주유소", "주유소"},
+            {"시뮬레이터 약국", "약국"},
+            {"시뮬레이터 택시", "택시"},
+            {"시뮬레이터 온라인몰", "온라인쇼핑"}
+    };
+
+    private final ObjectMapper objectMapper;
+    private final CodefResponseParser responseParser;
+    private final int approvalsPerDay;
+    private final int cardsPerAccount;
+    private final Duration latency;
+    private final Duration latencyJitter;
+    private final double errorRate;
+
+    public CodefSimulatorGateway(ObjectMapper objectMapper,
+                                 CodefResponseParser responseParser,
+                                 @Value("${codef.simulator.approvals-per-day:20}") int approvalsPerDay,
+                                 @Value("${codef.simulator.cards-per-account:2}") int cardsPerAccount,
+                                 @Value("${codef.simulator.latency:200ms}") Duration latency,
+                                 @Value("${codef.simulator.latency-jitter:300ms}") Duration latencyJitter,
+                                 @Value("${codef.simulator.error-rate:0.0}") double errorRate) {
+        this.objectMapper = objectMapper;
+        this.responseParser = responseParser;
+        this.approvalsPerDay = approvalsPerDay;
+        this.cardsPerAccount = cardsPerAccount;
+        this.latency = latency;
+        this.latencyJitter = latencyJitter;
+        this.errorRate = errorRate;
+
+        log.warn("[Codef] SIMULATOR mode: approvalsPerDay={}, cardsPerAccount={}, latency={}+{}, errorRate={}",
+                approvalsPerDay, cardsPerAccount, latency, latencyJitter, errorRate);
+    }
+
+    @Override
+    public Map<String, Object> createAccount(String organization, String loginId, String loginPw) {
+        simulateLatency();
+        return connectedIdResponse(organization, loginId);
+    }
+
+    @Override
+    public Map<String, Object> createAccountSimpleAuth(String organization, String loginTypeLevel) {
+        simulateLatency();
+        Map<String, Object> twoWayInfo = new LinkedHashMap<>();
+        twoWayInfo.put("jobIndex", 0);
+        twoWayInfo.put("threadIndex", 0);
+        twoWayInfo.put("jti", "simulator-" + organization);
+        twoWayInfo.put("twoWayTimestamp", System.currentTimeMillis());
+        twoWayInfo.put("continue2Way", true);
+        return response("CF-03002", "추가인증 필요 (시뮬레이터)", twoWayInfo);
+    }
+
+    @Override
+    public Map<String, Object> confirmSimpleAuth(String organization, Map<String, Object> twoWayInfo) {
+        simulateLatency();
+        return connectedIdResponse(organization, twoWayInfo != null ? String.valueOf(twoWayInfo.get("jti")) : null);
+    }
+
+    @Override
+    public Map<String, Object> addAccount(String connectedId, String organization, String loginId, String loginPw) {
+        simulateLatency();
+        return response(CodefResponse.SUCCESS_CODE, "정상 (시뮬레이터)", Map.of("connectedId", connectedId));
+    }
+
+    @Override
+    public CodefResponse<CodefCard> getCardList(String connectedId, String organization) {
+        simulateLatency();
+        if (shouldFail()) {
+            return responseParser.parseCardList(toJson(response(ERROR_CODE, "시뮬레이터 오류", List.of())));
+        }
+
+        List<Map<String, Object>> cards = new ArrayList<>(cardsPerAccount);
+        for (int i = 0; i < cardsPerAccount; i++) {
+            int suffix = Math.floorMod(Objects.hash(connectedId, organization, i), 10000);
+            Map<String, Object> card = new LinkedHashMap<>();
+            card.put("resCardNo", String.format("9410-****-****-%04d", suffix));
+            card.put("resCardName", "시뮬레이터 카드 " + (i + 1));
+            cards.add(card);
+        }
+        return responseParser.parseCardList(toJson(response(CodefResponse.SUCCESS_CODE, "정상 (시뮬레이터)", cards)));
+    }
+
+    @Override
+    public CodefResponse<CodefApproval> getApprovalList(String connectedId, String organization,
+                                                        String startDate, String endDate, String cardId) {
+        simulateLatency();
+        if (shouldFail()) {
+            return responseParser.parseApprovalList(toJson(response(ERROR_CODE, "시뮬레이터 오류", List.of())));
+        }
+
+        LocalDate start = LocalDate.parse(startDate, CODEF_DATE_FORMAT);
+        LocalDate end = LocalDate.parse(endDate, CODEF_DATE_FORMAT);
+        LocalDateTime now = LocalDateTime.now();
+
+        // 최신순 (orderBy=0과 동일)
+        List<Map<String, Object>> approvals = new ArrayList<>();
+        for (LocalDate date = end; !date.isBefore(start); date = date.minusDays(1)) {
+            addApprovalsOfDay(approvals, connectedId, organization, cardId, date, now);
+        }
+        return responseParser.parseApprovalList(
+                toJson(response(CodefResponse.SUCCESS_CODE, "정상 (시뮬레이터)", approvals)));
+    }
+
+    /**
+     * 하루치 승인내역 생성 (같은 카드·일자는 항상 같은 승인번호/시각/금액)
+     */
+    private void addApprovalsOfDay(List<Map<String, Object>> approvals, String connectedId, String organization,
+                                   String cardId, LocalDate date, LocalDateTime now) {
+        SplittableRandom random = new SplittableRandom(Objects.hash(connectedId, organization, cardId, date));
+        String dateStr = date.format(CODEF_DATE_FORMAT);
+
+        int[] seconds = new int[approvalsPerDay];
+        for (int i = 0; i < approvalsPerDay; i++) {
+            seconds[i] = random.nextInt(SECONDS_PER_DAY);
+        }
+        Arrays.sort(seconds);
+
+        for (int i = approvalsPerDay - 1; i >= 0; i--) {
+            LocalTime time = LocalTime.ofSecondOfDay(seconds[i]);
+            if (LocalDateTime.of(date, time).isAfter(now)) {
+                continue;
+            }
+            String[] store = STORES[Math.floorMod(Objects.hash(dateStr, i), STORES.length)];
+
+            Map<String, Object> approval = new LinkedHashMap<>();
+            approval.put("resApprovalNo", String.format("S%s%05d", dateStr, i));
+            approval.put("resApprovalDate", dateStr);
+            approval.put("resApprovalTime", time.format(CODEF_TIME_FORMAT));
+            approval.put("resApprovalAmount", String.valueOf((random.nextInt(2000) + 1) * 100));
+            approval.put("resStoreName", store[0]);
+            approval.put("resStoreCategory", store[1]);
+            approvals.add(approval);
+        }
+    }
+
+    private Map<String, Object> connectedIdResponse(String organization, String seed) {
+        String connectedId = "simulator-" + organization + "-" + Math.floorMod(Objects.hashCode(seed), 1_000_000);
+        return response(CodefResponse.SUCCESS_CODE, "정상 (시뮬레이터)", Map.of("connectedId", connectedId));
+    }
+
+    private static Map<String, Object> response(String code, String message, Object data) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("code", code);
+        result.put("message", message);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("result", result);
+        response.put("data", data);
+        return response;
+    }
+
+    private String toJson(Map<String, Object> response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (Exception e) {
+            throw new RuntimeException("시뮬레이터 응답 생성 실패", e);
+        }
+    }
+
+    private boolean shouldFail() {
+        return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+
+    private void simulateLatency() {
+        long millis = latency.toMillis();
+        if (latencyJitter.toMillis() > 0) {
+            millis += ThreadLocalRandom.current().nextLong(latencyJitter.toMillis() + 1);
+        }
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("시뮬레이터 호출 중단", e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.hamkkebu.transactionservice.codef.client;
+
+import lombok.Getter;
+
+/**
+ * 재시도하면 성공할 수 있는 Codef 오류 (일시적 장애 결과 코드)
+ *
+ * <p>{@link CodefCallExecutor}의 재시도 대상이며, 재시도를 모두 소진하면 호출자에게 그대로 전달됩니다.</p>
+ */
+@Getter
+public class CodefTransientException extends RuntimeException {
+
+    private final String code;
+
+    public CodefTransientException(String code, String message) {
+        super("Codef 일시적 오류: " + code + " " + message);
+        this.code = code;
+    }
+}
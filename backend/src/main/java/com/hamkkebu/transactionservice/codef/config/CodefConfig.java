@@ -5,6 +5,7 @@ import io.codef.api.EasyCodefServiceType;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -13,12 +14,22 @@ import org.springframework.context.annotation.Configuration;
  *
  * <p>EasyCodef 객체를 싱글톤 Bean으로 관리합니다.</p>
  * <p>환경변수 또는 application.yml에서 설정값을 주입받습니다.</p>
+ * <p>SIMULATOR 모드에서는 EasyCodef와 실제 호출 경로(CodefClient, CodefCallExecutor)를 만들지 않으므로
+ * Codef 인증 정보/공개키가 필요 없습니다.</p>
  */
 @Slf4j
 @Getter
 @Configuration
 public class CodefConfig {
 
+    /**
+     * 실제 Codef 호출 경로 Bean 등록 조건 (codef.service-type이 SIMULATOR가 아닐 때)
+     */
+    public static final String REAL_CODEF_CONDITION =
+            "!'${codef.service-type:DEMO}'.equalsIgnoreCase('SIMULATOR')";
+
+    private static final String SIMULATOR = "SIMULATOR";
+
     @Value("${codef.client-id:}")
     private String clientId;
 
@@ -35,13 +46,15 @@ public class CodefConfig {
     private String publicKey;
 
     /**
-     * 서비스 타입 (SANDBOX, DEMO, API)
+     * 서비스 타입 (SANDBOX, DEMO, API, SIMULATOR)
      * <p>기본값: DEMO (실제 금융기관 데이터 조회 가능, 일 100회 무료)</p>
+     * <p>SIMULATOR: Codef를 호출하지 않고 로컬 시뮬레이터 사용 (부하 테스트용)</p>
      */
     @Value("${codef.service-type:DEMO}")
     private String serviceType;
 
     @Bean
+    @ConditionalOnExpression(REAL_CODEF_CONDITION)
     public EasyCodef easyCodef() {
         EasyCodef codef = new EasyCodef();
 
@@ -74,11 +87,15 @@ public class CodefConfig {
 
     /**
      * 현재 설정된 서비스 타입 반환
+     *
+     * @throws IllegalStateException SIMULATOR 모드 (EasyCodef 서비스 타입이 없으며 실제 호출 경로도 등록되지 않음)
      */
     public EasyCodefServiceType getEasyCodefServiceType() {
         return switch (serviceType.toUpperCase()) {
             case "API" -> EasyCodefServiceType.API;
             case "SANDBOX" -> EasyCodefServiceType.SANDBOX;
+            case SIMULATOR -> throw new IllegalStateException(
+                    "SIMULATOR 모드에는 EasyCodef 서비스 타입이 없습니다 (codef.service-type=" + serviceType + ")");
             default -> EasyCodefServiceType.DEMO;
         };
     }
@@ -0,0 +1,22 @@
+package com.hamkkebu.transactionservice.codef.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Codef 카드 승인내역 항목
+ *
+ * @param approvalNo    승인번호 (resApprovalNo)
+ * @param approvalDate  승인일자 yyyyMMdd (resApprovalDate)
+ * @param approvalTime  승인시각 HHmmss (resApprovalTime)
+ * @param amount        승인금액 (resApprovalAmount, 콤마 등 제거 후 변환)
+ * @param storeName     가맹점명 (resStoreName)
+ * @param storeCategory 가맹점 업종 (resStoreCategory)
+ */
+public record CodefApproval(
+        String approvalNo,
+        String approvalDate,
+        String approvalTime,
+        BigDecimal amount,
+        String storeName,
+        String storeCategory) {
+}
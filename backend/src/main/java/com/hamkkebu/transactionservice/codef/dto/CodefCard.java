@@ -0,0 +1,10 @@
+package com.hamkkebu.transactionservice.codef.dto;
+
+/**
+ * Codef 보유카드 목록 항목
+ *
+ * @param cardNo   카드번호 (resCardNo, 카드사에 따라 마스킹됨)
+ * @param cardName 카드명 (resCardName)
+ */
+public record CodefCard(String cardNo, String cardName) {
+}
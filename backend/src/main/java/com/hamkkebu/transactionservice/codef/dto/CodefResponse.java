@@ -0,0 +1,19 @@
+package com.hamkkebu.transactionservice.codef.dto;
+
+import java.util.List;
+
+/**
+ * Codef 조회 API 응답 (result + data 목록)
+ *
+ * @param code    결과 코드 (성공: CF-00000)
+ * @param message 결과 메시지
+ * @param data    data 항목 목록 (data가 단일 객체인 응답도 목록으로 변환)
+ */
+public record CodefResponse<T>(String code, String message, List<T> data) {
+
+    public static final String SUCCESS_CODE = "CF-00000";
+
+    public boolean isSuccess() {
+        return SUCCESS_CODE.equals(code);
+    }
+}
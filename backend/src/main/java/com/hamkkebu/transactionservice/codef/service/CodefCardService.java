@@ -1,10 +1,11 @@
 package com.hamkkebu.transactionservice.codef.service;
 
-import com.hamkkebu.transactionservice.codef.client.CodefClient;
+import com.hamkkebu.transactionservice.codef.client.CodefGateway;
 import com.hamkkebu.transactionservice.codef.dto.*;
 import com.hamkkebu.transactionservice.data.entity.LinkedCard;
 import com.hamkkebu.transactionservice.repository.LinkedCardRepository;
 import com.hamkkebu.transactionservice.repository.TransactionRepository;
+import com.hamkkebu.transactionservice.service.TransactionRollupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,9 +26,10 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class CodefCardService {
 
-    private final CodefClient codefClient;
+    private final CodefGateway codefGateway;
     private final LinkedCardRepository linkedCardRepository;
     private final TransactionRepository transactionRepository;
+    private final TransactionRollupService transactionRollupService;
 
     /**
      * 카드사 계정 등록 → Connected ID 발급
@@ -44,13 +46,13 @@ public class CodefCardService {
 
         if ("5".equals(request.getLoginType())) {
             // 간편인증 방식: 1차 요청 (앱 인증 요청 발송)
-            result = codefClient.createAccountSimpleAuth(
+            result = codefGateway.createAccountSimpleAuth(
                     request.getOrganization(),
                     request.getLoginTypeLevel()
             );
         } else {
             // ID/PW 방식
-            result = codefClient.createAccount(
+            result = codefGateway.createAccount(
                     request.getOrganization(),
                     request.getLoginId(),
                     request.getLoginPw()
@@ -79,7 +81,7 @@ public class CodefCardService {
         log.info("[CodefCardService] Confirming simple auth: userId={}, org={}",
                 userId, request.getOrganization());
 
-        Map<String, Object> result = codefClient.confirmSimpleAuth(
+        Map<String, Object> result = codefGateway.confirmSimpleAuth(
                 request.getOrganization(),
                 request.getTwoWayInfo()
         );
@@ -102,7 +104,7 @@ public class CodefCardService {
         log.info("[CodefCardService] Adding card account: userId={}, org={}",
                 userId, request.getOrganization());
 
-        Map<String, Object> result = codefClient.addAccount(
+        Map<String, Object> result = codefGateway.addAccount(
                 connectedId,
                 request.getOrganization(),
                 request.getLoginId(),
@@ -127,16 +129,12 @@ public class CodefCardService {
     public List<CodefCardInfo> getCardList(Long userId, String connectedId, String organization) {
         log.info("[CodefCardService] Getting card list: userId={}, org={}", userId, organization);
 
-        Map<String, Object> result = codefClient.getCardList(connectedId, organization);
-
-        Map<String, Object> resultInfo = extractResult(result);
-        String code = (String) resultInfo.get("code");
-        if (!"CF-00000".equals(code)) {
-            String message = (String) resultInfo.get("message");
-            throw new RuntimeException("보유카드 조회 실패: " + message);
+        CodefResponse<CodefCard> result = codefGateway.getCardList(connectedId, organization);
+        if (!result.isSuccess()) {
+            throw new RuntimeException("보유카드 조회 실패: " + result.message());
         }
 
-        return parseCardList(result, organization);
+        return toCardInfoList(result.data(), organization);
     }
 
     /**
@@ -213,7 +211,8 @@ public class CodefCardService {
         card.delete();
         linkedCardRepository.save(card);
 
-        // 2. 해당 카드의 CODEF 거래 내역 일괄 soft delete
+        // 2. 해당 카드의 CODEF 거래 내역 일괄 soft delete (일별 집계 차감을 먼저 수행)
+        transactionRollupService.applySoftDeleteByLinkedCardId(linkedCardId);
         int deletedCount = transactionRepository.softDeleteByLinkedCardId(linkedCardId);
         log.info("[CodefCardService] Card unlinked: linkedCardId={}, deletedTransactions={}",
                 linkedCardId, deletedCount);
@@ -232,34 +231,22 @@ public class CodefCardService {
     }
 
     /**
-     * Codef 보유카드 응답을 CodefCardInfo 리스트로 변환
+     * Codef 보유카드 목록을 CodefCardInfo 리스트로 변환
      */
-    @SuppressWarnings("unchecked")
-    private List<CodefCardInfo> parseCardList(Map<String, Object> response, String organization) {
-        List<CodefCardInfo> cardInfoList = new ArrayList<>();
-
-        Object data = response.get("data");
-        if (data instanceof List) {
-            List<Map<String, Object>> dataList = (List<Map<String, Object>>) data;
-            for (Map<String, Object> cardData : dataList) {
-                String cardNo = getStringValue(cardData, "resCardNo");
-                String maskedNo = cardNo != null && cardNo.length() >= 4
-                        ? cardNo.substring(cardNo.length() - 4) : "";
-
-                cardInfoList.add(CodefCardInfo.builder()
-                        .cardId(getStringValue(cardData, "resCardNo"))
-                        .cardName(getStringValue(cardData, "resCardName"))
-                        .cardNoMasked(maskedNo)
-                        .organization(organization)
-                        .build());
-            }
+    private List<CodefCardInfo> toCardInfoList(List<CodefCard> cards, String organization) {
+        List<CodefCardInfo> cardInfoList = new ArrayList<>(cards.size());
+        for (CodefCard card : cards) {
+            String cardNo = card.cardNo();
+            String maskedNo = cardNo != null && cardNo.length() >= 4
+                    ? cardNo.substring(cardNo.length() - 4) : "";
+
+            cardInfoList.add(CodefCardInfo.builder()
+                    .cardId(cardNo != null ? cardNo : "")
+                    .cardName(card.cardName() != null ? card.cardName() : "")
+                    .cardNoMasked(maskedNo)
+                    .organization(organization)
+                    .build());
         }
-
         return cardInfoList;
     }
-
-    private String getStringValue(Map<String, Object> map, String key) {
-        Object value = map.get(key);
-        return value != null ? value.toString() : "";
-    }
 }
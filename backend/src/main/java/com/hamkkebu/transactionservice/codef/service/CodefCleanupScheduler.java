@@ -1,65 +1,185 @@
 package com.hamkkebu.transactionservice.codef.service;
 
-import com.hamkkebu.transactionservice.data.entity.LinkedCard;
 import com.hamkkebu.transactionservice.repository.LinkedCardRepository;
-import com.hamkkebu.transactionservice.repository.TransactionRepository;
-import lombok.RequiredArgsConstructor;
+import com.hamkkebu.transactionservice.repository.TransactionJdbcRepository;
+import com.hamkkebu.transactionservice.service.ScheduledJobCoordinator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 카드 연동 해제 후 30일 유예기간 경과 데이터 정리 스케줄러
  *
  * <p>soft delete된 LinkedCard와 해당 거래 내역을 30일 후 실제 삭제합니다.</p>
+ * <p>운영 트래픽에 영향을 주지 않도록 청크 단위로 나누어 삭제합니다.</p>
+ * <ul>
+ *   <li>거래는 {@code DELETE ... LIMIT chunk-size} 한 문장씩 트랜잭션 없이 실행해 문장 단위로 커밋합니다.</li>
+ *   <li>청크 사이에는 pause 만큼 쉬어 복제 지연과 잠금 경합을 줄입니다.</li>
+ *   <li>카드는 거래가 모두 삭제된 뒤에 삭제하므로, 중간에 멈추거나 실패해도 다음 실행에서 이어서 처리합니다.</li>
+ *   <li>최대 실행 시간을 넘기면 중단하고 남은 카드는 다음 실행으로 넘깁니다.</li>
+ *   <li>여러 레플리카 중 리스를 얻은 한 인스턴스에서만 실행합니다.</li>
+ * </ul>
+ * <p>진행 상황은 {@code codef.cleanup.deleted}(table 태그) 카운터, {@code codef.cleanup.chunk} 타이머,
+ * {@code codef.cleanup.last.remaining.cards} 게이지로 노출합니다.</p>
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class CodefCleanupScheduler {
 
+    private static final int RETENTION_DAYS = 30;
+    private static final int CARD_PAGE_SIZE = 100;
+    private static final String LEASE_NAME = "codef-cleanup";
+    private static final Duration LEASE_MARGIN = Duration.ofMinutes(10);
+
     private final LinkedCardRepository linkedCardRepository;
-    private final TransactionRepository transactionRepository;
+    private final TransactionJdbcRepository transactionJdbcRepository;
+    private final ScheduledJobCoordinator scheduledJobCoordinator;
+    private final Counter deletedTransactions;
+    private final Counter deletedCards;
+    private final Timer chunkTimer;
+    private final AtomicLong lastRemainingCards = new AtomicLong();
 
-    private static final int RETENTION_DAYS = 30;
+    @Value("${codef.cleanup.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${codef.cleanup.pause:200ms}")
+    private Duration pause;
+
+    @Value("${codef.cleanup.max-duration:1h}")
+    private Duration maxDuration;
+
+    public CodefCleanupScheduler(LinkedCardRepository linkedCardRepository,
+                                 TransactionJdbcRepository transactionJdbcRepository,
+                                 ScheduledJobCoordinator scheduledJobCoordinator,
+                                 MeterRegistry meterRegistry) {
+        this.linkedCardRepository = linkedCardRepository;
+        this.transactionJdbcRepository = transactionJdbcRepository;
+        this.scheduledJobCoordinator = scheduledJobCoordinator;
+        this.deletedTransactions = Counter.builder("codef.cleanup.deleted")
+                .tag("table", "tbl_transactions")
+                .description("정리 작업으로 삭제된 행 수")
+                .register(meterRegistry);
+        this.deletedCards = Counter.builder("codef.cleanup.deleted")
+                .tag("table", "tbl_linked_cards")
+                .description("정리 작업으로 삭제된 행 수")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("codef.cleanup.chunk")
+                .description("거래 삭제 청크 실행 시간")
+                .register(meterRegistry);
+        meterRegistry.gauge("codef.cleanup.last.remaining.cards", lastRemainingCards);
+    }
 
     /**
-     * 매일 새벽 3시에 실행
+     * 매일 새벽 3시에 실행 (기본값)
      * <p>삭제된 지 30일 지난 연동 카드와 거래 내역을 실제 삭제합니다.</p>
      */
-    @Scheduled(cron = "0 0 3 * * *")
-    @Transactional
+    @Scheduled(cron = "${codef.cleanup.cron:0 0 3 * * *}")
     public void cleanupExpiredCards() {
+        // 여러 레플리카 중 리스를 얻은 한 인스턴스만 실행 (최대 실행 시간 + 여유만큼 리스 유지)
+        scheduledJobCoordinator.runExclusively(LEASE_NAME, maxDuration.plus(LEASE_MARGIN), this::purgeExpiredCards);
+    }
+
+    private void purgeExpiredCards() {
         LocalDateTime cutoffDate = LocalDateTime.now().minusDays(RETENTION_DAYS);
-        log.info("[CodefCleanup] Starting cleanup for cards deleted before {}", cutoffDate);
+        log.info("[CodefCleanup] Starting cleanup for cards deleted before {}: chunkSize={}, pause={}",
+                cutoffDate, chunkSize, pause);
 
-        List<LinkedCard> expiredCards = linkedCardRepository
-                .findByIsDeletedTrueAndDeletedAtBefore(cutoffDate);
+        CleanupRun run = new CleanupRun(System.nanoTime() + maxDuration.toNanos());
+        try {
+            List<Long> cardIds = nextCardIds(cutoffDate, run.lastCardId);
+            while (!cardIds.isEmpty() && !run.isExpired()) {
+                for (Long linkedCardId : cardIds) {
+                    if (run.isExpired() || !purgeTransactions(linkedCardId, run)) {
+                        break;
+                    }
+
+                    // 연동 카드 hard delete (거래가 모두 삭제된 뒤)
+                    linkedCardRepository.deleteById(linkedCardId);
+                    deletedCards.increment();
+                    run.cardCount++;
+                    run.lastCardId = linkedCardId;
+                }
+                cardIds = nextCardIds(cutoffDate, run.lastCardId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[CodefCleanup] Cleanup interrupted: cards={}, transactions={}",
+                    run.cardCount, run.transactionCount);
+            return;
+        }
 
-        if (expiredCards.isEmpty()) {
-            log.info("[CodefCleanup] No expired cards to clean up");
+        if (run.isExpired()) {
+            int remaining = nextCardIds(cutoffDate, run.lastCardId).size();
+            lastRemainingCards.set(remaining);
+            log.warn("[CodefCleanup] Max duration {} exceeded, resuming next run: cards={}, transactions={}, " +
+                    "remaining>={}", maxDuration, run.cardCount, run.transactionCount, remaining);
             return;
         }
 
-        int totalTransactionsDeleted = 0;
+        lastRemainingCards.set(0);
+        log.info("[CodefCleanup] Cleanup completed: cards={}, transactions={}", run.cardCount, run.transactionCount);
+    }
+
+    private List<Long> nextCardIds(LocalDateTime cutoffDate, long afterId) {
+        return linkedCardRepository.findExpiredIdsAfter(cutoffDate, afterId, PageRequest.of(0, CARD_PAGE_SIZE));
+    }
+
+    /**
+     * 카드의 soft delete된 거래를 청크 단위로 삭제
+     *
+     * @return 모두 삭제했으면 true, 최대 실행 시간을 넘겨 중단했으면 false
+     */
+    private boolean purgeTransactions(Long linkedCardId, CleanupRun run) throws InterruptedException {
+        long cardTotal = 0;
+        while (true) {
+            long start = System.nanoTime();
+            int deleted = transactionJdbcRepository.deleteSoftDeletedByLinkedCardId(linkedCardId, chunkSize);
+            chunkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            deletedTransactions.increment(deleted);
+            run.transactionCount += deleted;
+            cardTotal += deleted;
 
-        for (LinkedCard card : expiredCards) {
-            // 해당 카드의 거래 내역 hard delete
-            int deletedTx = transactionRepository.hardDeleteByLinkedCardId(card.getLinkedCardId());
-            totalTransactionsDeleted += deletedTx;
+            if (deleted < chunkSize) {
+                log.info("[CodefCleanup] Deleted card transactions: linkedCardId={}, transactions={}",
+                        linkedCardId, cardTotal);
+                return true;
+            }
+            if (run.isExpired()) {
+                log.info("[CodefCleanup] Paused card cleanup: linkedCardId={}, transactions={}",
+                        linkedCardId, cardTotal);
+                return false;
+            }
+            Thread.sleep(pause.toMillis());
+        }
+    }
+
+    /**
+     * 한 번의 정리 실행 상태 (진행 건수, 마지막으로 삭제한 카드 ID, 종료 시각)
+     */
+    private static final class CleanupRun {
 
-            // 연동 카드 hard delete
-            linkedCardRepository.delete(card);
+        private final long deadlineNanos;
+        private long cardCount;
+        private long transactionCount;
+        private long lastCardId;
 
-            log.info("[CodefCleanup] Deleted card: linkedCardId={}, transactions={}",
-                    card.getLinkedCardId(), deletedTx);
+        private CleanupRun(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
         }
 
-        log.info("[CodefCleanup] Cleanup completed: cards={}, transactions={}",
-                expiredCards.size(), totalTransactionsDeleted);
+        private boolean isExpired() {
+            return System.nanoTime() - deadlineNanos > 0;
+        }
     }
 }
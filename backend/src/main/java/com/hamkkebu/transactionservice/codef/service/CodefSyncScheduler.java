@@ -0,0 +1,151 @@
+package com.hamkkebu.transactionservice.codef.service;
+
+import com.hamkkebu.transactionservice.codef.dto.SyncResult;
+import com.hamkkebu.transactionservice.config.VirtualThreads;
+import com.hamkkebu.transactionservice.data.entity.LinkedCard;
+import com.hamkkebu.transactionservice.repository.LinkedCardRepository;
+import com.hamkkebu.transactionservice.service.ScheduledJobCoordinator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전체 연동 카드 승인내역 백그라운드 동기화 스케줄러
+ *
+ * <p>활성 연동 카드를 카드사(organization)별 대기열로 나누고, 카드사마다 설정된 수만큼의 작업자(lane)만
+ * 동시에 Codef를 호출하도록 제한합니다. 전체 동시 실행 수는 고정 크기 스레드 풀로 제한합니다.
+ * 가상 스레드 모드(spring.threads.virtual.enabled)에서는 lane이 Codef 응답을 기다리는 동안
+ * 플랫폼 스레드를 점유하지 않도록 풀의 작업자를 가상 스레드로 만듭니다.</p>
+ * <p>각 카드는 실행당 한 번만 동기화되며, 마지막 동기화가 오래된 카드부터 처리합니다.
+ * 최대 실행 시간을 넘기면 남은 카드는 다음 실행으로 넘깁니다.</p>
+ * <p>레플리카가 여러 개이면 살아있는 인스턴스 수로 linkedCardId 해시를 나누어 각자 자기 몫만 동기화합니다.
+ * 동기화는 upsert 기반이라 인스턴스 수가 바뀌는 순간 같은 카드가 두 번 처리되어도 안전합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CodefSyncScheduler {
+
+    private final LinkedCardRepository linkedCardRepository;
+    private final CodefSyncService codefSyncService;
+    private final ScheduledJobCoordinator scheduledJobCoordinator;
+
+    @Value("${codef.sync.enabled:true}")
+    private boolean enabled;
+
+    @Value("${codef.sync.parallelism:8}")
+    private int parallelism;
+
+    @Value("${codef.sync.per-organization-concurrency:2}")
+    private int perOrganizationConcurrency;
+
+    @Value("${codef.sync.max-duration:5h}")
+    private Duration maxDuration;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * 매일 새벽 1시에 실행 (기본값)
+     */
+    @Scheduled(cron = "${codef.sync.cron:0 0 1 * * *}")
+    public void syncAllCards() {
+        if (!enabled) {
+            return;
+        }
+
+        // 레플리카 간 분담: linkedCardId 해시가 이 인스턴스 샤드에 속하는 카드만 동기화
+        ScheduledJobCoordinator.Shard shard = scheduledJobCoordinator.currentShard();
+        List<LinkedCard> cards = linkedCardRepository.findAllActiveForSync().stream()
+                .filter(card -> shard.owns(card.getLinkedCardId()))
+                .toList();
+        if (cards.isEmpty()) {
+            log.info("[CodefSyncScheduler] No linked cards to sync: shard={}/{}", shard.index(), shard.count());
+            return;
+        }
+
+        // 카드사별 대기열 (조회 순서 = 마지막 동기화가 오래된 순서 유지)
+        Map<String, Queue<LinkedCard>> queuesByOrganization = new LinkedHashMap<>();
+        for (LinkedCard card : cards) {
+            queuesByOrganization.computeIfAbsent(card.getOrganization(), org -> new ConcurrentLinkedQueue<>())
+                    .add(card);
+        }
+
+        log.info("[CodefSyncScheduler] Starting sync: shard={}/{}, cards={}, organizations={}, parallelism={}, " +
+                        "perOrganization={}", shard.index(), shard.count(), cards.size(), queuesByOrganization.size(),
+                parallelism, perOrganizationConcurrency);
+
+        long deadline = System.nanoTime() + maxDuration.toNanos();
+        SyncStats stats = new SyncStats();
+        // 가상 스레드 모드에서도 고정 크기 풀로 전체 동시 실행 수(parallelism)는 그대로 제한
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+                VirtualThreads.threadFactory("codef-sync-", virtualThreads));
+        try {
+            // 카드사별 lane을 번갈아 제출하여 한 카드사가 풀을 독점하지 않도록 함
+            List<Runnable> lanes = new ArrayList<>();
+            for (int lane = 0; lane < perOrganizationConcurrency; lane++) {
+                for (Queue<LinkedCard> queue : queuesByOrganization.values()) {
+                    if (queue.size() > lane) {
+                        lanes.add(() -> drain(queue, deadline, stats));
+                    }
+                }
+            }
+            lanes.forEach(executor::execute);
+
+            executor.shutdown();
+            if (!executor.awaitTermination(maxDuration.toMillis() + TimeUnit.MINUTES.toMillis(1),
+                    TimeUnit.MILLISECONDS)) {
+                log.warn("[CodefSyncScheduler] Sync lanes did not finish in time, interrupting");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        int remaining = queuesByOrganization.values().stream().mapToInt(Queue::size).sum();
+        log.info("[CodefSyncScheduler] Sync finished: succeeded={}, failed={}, deferred={}, inserted={}, updated={}",
+                stats.succeeded.get(), stats.failed.get(), remaining, stats.inserted.get(), stats.updated.get());
+    }
+
+    /**
+     * 카드사 대기열에서 카드를 하나씩 꺼내 동기화 (다른 lane과 대기열 공유)
+     */
+    private void drain(Queue<LinkedCard> queue, long deadline, SyncStats stats) {
+        LinkedCard card;
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()
+                && (card = queue.poll()) != null) {
+            try {
+                SyncResult result = codefSyncService.syncCard(card);
+                stats.succeeded.incrementAndGet();
+                stats.inserted.addAndGet(result.getInsertedCount());
+                stats.updated.addAndGet(result.getUpdatedCount());
+            } catch (Exception e) {
+                stats.failed.incrementAndGet();
+                log.warn("[CodefSyncScheduler] Failed to sync card: linkedCardId={}, organization={}, error={}",
+                        card.getLinkedCardId(), card.getOrganization(), e.getMessage());
+            }
+        }
+    }
+
+    private static final class SyncStats {
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger inserted = new AtomicInteger();
+        private final AtomicInteger updated = new AtomicInteger();
+    }
+}
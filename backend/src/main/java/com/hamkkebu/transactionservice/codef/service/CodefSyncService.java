@@ -1,73 +1,117 @@
 package com.hamkkebu.transactionservice.codef.service;
 
-import com.hamkkebu.transactionservice.codef.client.CodefClient;
+import com.hamkkebu.transactionservice.codef.client.CodefGateway;
+import com.hamkkebu.transactionservice.codef.dto.CodefApproval;
+import com.hamkkebu.transactionservice.codef.dto.CodefResponse;
 import com.hamkkebu.transactionservice.codef.dto.SyncResult;
 import com.hamkkebu.transactionservice.data.entity.LinkedCard;
 import com.hamkkebu.transactionservice.data.entity.Transaction;
 import com.hamkkebu.transactionservice.data.entity.enums.TransactionSourceType;
 import com.hamkkebu.transactionservice.data.entity.enums.TransactionType;
 import com.hamkkebu.transactionservice.repository.LinkedCardRepository;
+import com.hamkkebu.transactionservice.repository.TransactionJdbcRepository;
 import com.hamkkebu.transactionservice.repository.TransactionRepository;
+import com.hamkkebu.transactionservice.service.TransactionRollupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Codef 승인내역 동기화 서비스
  *
  * <p>Codef에서 카드 승인내역을 가져와 Transaction으로 변환/저장합니다.</p>
- * <p>externalApprovalNo 기준으로 중복 체크 및 업데이트를 수행합니다.</p>
+ * <p>externalApprovalNo 기준으로 중복 체크 및 업데이트를 수행합니다.
+ * 기존 거래는 일괄 조회 후 메모리에서 비교하고, 쓰기는 유니크 키 기반 JDBC 배치 upsert로 수행합니다.</p>
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CodefSyncService {
 
-    private final CodefClient codefClient;
+    private final CodefGateway codefGateway;
     private final LinkedCardRepository linkedCardRepository;
     private final TransactionRepository transactionRepository;
+    private final TransactionJdbcRepository transactionJdbcRepository;
+    private final TransactionRollupService transactionRollupService;
+    private final TransactionTemplate transactionTemplate;
 
     private static final DateTimeFormatter CODEF_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
-    private static final int DEFAULT_SYNC_DAYS = 30;
+    private static final DateTimeFormatter CODEF_TIME_FORMAT = DateTimeFormatter.ofPattern("HHmmss");
+    private static final int APPROVAL_LOOKUP_CHUNK_SIZE = 500;
 
     /**
-     * 특정 연동 카드의 승인내역 동기화
+     * 첫 동기화 시 가져올 기간 (일)
+     */
+    @Value("${codef.sync.initial-days:30}")
+    private int initialSyncDays;
+
+    /**
+     * 동기화 커서 이전으로 다시 확인할 기간 (늦게 반영되는 승인/금액 변경 대비)
+     */
+    @Value("${codef.sync.overlap:1d}")
+    private Duration overlap;
+
+    /**
+     * 특정 연동 카드의 승인내역 동기화 (사용자 요청)
      *
      * @param userId       사용자 ID
      * @param linkedCardId 연동 카드 ID
      * @return 동기화 결과 (추가/업데이트/건너뛰기 건수)
      */
-    @Transactional
     public SyncResult syncCard(Long userId, Long linkedCardId) {
         LinkedCard card = linkedCardRepository
                 .findByLinkedCardIdAndUserIdAndIsDeletedFalse(linkedCardId, userId)
                 .orElseThrow(() -> new RuntimeException("연동 카드를 찾을 수 없습니다."));
+        return syncCard(card);
+    }
+
+    /**
+     * 연동 카드의 승인내역 동기화
+     *
+     * <p>Codef 승인내역 조회(원격 HTTP 호출)는 DB 트랜잭션 밖에서 수행하고,
+     * 조회 결과 반영과 동기화 커서 갱신만 짧은 트랜잭션으로 묶습니다.
+     * 조회 중 연동 해제된 카드는 반영하지 않습니다.</p>
+     * <p>카드별 커서(마지막으로 처리한 승인 시각 + 승인번호)에서 overlap만큼 이전부터 조회하고,
+     * 그보다 이전 승인은 DB 비교 없이 건너뜁니다.</p>
+     *
+     * @param card 동기화할 연동 카드 (조회 시점 스냅샷)
+     * @return 동기화 결과 (추가/업데이트/건너뛰기 건수)
+     */
+    public SyncResult syncCard(LinkedCard card) {
+        Long linkedCardId = card.getLinkedCardId();
 
-        // 동기화 기간 설정: 마지막 동기화일 또는 기본 30일 전부터
+        // 동기화 기간 설정: 커서(마지막으로 처리한 승인 시각) - overlap 부터, 첫 동기화는 initial-days 전부터
+        SyncCursor cursor = SyncCursor.of(card);
+        SyncCursor cutoff = cursor != null ? cursor.minus(overlap) : null;
         LocalDate endDate = LocalDate.now();
-        LocalDate startDate;
-        if (card.getLastSyncedDate() != null && !card.getLastSyncedDate().isEmpty()) {
-            startDate = LocalDate.parse(card.getLastSyncedDate(), CODEF_DATE_FORMAT);
-        } else {
-            startDate = endDate.minusDays(DEFAULT_SYNC_DAYS);
-        }
+        LocalDate startDate = cutoff != null ? cutoff.approvedAt().toLocalDate() : endDate.minusDays(initialSyncDays);
 
         String startDateStr = startDate.format(CODEF_DATE_FORMAT);
         String endDateStr = endDate.format(CODEF_DATE_FORMAT);
+        String period = startDateStr + " ~ " + endDateStr;
 
-        log.info("[CodefSyncService] Syncing card: linkedCardId={}, period={}-{}",
-                linkedCardId, startDateStr, endDateStr);
+        log.info("[CodefSyncService] Syncing card: linkedCardId={}, period={}-{}, cutoff={}",
+                linkedCardId, startDateStr, endDateStr, cutoff);
 
-        // Codef 승인내역 조회
-        Map<String, Object> response = codefClient.getApprovalList(
+        // Codef 승인내역 조회 (트랜잭션 밖)
+        CodefResponse<CodefApproval> response = codefGateway.getApprovalList(
                 card.getConnectedId(),
                 card.getOrganization(),
                 startDateStr,
@@ -76,19 +120,36 @@ public class CodefSyncService {
         );
 
         // 응답 검증
-        Map<String, Object> resultInfo = extractResult(response);
-        String code = (String) resultInfo.get("code");
-        if (!"CF-00000".equals(code)) {
-            String message = (String) resultInfo.get("message");
-            throw new RuntimeException("승인내역 조회 실패: " + message);
+        if (!response.isSuccess()) {
+            throw new RuntimeException("승인내역 조회 실패: " + response.message());
         }
 
-        // 승인내역을 거래로 변환/저장
-        SyncResult syncResult = processApprovalList(response, card);
+        // 승인내역을 거래로 변환/저장 + 마지막 동기화 일자 갱신 (트랜잭션)
+        SyncResult syncResult = transactionTemplate.execute(status -> {
+            LinkedCard current = linkedCardRepository.findByLinkedCardIdAndIsDeletedFalse(linkedCardId)
+                    .orElse(null);
+            if (current == null) {
+                log.info("[CodefSyncService] Card unlinked during sync, discarding result: linkedCardId={}",
+                        linkedCardId);
+                return SyncResult.builder()
+                        .insertedCount(0).updatedCount(0).skippedCount(0)
+                        .syncPeriod(period)
+                        .build();
+            }
+
+            SyncResult result = processApprovalList(response.data(), current, cutoff, period);
 
-        // 마지막 동기화 일자 갱신
-        card.setLastSyncedDate(endDateStr);
-        linkedCardRepository.save(card);
+            // 커서는 이번 응답의 가장 늦은 승인까지 전진 (뒤로 가지 않음)
+            SyncCursor latest = SyncCursor.latest(SyncCursor.of(current), latestApproval(response.data()));
+            if (latest != null) {
+                current.setSyncCursorApprovedAt(latest.approvedAt());
+                current.setSyncCursorApprovalNo(latest.approvalNo());
+            }
+            current.setLastSyncedAt(LocalDateTime.now());
+            current.setLastSyncedDate(endDateStr);
+            linkedCardRepository.save(current);
+            return result;
+        });
 
         log.info("[CodefSyncService] Sync completed: linkedCardId={}, inserted={}, updated={}, skipped={}",
                 linkedCardId, syncResult.getInsertedCount(),
@@ -99,80 +160,64 @@ public class CodefSyncService {
 
     /**
      * 승인내역 응답을 파싱하여 Transaction으로 변환/저장
+     *
+     * <p>기존 거래를 승인번호 IN 쿼리로 한 번에 조회해 메모리에서 비교한 뒤,
+     * 신규/변경 건을 (연동 카드, 승인번호) 유니크 키 기반 JDBC 배치 upsert로 기록하고
+     * 영향받은 거래일의 일별 집계를 재계산합니다. 같은 카드를 동시에 동기화하거나 재시도해도 안전합니다.</p>
      */
-    @SuppressWarnings("unchecked")
-    private SyncResult processApprovalList(Map<String, Object> response, LinkedCard card) {
-        int inserted = 0;
-        int updated = 0;
+    private SyncResult processApprovalList(List<CodefApproval> approvalList, LinkedCard card,
+                                           SyncCursor cutoff, String period) {
         int skipped = 0;
 
-        Object data = response.get("data");
-        if (!(data instanceof List)) {
-            return SyncResult.builder()
-                    .insertedCount(0).updatedCount(0).skippedCount(0)
-                    .syncPeriod(card.getLastSyncedDate() + " ~ " + LocalDate.now().format(CODEF_DATE_FORMAT))
-                    .build();
+        // 1. 승인번호별 거래로 변환 (같은 응답 안의 중복 승인번호는 마지막 항목 사용)
+        //    커서 - overlap 이전 승인은 이미 처리된 것으로 보고 건너뜀
+        Map<String, Transaction> approvals = new LinkedHashMap<>();
+        for (CodefApproval approval : approvalList) {
+            String approvalNo = approval.approvalNo();
+            if (approvalNo == null || approvalNo.isEmpty()) {
+                skipped++;
+                continue;
+            }
+            if (cutoff != null && SyncCursor.of(approval).compareTo(cutoff) <= 0) {
+                skipped++;
+                continue;
+            }
+            if (approvals.put(approvalNo, toTransaction(approval, card)) != null) {
+                skipped++;
+            }
         }
 
-        List<Map<String, Object>> approvalList = (List<Map<String, Object>>) data;
-
-        for (Map<String, Object> approval : approvalList) {
-            try {
-                String approvalNo = getStringValue(approval, "resApprovalNo");
-                if (approvalNo == null || approvalNo.isEmpty()) {
-                    skipped++;
-                    continue;
-                }
-
-                // 기존 거래 확인 (승인번호 기준 매칭)
-                Optional<Transaction> existingOpt = transactionRepository
-                        .findByExternalApprovalNoAndLinkedCardIdAndIsDeletedFalse(
-                                approvalNo, card.getLinkedCardId());
-
-                BigDecimal amount = parseAmount(getStringValue(approval, "resApprovalAmount"));
-                String storeName = getStringValue(approval, "resStoreName");
-                String approvalDate = getStringValue(approval, "resApprovalDate");
-                String storeCategory = getStringValue(approval, "resStoreCategory");
-
-                if (existingOpt.isPresent()) {
-                    // 기존 거래 업데이트 (금액 변경 등)
-                    Transaction existing = existingOpt.get();
-                    if (!existing.getAmount().equals(amount)) {
-                        existing.setAmount(amount);
-                        existing.setDescription(storeName);
-                        existing.setCategory(storeCategory);
-                        transactionRepository.save(existing);
-                        updated++;
-                    } else {
-                        skipped++;
-                    }
-                } else {
-                    // 신규 거래 추가
-                    Transaction transaction = Transaction.builder()
-                            .ledgerId(card.getLedgerId())
-                            .userId(card.getUserId())
-                            .type(TransactionType.EXPENSE) // 카드 승인내역은 기본 지출
-                            .amount(amount)
-                            .description(storeName)
-                            .category(storeCategory != null && !storeCategory.isEmpty()
-                                    ? storeCategory : "카드결제")
-                            .transactionDate(parseDate(approvalDate))
-                            .memo("Codef 자동 연동")
-                            .sourceType(TransactionSourceType.CODEF)
-                            .externalApprovalNo(approvalNo)
-                            .linkedCardId(card.getLinkedCardId())
-                            .build();
-
-                    transactionRepository.save(transaction);
-                    inserted++;
-                }
-            } catch (Exception e) {
-                log.warn("[CodefSyncService] Failed to process approval item: {}", e.getMessage());
+        // 2. 기존 거래 일괄 조회 후 메모리 diff (변경 없는 승인내역은 쓰기 대상에서 제외)
+        Map<String, Transaction> existingByApprovalNo = findExistingApprovals(card.getLinkedCardId(), approvals.keySet());
+
+        List<Transaction> upserts = new ArrayList<>();
+        Map<Long, Set<LocalDate>> touchedDatesByLedger = new HashMap<>();
+        int inserted = 0;
+        int updated = 0;
+
+        for (Transaction approval : approvals.values()) {
+            Transaction existing = existingByApprovalNo.get(approval.getExternalApprovalNo());
+            if (existing == null) {
+                upserts.add(approval);
+                touchedDatesByLedger.computeIfAbsent(approval.getLedgerId(), id -> new TreeSet<>())
+                        .add(approval.getTransactionDate());
+                inserted++;
+            } else if (existing.getAmount().compareTo(approval.getAmount()) != 0) {
+                // 기존 거래 업데이트 (금액 변경 등) - 거래일/유형/가계부는 기존 값 유지
+                upserts.add(approval);
+                touchedDatesByLedger.computeIfAbsent(existing.getLedgerId(), id -> new TreeSet<>())
+                        .add(existing.getTransactionDate());
+                updated++;
+            } else {
                 skipped++;
             }
         }
 
-        String period = card.getLastSyncedDate() + " ~ " + LocalDate.now().format(CODEF_DATE_FORMAT);
+        // 3. 유니크 키 기반 JDBC 배치 upsert (동시 동기화가 먼저 넣은 행은 update로 처리됨)
+        //    후 영향받은 거래일의 일별 집계를 원본으로부터 재계산
+        transactionJdbcRepository.batchUpsertApprovals(upserts);
+        touchedDatesByLedger.forEach(transactionRollupService::refreshDates);
+
         return SyncResult.builder()
                 .insertedCount(inserted)
                 .updatedCount(updated)
@@ -182,37 +227,118 @@ public class CodefSyncService {
     }
 
     /**
-     * Codef 응답에서 result 객체 추출
+     * 승인내역 항목을 신규 거래로 변환
      */
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> extractResult(Map<String, Object> response) {
-        Object result = response.get("result");
-        if (result instanceof Map) {
-            return (Map<String, Object>) result;
+    private Transaction toTransaction(CodefApproval approval, LinkedCard card) {
+        String storeCategory = approval.storeCategory();
+        return Transaction.builder()
+                .ledgerId(card.getLedgerId())
+                .userId(card.getUserId())
+                .type(TransactionType.EXPENSE) // 카드 승인내역은 기본 지출
+                .amount(approval.amount())
+                .description(approval.storeName())
+                .category(storeCategory != null && !storeCategory.isEmpty()
+                        ? storeCategory : "카드결제")
+                .transactionDate(parseDate(approval.approvalDate()))
+                .memo("Codef 자동 연동")
+                .sourceType(TransactionSourceType.CODEF)
+                .externalApprovalNo(approval.approvalNo())
+                .linkedCardId(card.getLinkedCardId())
+                .build();
+    }
+
+    /**
+     * 승인번호 목록에 해당하는 기존 거래를 IN 쿼리로 조회 (IN 목록 크기 제한을 위해 분할)
+     */
+    private Map<String, Transaction> findExistingApprovals(Long linkedCardId, Collection<String> approvalNos) {
+        Map<String, Transaction> existing = new HashMap<>();
+        List<String> approvalNoList = new ArrayList<>(approvalNos);
+        for (int from = 0; from < approvalNoList.size(); from += APPROVAL_LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = approvalNoList.subList(from,
+                    Math.min(from + APPROVAL_LOOKUP_CHUNK_SIZE, approvalNoList.size()));
+            for (Transaction transaction : transactionRepository
+                    .findByLinkedCardIdAndExternalApprovalNoInAndIsDeletedFalse(linkedCardId, chunk)) {
+                existing.put(transaction.getExternalApprovalNo(), transaction);
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * 응답에서 가장 늦은 승인 (승인번호 없는 항목 제외)
+     */
+    private SyncCursor latestApproval(List<CodefApproval> approvalList) {
+        SyncCursor latest = null;
+        for (CodefApproval approval : approvalList) {
+            if (approval.approvalNo() != null && !approval.approvalNo().isEmpty()) {
+                latest = SyncCursor.latest(latest, SyncCursor.of(approval));
+            }
         }
-        throw new RuntimeException("Codef 응답에서 result를 찾을 수 없습니다.");
+        return latest;
     }
 
     /**
-     * 문자열 금액을 BigDecimal로 변환
+     * 동기화 커서 (승인 시각, 승인번호) - 같은 시각의 승인은 승인번호 순으로 정렬
      */
-    private BigDecimal parseAmount(String amountStr) {
-        if (amountStr == null || amountStr.isEmpty()) {
-            return BigDecimal.ZERO;
+    private record SyncCursor(LocalDateTime approvedAt, String approvalNo) implements Comparable<SyncCursor> {
+
+        private static final Comparator<SyncCursor> ORDER = Comparator
+                .comparing(SyncCursor::approvedAt)
+                .thenComparing(SyncCursor::approvalNo, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+        static SyncCursor of(LinkedCard card) {
+            return card.getSyncCursorApprovedAt() != null
+                    ? new SyncCursor(card.getSyncCursorApprovedAt(), card.getSyncCursorApprovalNo())
+                    : null;
+        }
+
+        /**
+         * 승인 시각이 없는 항목은 승인일 0시로 취급 (overlap 기간 안에서 다시 비교됨)
+         */
+        static SyncCursor of(CodefApproval approval) {
+            return new SyncCursor(
+                    LocalDateTime.of(parseDate(approval.approvalDate()), parseTime(approval.approvalTime())),
+                    approval.approvalNo());
+        }
+
+        static SyncCursor latest(SyncCursor a, SyncCursor b) {
+            if (a == null) {
+                return b;
+            }
+            if (b == null) {
+                return a;
+            }
+            return a.compareTo(b) >= 0 ? a : b;
+        }
+
+        SyncCursor minus(Duration duration) {
+            return new SyncCursor(approvedAt.minus(duration), approvalNo);
+        }
+
+        @Override
+        public int compareTo(SyncCursor other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /**
+     * Codef 시각 문자열(HHmmss)을 LocalTime으로 변환 (없거나 형식이 다르면 0시)
+     */
+    private static LocalTime parseTime(String timeStr) {
+        if (timeStr == null || timeStr.isEmpty()) {
+            return LocalTime.MIDNIGHT;
         }
-        // 콤마 제거 후 변환
-        String cleaned = amountStr.replaceAll("[^0-9.-]", "");
         try {
-            return new BigDecimal(cleaned);
-        } catch (NumberFormatException e) {
-            return BigDecimal.ZERO;
+            return LocalTime.parse(timeStr, CODEF_TIME_FORMAT);
+        } catch (Exception e) {
+            return LocalTime.MIDNIGHT;
         }
     }
 
     /**
      * Codef 날짜 문자열(yyyyMMdd)을 LocalDate로 변환
      */
-    private LocalDate parseDate(String dateStr) {
+    private static LocalDate parseDate(String dateStr) {
         if (dateStr == null || dateStr.isEmpty()) {
             return LocalDate.now();
         }
@@ -222,9 +348,4 @@ public class CodefSyncService {
             return LocalDate.now();
         }
     }
-
-    private String getStringValue(Map<String, Object> map, String key) {
-        Object value = map.get(key);
-        return value != null ? value.toString() : "";
-    }
 }
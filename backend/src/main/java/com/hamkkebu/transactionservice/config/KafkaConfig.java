@@ -2,16 +2,29 @@ package com.hamkkebu.transactionservice.config;
 
 import com.hamkkebu.boilerplate.common.user.config.AbstractUserEventKafkaConfig;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.util.backoff.BackOff;
+import org.springframework.util.backoff.ExponentialBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 
 /**
  * Transaction Service 전용 Kafka Consumer 설정
@@ -21,7 +34,17 @@ import java.util.Map;
  * 이벤트 타입에 따라 처리합니다.</p>
  *
  * <p>가계부/공유 이벤트는 Outbox 패턴(StringSerializer)으로 전송되므로
- * StringDeserializer 기반 별도 factory를 사용합니다.</p>
+ * ByteArrayDeserializer 기반 별도 factory를 사용합니다.</p>
+ *
+ * <p>모든 리스너는 배치 모드로 한 번의 poll 결과(최대 max-poll-records건)를 한 번에 받아
+ * 하나의 DB 트랜잭션으로 처리하고, 파티션 동시 처리 수는 kafka.consumer.concurrency로 지정합니다.</p>
+ *
+ * <p>가계부/공유 이벤트 중 처리에 실패한 레코드는 {@code <토픽>.failed}로 넘겨 레코드 단위 재시도 리스너
+ * (@RetryableTopic)가 백오프를 두고 재시도하며, 끝내 실패하면 DLT로 보냅니다.
+ * 재시도 토픽으로 넘기지 못하면(브로커 장애) 그 레코드부터 백오프를 두고 전달될 때까지 다시 처리합니다.
+ * 사용자 이벤트는 실패한 레코드부터 같은 백오프로 파티션을 멈추고 재시도하고, 끝내 실패하면 그 레코드만 건너뜁니다.</p>
+ *
+ * <p>spring.threads.virtual.enabled=true 이면 모든 리스너 컨테이너의 consumer 스레드를 가상 스레드로 실행합니다.</p>
  */
 @Configuration("transactionUserEventKafkaConfig")
 public class KafkaConfig extends AbstractUserEventKafkaConfig {
@@ -32,6 +55,27 @@ public class KafkaConfig extends AbstractUserEventKafkaConfig {
     @Value("${spring.kafka.consumer.group-id:transaction-service-group}")
     private String groupId;
 
+    @Value("${kafka.consumer.concurrency:3}")
+    private int concurrency;
+
+    @Value("${kafka.consumer.max-poll-records:500}")
+    private int maxPollRecords;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${kafka.retry.attempts:4}")
+    private int retryAttempts;
+
+    @Value("${kafka.retry.delay-ms:1000}")
+    private long retryDelayMs;
+
+    @Value("${kafka.retry.multiplier:4.0}")
+    private double retryMultiplier;
+
+    @Value("${kafka.retry.max-delay-ms:60000}")
+    private long retryMaxDelayMs;
+
     @Override
     protected String getBootstrapServers() {
         return bootstrapServers;
@@ -49,23 +93,34 @@ public class KafkaConfig extends AbstractUserEventKafkaConfig {
 
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, Map<String, Object>> transactionKafkaListenerContainerFactory() {
-        return createContainerFactory();
+        ConcurrentKafkaListenerContainerFactory<String, Map<String, Object>> factory = createContainerFactory();
+        configureBatch(factory);
+        configureListenerThreads(factory);
+        // 실패 레코드(BatchListenerFailedException의 index)부터 백오프 재시도, 소진 시 그 레코드만 건너뜀
+        factory.setCommonErrorHandler(new DefaultErrorHandler(userEventRetryBackOff()));
+
+        // 공통 consumer factory 설정 위에 poll 크기만 덮어씀
+        Properties consumerProperties = new Properties();
+        consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        factory.getContainerProperties().setKafkaConsumerProperties(consumerProperties);
+        return factory;
     }
 
     /**
-     * Outbox 패턴 이벤트용 Consumer Factory (StringDeserializer)
+     * Outbox 패턴 이벤트용 Consumer Factory (ByteArrayDeserializer)
      *
      * <p>ledger-service의 OutboxEventScheduler가 StringSerializer로 전송하므로
-     * StringDeserializer로 수신 후 수동 JSON 파싱합니다.</p>
+     * 바이트 그대로 수신 후 OutboxPayloadReader로 String 변환 없이 타입 이벤트에 바인딩합니다.</p>
      */
     @Bean
-    public ConsumerFactory<String, String> outboxEventConsumerFactory() {
+    public ConsumerFactory<String, byte[]> outboxEventConsumerFactory() {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
         return new DefaultKafkaConsumerFactory<>(props);
     }
 
@@ -73,10 +128,86 @@ public class KafkaConfig extends AbstractUserEventKafkaConfig {
      * Outbox 패턴 이벤트용 Listener Container Factory
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String> outboxEventListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> outboxEventListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(outboxEventConsumerFactory());
+        configureBatch(factory);
+        configureListenerThreads(factory);
+        // 재시도 토픽 전달 실패(BatchListenerFailedException의 index)부터 다시 처리, 건너뛰지 않음
+        factory.setCommonErrorHandler(new DefaultErrorHandler(outboxRedeliveryBackOff()));
         return factory;
     }
+
+    /**
+     * 재시도 토픽 리스너용 Listener Container Factory (레코드 단위)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> outboxRetryListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(outboxEventConsumerFactory());
+        configureListenerThreads(factory);
+        return factory;
+    }
+
+    /**
+     * 실패 이벤트 전달용 Producer Factory (수신한 바이트를 그대로 재시도/DLT 토픽으로 전송)
+     */
+    @Bean
+    public ProducerFactory<String, byte[]> outboxRetryProducerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        return new DefaultKafkaProducerFactory<>(props);
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> outboxRetryKafkaTemplate() {
+        return new KafkaTemplate<>(outboxRetryProducerFactory());
+    }
+
+    /**
+     * 사용자 이벤트 재시도 백오프 (kafka.retry.* 공유, 재시도 토픽 없이 파티션을 멈추고 재시도)
+     */
+    private BackOff userEventRetryBackOff() {
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(retryAttempts - 1);
+        backOff.setInitialInterval(retryDelayMs);
+        backOff.setMultiplier(retryMultiplier);
+        backOff.setMaxInterval(retryMaxDelayMs);
+        return backOff;
+    }
+
+    /**
+     * Outbox 이벤트 재전달 백오프 (kafka.retry.* 간격, 횟수 제한 없음)
+     *
+     * <p>처리 실패 이벤트는 재시도 토픽으로 넘기므로 여기까지 오는 것은 재시도 토픽 전달 실패뿐입니다.
+     * 건너뛰면 가계부/공유 동기화 이벤트가 유실되므로 브로커가 복구될 때까지 파티션을 멈추고 재시도합니다.</p>
+     */
+    private BackOff outboxRedeliveryBackOff() {
+        ExponentialBackOff backOff = new ExponentialBackOff(retryDelayMs, retryMultiplier);
+        backOff.setMaxInterval(retryMaxDelayMs);
+        return backOff;
+    }
+
+    /**
+     * 배치 리스너 + 파티션 동시 처리 수 설정
+     */
+    private void configureBatch(ConcurrentKafkaListenerContainerFactory<?, ?> factory) {
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+    }
+
+    /**
+     * 가상 스레드 모드이면 consumer 스레드를 가상 스레드로 실행 (poll 대기 중 플랫폼 스레드 스택 점유 방지)
+     */
+    private void configureListenerThreads(ConcurrentKafkaListenerContainerFactory<?, ?> factory) {
+        if (virtualThreads) {
+            factory.getContainerProperties().setListenerTaskExecutor(
+                    new SimpleAsyncTaskExecutor(VirtualThreads.threadFactory("kafka-listener-", true)));
+        }
+    }
 }
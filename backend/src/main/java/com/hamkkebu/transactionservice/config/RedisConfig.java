@@ -0,0 +1,30 @@
+package com.hamkkebu.transactionservice.config;
+
+import com.hamkkebu.transactionservice.service.LedgerAccessCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis 설정
+ *
+ * <p>레플리카 간 가계부 접근 권한 캐시 무효화 알림({@link LedgerAccessCache#INVALIDATION_CHANNEL})을 구독합니다.
+ * Redis 연결이 끊기면 recovery-interval마다 다시 구독하며, 그동안 유실된 알림은 캐시 TTL로 반영됩니다.</p>
+ */
+@Configuration
+public class RedisConfig {
+
+    private static final long SUBSCRIPTION_RECOVERY_INTERVAL_MS = 5000;
+
+    @Bean
+    public RedisMessageListenerContainer ledgerAccessInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory, LedgerAccessCache ledgerAccessCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setRecoveryInterval(SUBSCRIPTION_RECOVERY_INTERVAL_MS);
+        container.addMessageListener(ledgerAccessCache, new ChannelTopic(LedgerAccessCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
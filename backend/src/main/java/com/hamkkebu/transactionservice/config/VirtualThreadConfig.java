@@ -0,0 +1,76 @@
+package com.hamkkebu.transactionservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.client.channelfactory.GrpcChannelConfigurer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 가상 스레드 실행 모드 설정 (spring.threads.virtual.enabled=true, Java 21 런타임 필요)
+ *
+ * <p>Spring Boot 3.2의 같은 이름 속성과 동작을 맞춰, 블로킹 I/O 대기 중인 스레드가
+ * 플랫폼 스레드 스택을 점유하지 않도록 다음 실행 경로를 가상 스레드로 바꿉니다.</p>
+ * <ul>
+ *   <li>Tomcat 요청 처리 (요청 스레드에서 호출하는 gRPC blocking stub, Codef 호출 대기 포함)</li>
+ *   <li>applicationTaskExecutor (StreamingResponseBody 내보내기 등 MVC 비동기 처리)</li>
+ *   <li>gRPC 클라이언트 채널 콜백</li>
+ * </ul>
+ * <p>Kafka 리스너 컨테이너와 Codef 전체 동기화 lane은 각 설정({@link KafkaConfig},
+ * CodefSyncScheduler)에서 같은 속성으로 스레드 팩토리를 바꿉니다.
+ * synchronized 안에서 I/O를 하는 라이브러리의 pinning은 {@link VirtualThreadPinningMonitor}로 진단합니다.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    public VirtualThreadConfig() {
+        VirtualThreads.requireSupported();
+        log.info("[VirtualThread] Virtual thread mode enabled: runtime={}", Runtime.version());
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler ->
+                protocolHandler.setExecutor(VirtualThreads.newThreadPerTaskExecutor("tomcat-handler-"));
+    }
+
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new SimpleAsyncTaskExecutor(VirtualThreads.threadFactory("task-", true));
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService grpcClientExecutor() {
+        return VirtualThreads.newThreadPerTaskExecutor("grpc-client-");
+    }
+
+    @Bean
+    public GrpcChannelConfigurer virtualThreadGrpcChannelConfigurer(ExecutorService grpcClientExecutor) {
+        return (channelBuilder, name) -> channelBuilder.executor(grpcClientExecutor);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "virtual-threads.pinning-monitor.enabled", havingValue = "true",
+            matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${virtual-threads.pinning-monitor.threshold:20ms}") Duration threshold,
+            @Value("${virtual-threads.pinning-monitor.log-interval:1m}") Duration logInterval) {
+        return new VirtualThreadPinningMonitor(meterRegistry, threshold, logInterval);
+    }
+}
@@ -0,0 +1,104 @@
+package com.hamkkebu.transactionservice.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가상 스레드 pinning 진단 (JFR jdk.VirtualThreadPinned 이벤트 스트리밍)
+ *
+ * <p>가상 스레드가 synchronized 블록 안에서 블로킹되면 캐리어 스레드를 점유(pinning)하여,
+ * CPU가 작은 파드에서는 다른 가상 스레드가 모두 멈출 수 있습니다. threshold 이상 점유된 경우마다
+ * {@code jvm.threads.virtual.pinned} 카운터를 올리고, 위치(첫 애플리케이션/라이브러리 프레임)별로
+ * log-interval에 한 번 스택 상위 프레임을 경고 로그로 남깁니다.</p>
+ * <p>EasyCodef, MySQL 드라이버처럼 synchronized 안에서 I/O를 하는 라이브러리가 주요 대상입니다.</p>
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+    private static final String METRIC_NAME = "jvm.threads.virtual.pinned";
+    private static final int LOGGED_FRAMES = 8;
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.");
+
+    private final MeterRegistry meterRegistry;
+    private final Duration logInterval;
+    private final Map<String, Long> lastLoggedAt = new ConcurrentHashMap<>();
+    private final RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold, Duration logInterval) {
+        this.meterRegistry = meterRegistry;
+        this.logInterval = logInterval;
+        this.recordingStream = new RecordingStream();
+        this.recordingStream.enable(EVENT_NAME).withThreshold(threshold).withStackTrace();
+        this.recordingStream.onEvent(EVENT_NAME, this::onPinned);
+        this.recordingStream.startAsync();
+
+        log.info("[VirtualThread] Pinning monitor started: threshold={}", threshold);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String location = location(frames);
+
+        Counter.builder(METRIC_NAME)
+                .description("캐리어 스레드를 threshold 이상 점유한 가상 스레드 블로킹 수")
+                .tag("location", location)
+                .register(meterRegistry)
+                .increment();
+
+        long now = System.currentTimeMillis();
+        Long last = lastLoggedAt.get(location);
+        if (last == null || now - last >= logInterval.toMillis()) {
+            lastLoggedAt.put(location, now);
+            log.warn("[VirtualThread] Carrier pinned: location={}, durationMs={}, stack={}",
+                    location, event.getDuration().toMillis(), topFrames(frames));
+        }
+    }
+
+    @Override
+    public void close() {
+        recordingStream.close();
+    }
+
+    // 첫 비-JDK 프레임의 클래스 (태그 카디널리티를 클래스 수로 제한)
+    private static String location(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            if (frame.getMethod() == null) {
+                continue;
+            }
+            String className = frame.getMethod().getType().getName();
+            if (JDK_PACKAGES.stream().noneMatch(className::startsWith)) {
+                return className;
+            }
+        }
+        return "unknown";
+    }
+
+    private static String topFrames(List<RecordedFrame> frames) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < Math.min(LOGGED_FRAMES, frames.size()); i++) {
+            RecordedFrame frame = frames.get(i);
+            if (frame.getMethod() == null) {
+                continue;
+            }
+            builder.append("\n\tat ")
+                    .append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber());
+        }
+        return builder.toString();
+    }
+}
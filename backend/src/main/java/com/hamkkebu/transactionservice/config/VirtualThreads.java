@@ -0,0 +1,98 @@
+package com.hamkkebu.transactionservice.config;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 가상 스레드 생성 유틸리티 (Java 21 API를 리플렉션으로 호출)
+ *
+ * <p>빌드는 Java 17 기준이므로 {@code Thread.ofVirtual()}을 직접 참조하지 않습니다.
+ * Java 21 런타임에서만 가상 스레드를 만들 수 있고, 그 외 런타임에서 가상 스레드를 요청하면
+ * 설정 오류로 보고 기동을 실패시킵니다.</p>
+ */
+public final class VirtualThreads {
+
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builderClass.getMethod("name", String.class, long.class);
+            builderFactory = builderClass.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (ReflectiveOperationException e) {
+            // Java 21 미만 런타임
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * 현재 런타임에서 가상 스레드를 사용할 수 있는지 여부 (Java 21 이상)
+     */
+    public static boolean isSupported() {
+        return NEW_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * 가상 스레드 사용 여부에 따른 스레드 팩토리
+     *
+     * @param prefix  스레드 이름 접두사 (가상 스레드는 prefix + 순번)
+     * @param virtual true면 가상 스레드, false면 플랫폼 스레드
+     * @throws IllegalStateException 가상 스레드를 요청했지만 Java 21 미만 런타임인 경우
+     */
+    public static ThreadFactory threadFactory(String prefix, boolean virtual) {
+        if (!virtual) {
+            return new CustomizableThreadFactory(prefix);
+        }
+        requireSupported();
+        try {
+            Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), prefix, 0L);
+            return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("가상 스레드 팩토리를 만들 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 작업마다 새 가상 스레드를 만드는 Executor (풀링 없음, 동시 실행 수는 호출자가 제한)
+     *
+     * @throws IllegalStateException Java 21 미만 런타임인 경우
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        ThreadFactory factory = threadFactory(prefix, true);
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("가상 스레드 Executor를 만들 수 없습니다", e);
+        }
+    }
+
+    /**
+     * @throws IllegalStateException Java 21 미만 런타임인 경우
+     */
+    public static void requireSupported() {
+        if (!isSupported()) {
+            throw new IllegalStateException("가상 스레드는 Java 21 이상에서만 사용할 수 있습니다 (현재: "
+                    + Runtime.version() + "). spring.threads.virtual.enabled를 끄거나 런타임을 교체하세요");
+        }
+    }
+}
@@ -3,10 +3,18 @@ package com.hamkkebu.transactionservice.controller;
 import com.hamkkebu.boilerplate.common.dto.ApiResponse;
 import com.hamkkebu.boilerplate.common.dto.PageResponseDto;
 import com.hamkkebu.transactionservice.data.dto.PeriodTransactionSummary;
+import com.hamkkebu.transactionservice.data.dto.TransactionBatchRequest;
+import com.hamkkebu.transactionservice.data.dto.TransactionBatchResponse;
+import com.hamkkebu.transactionservice.data.dto.TransactionCursorPage;
+import com.hamkkebu.transactionservice.data.dto.TransactionExportFormat;
+import com.hamkkebu.transactionservice.data.dto.TransactionImportJobResponse;
 import com.hamkkebu.transactionservice.data.dto.TransactionRequest;
 import com.hamkkebu.transactionservice.data.dto.TransactionResponse;
 import com.hamkkebu.transactionservice.data.dto.TransactionSummary;
 import com.hamkkebu.boilerplate.common.user.annotation.CurrentUser;
+import com.hamkkebu.transactionservice.service.TransactionBatchService;
+import com.hamkkebu.transactionservice.service.TransactionExportService;
+import com.hamkkebu.transactionservice.service.TransactionImportService;
 import com.hamkkebu.transactionservice.service.TransactionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,10 +25,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -33,6 +45,9 @@ import java.util.List;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
+    private final TransactionBatchService transactionBatchService;
+    private final TransactionImportService transactionImportService;
 
     @PostMapping
     @Operation(summary = "거래 생성", description = "새로운 거래를 생성합니다")
@@ -45,6 +60,20 @@ public class TransactionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(transaction));
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "거래 일괄 생성/수정/삭제",
+            description = "한 가계부의 거래 작업을 최대 " + TransactionBatchRequest.MAX_OPERATIONS
+                    + "건까지 한 번에 처리하고 작업별 결과를 반환합니다 (실패한 작업만 제외하고 반영)")
+    public ResponseEntity<ApiResponse<TransactionBatchResponse>> executeBatch(
+            @Parameter(hidden = true) @CurrentUser Long userId,
+            @Valid @RequestBody TransactionBatchRequest request) {
+
+        log.info("POST /api/v1/transactions/batch - userId: {}, ledgerId: {}, operations: {}",
+                userId, request.getLedgerId(), request.getOperations().size());
+        TransactionBatchResponse response = transactionBatchService.execute(request, userId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping
     @Operation(summary = "거래 목록 조회 (페이징)", description = "특정 가계부의 거래 목록을 페이징으로 조회합니다")
     public ResponseEntity<ApiResponse<PageResponseDto<TransactionResponse>>> getTransactions(
@@ -57,8 +86,23 @@ public class TransactionController {
         return ResponseEntity.ok(ApiResponse.success(PageResponseDto.of(transactions)));
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "거래 목록 조회 (커서)",
+            description = "특정 가계부의 거래 목록을 커서 기반으로 조회합니다 (전체 건수 미제공, 무한 스크롤용)")
+    public ResponseEntity<ApiResponse<TransactionCursorPage>> getTransactionsByCursor(
+            @Parameter(hidden = true) @CurrentUser Long userId,
+            @RequestParam Long ledgerId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("GET /api/v1/transactions/cursor?ledgerId={}&size={} - userId: {}", ledgerId, size, userId);
+        TransactionCursorPage page = transactionService.getTransactionsByLedgerCursor(ledgerId, userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(page));
+    }
+
     @GetMapping("/all")
-    @Operation(summary = "거래 전체 목록 조회", description = "특정 가계부의 모든 거래를 조회합니다")
+    @Operation(summary = "거래 전체 목록 조회",
+            description = "특정 가계부의 모든 거래를 조회합니다 (대용량 가계부는 /export 또는 /cursor 사용 권장)")
     public ResponseEntity<ApiResponse<List<TransactionResponse>>> getAllTransactions(
             @Parameter(hidden = true) @CurrentUser Long userId,
             @RequestParam Long ledgerId) {
@@ -68,6 +112,51 @@ public class TransactionController {
         return ResponseEntity.ok(ApiResponse.success(transactions));
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "거래 내보내기 (스트리밍)",
+            description = "특정 가계부의 모든 거래를 NDJSON 또는 CSV로 스트리밍합니다 (거래 수와 무관하게 메모리 사용량 일정)")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @Parameter(hidden = true) @CurrentUser Long userId,
+            @RequestParam Long ledgerId,
+            @RequestParam(defaultValue = "NDJSON") TransactionExportFormat format) {
+
+        log.info("GET /api/v1/transactions/export?ledgerId={}&format={} - userId: {}", ledgerId, format, userId);
+        StreamingResponseBody body = transactionExportService.prepareExport(ledgerId, userId, format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"transactions-" + ledgerId + "." + format.getFileExtension() + "\"")
+                .body(body);
+    }
+
+    @PostMapping(value = "/imports", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "거래내역 가져오기 (CSV)",
+            description = "은행 거래내역 또는 내보내기 CSV를 비동기로 가져옵니다. 반환된 작업 ID로 진행 상황을 조회합니다 "
+                    + "(이미 가져온 거래는 건너뜀)")
+    public ResponseEntity<ApiResponse<TransactionImportJobResponse>> importTransactions(
+            @Parameter(hidden = true) @CurrentUser Long userId,
+            @RequestParam Long ledgerId,
+            @RequestParam(defaultValue = "UTF-8") String encoding,
+            @RequestPart("file") MultipartFile file) {
+
+        log.info("POST /api/v1/transactions/imports?ledgerId={}&encoding={} - userId: {}, size: {}",
+                ledgerId, encoding, userId, file.getSize());
+        TransactionImportJobResponse job =
+                transactionImportService.startImport(ledgerId, userId, file, encoding);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(job));
+    }
+
+    @GetMapping("/imports/{jobId}")
+    @Operation(summary = "거래내역 가져오기 작업 조회", description = "가져오기 작업의 상태와 진행 건수를 조회합니다")
+    public ResponseEntity<ApiResponse<TransactionImportJobResponse>> getImportJob(
+            @Parameter(hidden = true) @CurrentUser Long userId,
+            @PathVariable Long jobId) {
+
+        log.info("GET /api/v1/transactions/imports/{} - userId: {}", jobId, userId);
+        TransactionImportJobResponse job = transactionImportService.getJob(jobId, userId);
+        return ResponseEntity.ok(ApiResponse.success(job));
+    }
+
     @GetMapping("/summary")
     @Operation(summary = "거래 요약 조회", description = "특정 가계부의 거래 요약 정보를 조회합니다")
     public ResponseEntity<ApiResponse<TransactionSummary>> getTransactionSummary(
@@ -107,14 +196,18 @@ public class TransactionController {
     }
 
     @GetMapping("/yearly")
-    @Operation(summary = "년별 거래 요약 조회", description = "특정 연도의 거래 요약을 조회합니다 (월별 상세 포함)")
+    @Operation(summary = "년별 거래 요약 조회",
+            description = "특정 연도의 거래 요약을 조회합니다 (월별 상세 포함, 거래 목록은 includeTransactions=true일 때만 포함)")
     public ResponseEntity<ApiResponse<PeriodTransactionSummary>> getYearlySummary(
             @Parameter(hidden = true) @CurrentUser Long userId,
             @RequestParam Long ledgerId,
-            @RequestParam int year) {
+            @RequestParam int year,
+            @RequestParam(defaultValue = "false") boolean includeTransactions) {
 
-        log.info("GET /api/v1/transactions/yearly?ledgerId={}&year={} - userId: {}", ledgerId, year, userId);
-        PeriodTransactionSummary summary = transactionService.getYearlySummary(ledgerId, year, userId);
+        log.info("GET /api/v1/transactions/yearly?ledgerId={}&year={}&includeTransactions={} - userId: {}",
+                ledgerId, year, includeTransactions, userId);
+        PeriodTransactionSummary summary = transactionService.getYearlySummary(
+                ledgerId, year, includeTransactions, userId);
         return ResponseEntity.ok(ApiResponse.success(summary));
     }
 
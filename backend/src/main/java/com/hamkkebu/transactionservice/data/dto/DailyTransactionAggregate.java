@@ -0,0 +1,17 @@
+package com.hamkkebu.transactionservice.data.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 일자·거래 유형별 집계 Projection
+ *
+ * <p>기간 요약 조회 시 (거래일, 유형) 단위로 합계와 건수를 한 번의 GROUP BY 쿼리로 가져옵니다.</p>
+ * <p>기간 전체 합계와 일별 상세는 이 버킷들로부터 계산합니다.</p>
+ */
+public interface DailyTransactionAggregate extends TransactionAggregate {
+
+    /**
+     * 거래일
+     */
+    LocalDate getTransactionDate();
+}
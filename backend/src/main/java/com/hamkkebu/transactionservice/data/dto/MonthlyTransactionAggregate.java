@@ -0,0 +1,19 @@
+package com.hamkkebu.transactionservice.data.dto;
+
+/**
+ * 월·거래 유형별 집계 Projection
+ *
+ * <p>년별 요약 조회 시 12개월치 버킷을 한 번의 GROUP BY 쿼리로 가져옵니다.</p>
+ */
+public interface MonthlyTransactionAggregate extends TransactionAggregate {
+
+    /**
+     * 거래 연도
+     */
+    Integer getTransactionYear();
+
+    /**
+     * 거래 월 (1~12)
+     */
+    Integer getTransactionMonth();
+}
@@ -0,0 +1,30 @@
+package com.hamkkebu.transactionservice.data.dto;
+
+import com.hamkkebu.transactionservice.data.entity.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 일별 집계 테이블 불일치(drift) 항목
+ *
+ * <p>원본 거래로부터 재계산한 값(expected)과 집계 테이블 값(actual)이 다른 버킷을 나타냅니다.</p>
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupDrift {
+
+    private Long ledgerId;
+    private LocalDate transactionDate;
+    private TransactionType type;
+    private BigDecimal expectedAmount;
+    private BigDecimal actualAmount;
+    private Long expectedCount;
+    private Long actualCount;
+}
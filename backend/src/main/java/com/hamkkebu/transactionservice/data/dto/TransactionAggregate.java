@@ -0,0 +1,28 @@
+package com.hamkkebu.transactionservice.data.dto;
+
+import com.hamkkebu.transactionservice.data.entity.enums.TransactionType;
+
+import java.math.BigDecimal;
+
+/**
+ * 거래 유형별 집계 버킷 공통 Projection
+ *
+ * <p>일별/월별 집계 Projection이 공통으로 제공하는 합계·건수 항목입니다.</p>
+ */
+public interface TransactionAggregate {
+
+    /**
+     * 거래 유형 (INCOME, EXPENSE)
+     */
+    TransactionType getType();
+
+    /**
+     * 버킷의 금액 합계
+     */
+    BigDecimal getTotalAmount();
+
+    /**
+     * 버킷의 거래 수
+     */
+    Long getTransactionCount();
+}
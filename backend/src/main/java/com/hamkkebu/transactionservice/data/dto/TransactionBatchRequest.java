@@ -0,0 +1,84 @@
+package com.hamkkebu.transactionservice.data.dto;
+
+import com.hamkkebu.transactionservice.data.entity.enums.TransactionType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 거래 일괄 생성/수정/삭제 요청 DTO
+ *
+ * <p>한 가계부에 대한 작업을 최대 {@value #MAX_OPERATIONS}건까지 한 번에 요청합니다.
+ * 작업별 필수 값(생성/수정의 유형·금액·거래일, 수정/삭제의 거래 ID)은 작업마다 검증해 결과로 돌려줍니다.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionBatchRequest {
+
+    public static final int MAX_OPERATIONS = 500;
+
+    @NotNull(message = "가계부 ID는 필수입니다")
+    private Long ledgerId;
+
+    @NotEmpty(message = "작업 목록은 비어 있을 수 없습니다")
+    @Size(max = MAX_OPERATIONS, message = "한 번에 최대 " + MAX_OPERATIONS + "건까지 요청할 수 있습니다")
+    private List<@Valid @NotNull(message = "작업은 null일 수 없습니다") Operation> operations;
+
+    public enum OperationType {
+        CREATE, UPDATE, DELETE
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Operation {
+
+        @NotNull(message = "작업 유형은 필수입니다")
+        private OperationType op;
+
+        /**
+         * 클라이언트가 붙인 식별자 (응답 결과 매칭용, 오프라인 동기화의 로컬 ID 등)
+         */
+        @Size(max = 100, message = "clientRef는 100자를 초과할 수 없습니다")
+        private String clientRef;
+
+        /**
+         * 수정/삭제 대상 거래 ID
+         */
+        private Long transactionId;
+
+        private TransactionType type;
+        private BigDecimal amount;
+        private String description;
+        private String category;
+        private LocalDate transactionDate;
+        private String memo;
+
+        /**
+         * 생성/수정용 단건 요청으로 변환 (단건 API와 같은 검증 규칙 적용)
+         */
+        public TransactionRequest toRequest(Long ledgerId) {
+            return TransactionRequest.builder()
+                    .ledgerId(ledgerId)
+                    .type(type)
+                    .amount(amount)
+                    .description(description)
+                    .category(category)
+                    .transactionDate(transactionDate)
+                    .memo(memo)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.hamkkebu.transactionservice.data.dto;
+
+import com.hamkkebu.transactionservice.data.dto.TransactionBatchRequest.OperationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 거래 일괄 작업 응답 DTO
+ *
+ * <p>결과는 요청 순서(index)와 같은 순서입니다. 실패한 작업은 반영되지 않고 나머지 작업은 반영됩니다.</p>
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionBatchResponse {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<ItemResult> results;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+
+        /**
+         * 요청 작업 목록에서의 순번 (0부터)
+         */
+        private int index;
+        private String clientRef;
+        private OperationType op;
+        private boolean success;
+
+        /**
+         * 생성/수정/삭제된 거래 ID (실패 시 요청한 ID 또는 null)
+         */
+        private Long transactionId;
+
+        /**
+         * 반영 후 거래 버전 (성공 시)
+         */
+        private Long version;
+
+        /**
+         * 실패 사유 코드/메시지 (실패 시)
+         */
+        private String errorCode;
+        private String message;
+    }
+}
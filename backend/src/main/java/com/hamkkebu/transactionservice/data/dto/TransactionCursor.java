@@ -0,0 +1,52 @@
+package com.hamkkebu.transactionservice.data.dto;
+
+import com.hamkkebu.boilerplate.common.exception.BusinessException;
+import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 거래 목록 커서 (keyset 페이징용)
+ *
+ * <p>목록 정렬 키인 (거래일, ID)를 담으며, 클라이언트에는 Base64URL로 인코딩된
+ * 불투명 문자열로 전달합니다. 다음 페이지는 이 키보다 작은 거래부터 조회합니다.</p>
+ */
+public record TransactionCursor(LocalDate transactionDate, Long id) {
+
+    private static final String DELIMITER = ":";
+
+    /**
+     * 페이지의 마지막 거래로 다음 페이지 커서 생성
+     */
+    public static TransactionCursor of(TransactionResponse last) {
+        return new TransactionCursor(last.getTransactionDate(), last.getId());
+    }
+
+    /**
+     * 불투명 커서 문자열로 인코딩
+     */
+    public String encode() {
+        String raw = transactionDate + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 디코딩
+     *
+     * @throws BusinessException 형식이 올바르지 않은 커서 (INVALID_INPUT_VALUE, 클라이언트가 보낸 값이므로 400)
+     */
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.indexOf(DELIMITER);
+            return new TransactionCursor(
+                    LocalDate.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.hamkkebu.transactionservice.data.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 거래 목록 응답 DTO
+ *
+ * <p>전체 건수(COUNT) 없이 다음 페이지 존재 여부와 다음 커서만 제공합니다.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionCursorPage {
+
+    /**
+     * 거래 목록 (거래일, ID 내림차순)
+     */
+    private List<TransactionResponse> content;
+
+    /**
+     * 다음 페이지 조회용 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+
+    /**
+     * 요청한 페이지 크기
+     */
+    private int size;
+}
@@ -0,0 +1,18 @@
+package com.hamkkebu.transactionservice.data.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 거래 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TransactionExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),   // 한 줄에 거래 하나씩 JSON
+    CSV("text/csv", "csv");                     // 헤더 포함 CSV
+
+    private final String contentType;
+    private final String fileExtension;
+}
@@ -0,0 +1,53 @@
+package com.hamkkebu.transactionservice.data.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래 가져오기 작업 상태 응답 DTO
+ *
+ * <p>진행 건수는 청크가 커밋될 때마다 갱신됩니다. 이미 있는 거래와 같은 행은 duplicateRows,
+ * 형식이 잘못된 행은 invalidRows로 집계하고 건너뜁니다.</p>
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionImportJobResponse {
+
+    private Long jobId;
+    private Long ledgerId;
+    private String fileName;
+    private Status status;
+
+    /**
+     * 읽은 데이터 행 수 (헤더/빈 행 제외)
+     */
+    private int processedRows;
+    private int insertedRows;
+    private int duplicateRows;
+    private int invalidRows;
+
+    /**
+     * 작업 실패 사유 또는 건너뛴 행의 사유 (앞부분 일부)
+     */
+    private String errorMessage;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    /**
+     * 가져오기 작업 상태
+     */
+    public enum Status {
+        PENDING,    // 대기 (실행 스레드 배정 전)
+        RUNNING,    // 진행 중
+        COMPLETED,  // 완료 (건너뛴 행이 있어도 완료)
+        FAILED      // 실패 (그때까지 커밋된 청크는 유지, 같은 파일을 다시 올리면 이어서 가져옴)
+    }
+}
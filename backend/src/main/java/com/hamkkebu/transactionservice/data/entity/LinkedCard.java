@@ -8,6 +8,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 
+import java.time.LocalDateTime;
+
 /**
  * Codef 연동 카드 엔티티
  *
@@ -84,4 +86,24 @@ public class LinkedCard extends BaseEntity {
      */
     @Column(name = "last_synced_date", length = 10)
     private String lastSyncedDate;
+
+    /**
+     * 마지막 동기화 시각
+     * <p>백그라운드 동기화 시 오래된 카드부터 처리하는 기준</p>
+     */
+    @Column(name = "last_synced_at")
+    private LocalDateTime lastSyncedAt;
+
+    /**
+     * 동기화 커서 - 마지막으로 처리한 승인 시각
+     * <p>다음 동기화는 이 시각에서 overlap만큼 이전부터 조회함</p>
+     */
+    @Column(name = "sync_cursor_approved_at")
+    private LocalDateTime syncCursorApprovedAt;
+
+    /**
+     * 동기화 커서 - 마지막으로 처리한 승인번호 (같은 시각 승인 구분용)
+     */
+    @Column(name = "sync_cursor_approval_no", length = 100)
+    private String syncCursorApprovalNo;
 }
@@ -12,9 +12,12 @@ import java.time.LocalDate;
 
 @Entity
 @Table(name = "tbl_transactions", indexes = {
-    @Index(name = "idx_ledger_id", columnList = "ledger_id"),
-    @Index(name = "idx_user_id", columnList = "user_id"),
-    @Index(name = "idx_transaction_date", columnList = "transaction_date")
+    @Index(name = "idx_tx_ledger_deleted_date", columnList = "ledger_id, is_deleted, transaction_date, id"),
+    @Index(name = "idx_tx_ledger_deleted_date_type_amount",
+           columnList = "ledger_id, is_deleted, transaction_date, transaction_type, amount"),
+    @Index(name = "idx_tx_ledger_deleted_category_date", columnList = "ledger_id, is_deleted, category, transaction_date"),
+    @Index(name = "idx_tx_linked_card_deleted", columnList = "linked_card_id, is_deleted"),
+    @Index(name = "idx_user_id", columnList = "user_id")
 })
 @Getter
 @Setter
@@ -58,6 +61,16 @@ public class Transaction extends BaseEntity {
     @Column(name = "memo", length = 1000)
     private String memo;
 
+    /**
+     * 거래 버전 (낙관적 잠금 + 이벤트 순서)
+     * <p>변경될 때마다 1씩 증가하며 거래 이벤트에 함께 실립니다.
+     * 하위 서비스는 저장된 버전보다 큰 이벤트만 반영하면 순서가 뒤바뀐 이벤트를 걸러낼 수 있습니다.</p>
+     * <p>JDBC upsert(Codef 동기화)도 금액이 바뀐 경우 함께 증가시킵니다.</p>
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // ==================== Codef 연동 필드 ====================
 
     /**
@@ -75,6 +88,14 @@ public class Transaction extends BaseEntity {
     @Column(name = "external_approval_no", length = 100)
     private String externalApprovalNo;
 
+    /**
+     * 가져오기 중복 판별 키 (SHA-256 hex, IMPORT 거래에만 존재)
+     * <p>거래일/유형/금액/내용과 파일 안에서 같은 값이 나온 순번으로 만들므로,
+     * 같은 파일이나 기간이 겹치는 파일을 다시 가져와도 이미 있는 거래는 건너뜁니다.</p>
+     */
+    @Column(name = "import_hash", length = 64)
+    private String importHash;
+
     /**
      * 연동 카드 ID (LinkedCard FK)
      * <p>CODEF 연동 거래에만 값이 존재, MANUAL이면 null</p>
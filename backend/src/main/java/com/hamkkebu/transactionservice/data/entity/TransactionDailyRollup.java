@@ -0,0 +1,56 @@
+package com.hamkkebu.transactionservice.data.entity;
+
+import com.hamkkebu.transactionservice.data.entity.enums.TransactionType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 거래 일별 집계(rollup) 엔티티
+ *
+ * <p>(가계부, 거래일, 거래 유형) 단위로 삭제되지 않은 거래의 금액 합계와 건수를 유지합니다.</p>
+ * <p>거래 쓰기와 같은 DB 트랜잭션 안에서 증분 갱신되며,
+ * 요약 조회는 tbl_transactions 대신 이 테이블을 읽습니다.</p>
+ *
+ * <p>증분 갱신은 {@code INSERT ... ON DUPLICATE KEY UPDATE}로 수행하므로
+ * 엔티티 자체는 조회 용도로만 사용합니다.</p>
+ */
+@Entity
+@Table(name = "tbl_transaction_daily_rollup")
+@IdClass(TransactionDailyRollupId.class)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionDailyRollup {
+
+    @Id
+    @Column(name = "ledger_id", nullable = false)
+    private Long ledgerId;
+
+    @Id
+    @Column(name = "transaction_date", nullable = false)
+    private LocalDate transactionDate;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false, length = 20)
+    private TransactionType type;
+
+    /**
+     * 해당 일자·유형의 금액 합계
+     */
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal totalAmount;
+
+    /**
+     * 해당 일자·유형의 거래 수
+     */
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount;
+}
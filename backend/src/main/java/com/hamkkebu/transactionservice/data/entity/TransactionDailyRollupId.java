@@ -0,0 +1,26 @@
+package com.hamkkebu.transactionservice.data.entity;
+
+import com.hamkkebu.transactionservice.data.entity.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 일별 집계 테이블 복합 키 (ledger_id, transaction_date, transaction_type)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class TransactionDailyRollupId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long ledgerId;
+    private LocalDate transactionDate;
+    private TransactionType type;
+}
@@ -5,5 +5,6 @@ package com.hamkkebu.transactionservice.data.entity.enums;
  */
 public enum TransactionSourceType {
     MANUAL,     // 수기 입력
-    CODEF       // Codef API 자동 연동
+    CODEF,      // Codef API 자동 연동
+    IMPORT      // 거래내역 파일(CSV) 가져오기
 }
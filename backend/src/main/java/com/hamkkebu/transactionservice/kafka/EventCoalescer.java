@@ -0,0 +1,82 @@
+package com.hamkkebu.transactionservice.kafka;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * 배치로 수신한 이벤트를 키(가계부/공유/사용자 ID)별로 합치는 유틸리티
+ *
+ * <p>이벤트는 모두 엔티티의 전체 상태를 담고 있으므로, 같은 키의 이벤트는 마지막 것만 반영하면 됩니다.
+ * 단, 마지막 이벤트가 생성 이벤트가 아니면 그 앞의 마지막 생성 이벤트도 함께 남겨
+ * 생성 → 수정 순서가 필요한 처리 로직이 그대로 동작하도록 합니다.</p>
+ * <ul>
+ *   <li>키를 추출할 수 없는 이벤트는 합치지 않고 그대로 처리합니다.</li>
+ *   <li>이벤트 타입을 알 수 없는 이벤트가 하나라도 있는 키는 합치지 않습니다.</li>
+ *   <li>남은 이벤트는 수신 순서를 유지합니다.</li>
+ * </ul>
+ */
+final class EventCoalescer {
+
+    private EventCoalescer() {
+    }
+
+    /**
+     * @param events        수신 순서대로의 이벤트
+     * @param keyOf         이벤트 키 추출 (추출 불가 시 null)
+     * @param typeOf        이벤트 타입 추출 (알 수 없으면 null)
+     * @param creationTypes 생성 이벤트 타입 (예: LEDGER_CREATED)
+     * @return 반영할 이벤트 (수신 순서 유지)
+     */
+    static <E, K> List<E> coalesce(List<E> events, Function<E, K> keyOf, Function<E, String> typeOf,
+                                   List<String> creationTypes) {
+        Map<K, KeyState> states = new HashMap<>();
+        TreeSet<Integer> kept = new TreeSet<>();
+
+        for (int i = 0; i < events.size(); i++) {
+            E event = events.get(i);
+            K key = keyOf.apply(event);
+            if (key == null) {
+                kept.add(i);
+                continue;
+            }
+
+            KeyState state = states.computeIfAbsent(key, k -> new KeyState());
+            String eventType = typeOf.apply(event);
+            if (eventType == null) {
+                state.unknownType = true;
+            } else if (creationTypes.contains(eventType)) {
+                state.lastCreation = i;
+            }
+            state.indexes.add(i);
+            state.last = i;
+        }
+
+        for (KeyState state : states.values()) {
+            if (state.unknownType) {
+                kept.addAll(state.indexes);
+                continue;
+            }
+            kept.add(state.last);
+            if (state.lastCreation >= 0) {
+                kept.add(state.lastCreation);
+            }
+        }
+
+        List<E> result = new ArrayList<>(kept.size());
+        for (int index : kept) {
+            result.add(events.get(index));
+        }
+        return result;
+    }
+
+    private static final class KeyState {
+        private final List<Integer> indexes = new ArrayList<>();
+        private int last = -1;
+        private int lastCreation = -1;
+        private boolean unknownType;
+    }
+}
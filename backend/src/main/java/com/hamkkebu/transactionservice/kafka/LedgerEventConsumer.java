@@ -1,15 +1,22 @@
 package com.hamkkebu.transactionservice.kafka;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hamkkebu.boilerplate.common.ledger.consumer.AbstractLedgerEventConsumer;
 import com.hamkkebu.transactionservice.data.entity.Ledger;
+import com.hamkkebu.transactionservice.kafka.event.LedgerSyncEvent;
 import com.hamkkebu.transactionservice.repository.LedgerRepository;
+import com.hamkkebu.transactionservice.service.LedgerAccessCache;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.Backoff;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -20,49 +27,78 @@ import java.util.Map;
  * 가계부 관련 이벤트를 수신합니다.</p>
  *
  * <p>Outbox 패턴에서 payload가 이미 JSON 문자열이므로
- * StringDeserializer로 수신 후 수동 JSON 파싱합니다.</p>
+ * ByteArrayDeserializer로 수신 후 {@link OutboxPayloadReader}로 타입 이벤트에 바로 바인딩합니다.</p>
  */
 @Slf4j
 @Component
 public class LedgerEventConsumer extends AbstractLedgerEventConsumer<Ledger> {
 
-    private final ObjectMapper objectMapper;
+    private static final List<String> CREATION_TYPES = List.of("LEDGER_CREATED");
 
-    public LedgerEventConsumer(LedgerRepository ledgerRepository, ObjectMapper objectMapper) {
+    private final OutboxEventBatchHandler batchHandler;
+    private final LedgerAccessCache ledgerAccessCache;
+
+    public LedgerEventConsumer(LedgerRepository ledgerRepository, OutboxEventBatchHandler batchHandler,
+            LedgerAccessCache ledgerAccessCache) {
         super(ledgerRepository);
-        this.objectMapper = objectMapper;
+        this.batchHandler = batchHandler;
+        this.ledgerAccessCache = ledgerAccessCache;
     }
 
     /**
-     * 가계부 이벤트 처리 (LEDGER_CREATED, LEDGER_UPDATED, LEDGER_DELETED)
+     * 가계부 이벤트 배치 처리 (LEDGER_CREATED, LEDGER_UPDATED, LEDGER_DELETED)
      *
-     * <p>StringDeserializer로 수신한 JSON 문자열을 Map으로 파싱 후 처리합니다.</p>
+     * <p>한 번의 poll로 받은 레코드를 바이트에서 바로 {@link LedgerSyncEvent}로 바인딩한 뒤
+     * 가계부 ID별로 합쳐 마지막 상태만 반영하고, 배치 전체를 하나의 DB 트랜잭션으로 커밋합니다.
+     * 공통 Consumer 처리용 Map은 실제 반영할 이벤트에 대해서만 만듭니다.</p>
+     * <p>파싱/반영에 실패한 레코드는 파티션을 막지 않도록 재시도 토픽으로 넘깁니다 ({@link OutboxEventBatchHandler}).</p>
      */
     @KafkaListener(
             topics = "${kafka.topics.ledger-events:ledger.events}",
             groupId = "transaction-service-group",
             containerFactory = "outboxEventListenerContainerFactory"
     )
-    @Transactional
-    public void handleLedgerEvent(String payload) {
-        try {
-            log.info("[Kafka Consumer] Received ledger event payload (length={})", payload.length());
+    public void handleLedgerEvents(List<ConsumerRecord<String, byte[]>> records) {
+        int applied = batchHandler.handleBatch(records, LedgerSyncEvent.class,
+                LedgerSyncEvent::getLedgerId, LedgerSyncEvent::getEventType, CREATION_TYPES, this::apply);
+
+        log.info("[Kafka Consumer] Processed ledger events: received={}, applied={}", records.size(), applied);
+    }
 
-            // 이중 인코딩 처리: Producer가 JsonSerializer로 JSON 문자열을 한번 더 직렬화한 경우
-            // 페이로드가 '"{ ... }"' (바깥 따옴표 포함) 형태로 도착함
-            String jsonString = payload;
-            if (jsonString.startsWith("\"") && jsonString.endsWith("\"")) {
-                log.debug("[Kafka Consumer] Detected double-encoded payload, unwrapping...");
-                jsonString = objectMapper.readValue(jsonString, String.class);
-            }
+    /**
+     * 처리 실패 가계부 이벤트 재시도 (레코드 단위, 백오프 후 재시도 → 모두 실패 시 DLT)
+     *
+     * <p>재시도한 이벤트는 같은 키의 이후 이벤트보다 늦게 반영될 수 있습니다.</p>
+     */
+    @RetryableTopic(
+            attempts = "${kafka.retry.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${kafka.retry.delay-ms:1000}",
+                    multiplierExpression = "${kafka.retry.multiplier:4.0}",
+                    maxDelayExpression = "${kafka.retry.max-delay-ms:60000}"),
+            kafkaTemplate = "outboxRetryKafkaTemplate",
+            listenerContainerFactory = "outboxRetryListenerContainerFactory",
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            exclude = UnprocessableEventException.class
+    )
+    @KafkaListener(
+            topics = "${kafka.topics.ledger-events:ledger.events}" + OutboxEventBatchHandler.FAILED_TOPIC_SUFFIX,
+            groupId = "transaction-service-group",
+            containerFactory = "outboxRetryListenerContainerFactory"
+    )
+    public void retryLedgerEvent(ConsumerRecord<String, byte[]> record) {
+        batchHandler.handleRetry(record, LedgerSyncEvent.class, this::apply);
+    }
+
+    @DltHandler
+    public void handleLedgerDeadLetter(ConsumerRecord<String, byte[]> record,
+            @Header(name = KafkaHeaders.DLT_EXCEPTION_MESSAGE, required = false) String exceptionMessage) {
+        batchHandler.handleDeadLetter(record, exceptionMessage);
+    }
 
-            Map<String, Object> eventData = objectMapper.readValue(jsonString,
-                    new TypeReference<Map<String, Object>>() {});
-            processLedgerEvent(eventData);
-        } catch (Exception e) {
-            log.error("[Kafka Consumer] Failed to parse ledger event payload: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to parse ledger event", e);
-        }
+    private void apply(LedgerSyncEvent event) {
+        processLedgerEvent(event.toEventData());
+        ledgerAccessCache.invalidateLedger(event.getLedgerId());
     }
 
     @Override
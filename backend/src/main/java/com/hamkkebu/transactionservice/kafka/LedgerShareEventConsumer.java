@@ -1,15 +1,22 @@
 package com.hamkkebu.transactionservice.kafka;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hamkkebu.boilerplate.common.ledger.consumer.AbstractLedgerShareEventConsumer;
 import com.hamkkebu.transactionservice.data.entity.LedgerShare;
+import com.hamkkebu.transactionservice.kafka.event.LedgerShareSyncEvent;
 import com.hamkkebu.transactionservice.repository.LedgerShareRepository;
+import com.hamkkebu.transactionservice.service.LedgerAccessCache;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.Backoff;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -31,42 +38,74 @@ import java.util.Map;
 @Component
 public class LedgerShareEventConsumer extends AbstractLedgerShareEventConsumer<LedgerShare> {
 
-    private final ObjectMapper objectMapper;
+    private static final List<String> CREATION_TYPES = List.of("LEDGER_SHARE_CREATED");
 
-    public LedgerShareEventConsumer(LedgerShareRepository ledgerShareRepository, ObjectMapper objectMapper) {
+    private final OutboxEventBatchHandler batchHandler;
+    private final LedgerAccessCache ledgerAccessCache;
+
+    public LedgerShareEventConsumer(LedgerShareRepository ledgerShareRepository, OutboxEventBatchHandler batchHandler,
+            LedgerAccessCache ledgerAccessCache) {
         super(ledgerShareRepository);
-        this.objectMapper = objectMapper;
+        this.batchHandler = batchHandler;
+        this.ledgerAccessCache = ledgerAccessCache;
     }
 
     /**
-     * 가계부 공유 이벤트 처리
+     * 가계부 공유 이벤트 배치 처리
      *
-     * <p>StringDeserializer로 수신한 JSON 문자열을 Map으로 파싱 후 처리합니다.</p>
+     * <p>한 번의 poll로 받은 레코드를 바이트에서 바로 {@link LedgerShareSyncEvent}로 바인딩한 뒤
+     * 공유 ID별로 합쳐 마지막 상태만 반영하고, 배치 전체를 하나의 DB 트랜잭션으로 커밋합니다.
+     * 공통 Consumer 처리용 Map은 실제 반영할 이벤트에 대해서만 만듭니다.</p>
+     * <p>파싱/반영에 실패한 레코드는 파티션을 막지 않도록 재시도 토픽으로 넘깁니다 ({@link OutboxEventBatchHandler}).</p>
      */
     @KafkaListener(
             topics = "${kafka.topics.ledger-share-events:ledger-share.events}",
             groupId = "transaction-service-group",
             containerFactory = "outboxEventListenerContainerFactory"
     )
-    @Transactional
-    public void handleLedgerShareEvent(String payload) {
-        try {
-            log.info("[Kafka Consumer] Received ledger share event payload (length={})", payload.length());
+    public void handleLedgerShareEvents(List<ConsumerRecord<String, byte[]>> records) {
+        int applied = batchHandler.handleBatch(records, LedgerShareSyncEvent.class,
+                LedgerShareSyncEvent::getLedgerShareId, LedgerShareSyncEvent::getEventType, CREATION_TYPES,
+                this::apply);
+
+        log.info("[Kafka Consumer] Processed ledger share events: received={}, applied={}", records.size(), applied);
+    }
 
-            // 이중 인코딩 처리: Producer가 JsonSerializer로 JSON 문자열을 한번 더 직렬화한 경우
-            String jsonString = payload;
-            if (jsonString.startsWith("\"") && jsonString.endsWith("\"")) {
-                log.debug("[Kafka Consumer] Detected double-encoded payload, unwrapping...");
-                jsonString = objectMapper.readValue(jsonString, String.class);
-            }
+    /**
+     * 처리 실패 가계부 공유 이벤트 재시도 (레코드 단위, 백오프 후 재시도 → 모두 실패 시 DLT)
+     *
+     * <p>재시도한 이벤트는 같은 키의 이후 이벤트보다 늦게 반영될 수 있습니다.</p>
+     */
+    @RetryableTopic(
+            attempts = "${kafka.retry.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${kafka.retry.delay-ms:1000}",
+                    multiplierExpression = "${kafka.retry.multiplier:4.0}",
+                    maxDelayExpression = "${kafka.retry.max-delay-ms:60000}"),
+            kafkaTemplate = "outboxRetryKafkaTemplate",
+            listenerContainerFactory = "outboxRetryListenerContainerFactory",
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            exclude = UnprocessableEventException.class
+    )
+    @KafkaListener(
+            topics = "${kafka.topics.ledger-share-events:ledger-share.events}"
+                    + OutboxEventBatchHandler.FAILED_TOPIC_SUFFIX,
+            groupId = "transaction-service-group",
+            containerFactory = "outboxRetryListenerContainerFactory"
+    )
+    public void retryLedgerShareEvent(ConsumerRecord<String, byte[]> record) {
+        batchHandler.handleRetry(record, LedgerShareSyncEvent.class, this::apply);
+    }
+
+    @DltHandler
+    public void handleLedgerShareDeadLetter(ConsumerRecord<String, byte[]> record,
+            @Header(name = KafkaHeaders.DLT_EXCEPTION_MESSAGE, required = false) String exceptionMessage) {
+        batchHandler.handleDeadLetter(record, exceptionMessage);
+    }
 
-            Map<String, Object> eventData = objectMapper.readValue(jsonString,
-                    new TypeReference<Map<String, Object>>() {});
-            processLedgerShareEvent(eventData);
-        } catch (Exception e) {
-            log.error("[Kafka Consumer] Failed to parse ledger share event payload: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to parse ledger share event", e);
-        }
+    private void apply(LedgerShareSyncEvent event) {
+        processLedgerShareEvent(event.toEventData());
+        ledgerAccessCache.invalidate(event.getLedgerId(), event.getSharedUserId());
     }
 
     @Override
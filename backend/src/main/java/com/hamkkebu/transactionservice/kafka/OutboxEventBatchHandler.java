@@ -0,0 +1,225 @@
+package com.hamkkebu.transactionservice.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Outbox 이벤트 배치 처리 + 실패 이벤트 재시도 토픽 전달
+ *
+ * <p>배치 리스너는 파티션을 막지 않도록, 처리할 수 없는 레코드를 {@code <원본 토픽>.failed}로 넘기고
+ * 나머지를 계속 처리합니다. 넘겨진 레코드는 각 Consumer의 재시도 리스너(@RetryableTopic)가
+ * 백오프를 두고 재시도하고, 끝내 실패하면 DLT로 보냅니다.</p>
+ * <ol>
+ *   <li>레코드를 타입 이벤트로 바인딩 (실패 시 재시도 토픽으로 전달 → 재시도 없이 DLT)</li>
+ *   <li>키별로 합친 이벤트를 하나의 DB 트랜잭션으로 반영</li>
+ *   <li>배치 트랜잭션이 실패하면 이벤트마다 별도 트랜잭션으로 다시 반영하고, 실패한 이벤트만 재시도 토픽으로 전달</li>
+ * </ol>
+ * <p>재시도 토픽으로 넘긴 이벤트는 같은 키의 이후 이벤트보다 늦게 반영될 수 있습니다 (비차단 재시도의 trade-off).</p>
+ * <p>재시도 토픽 전달 자체가 실패하면(브로커 지연/장애) 반영도 전달도 되지 않은 첫 레코드의 배치 내 위치로
+ * {@link BatchListenerFailedException}을 던집니다. 에러 핸들러는 그 앞의 offset만 커밋하고 그 레코드부터 백오프 후
+ * 다시 전달하므로 이벤트가 유실되지 않습니다. 다시 전달된 레코드 중 이미 반영된 이벤트는 전체 상태를 담고 있어
+ * 다시 반영해도 결과가 같습니다.</p>
+ * <p>지표: {@code kafka.consumer.events}(topic, outcome), {@code kafka.consumer.retries}(topic),
+ * {@code kafka.consumer.dead.letters}(topic)</p>
+ */
+@Slf4j
+@Component
+public class OutboxEventBatchHandler {
+
+    static final String FAILED_TOPIC_SUFFIX = ".failed";
+    static final String HEADER_ORIGINAL_TOPIC = "x-original-topic";
+    static final String HEADER_ORIGINAL_OFFSET = "x-original-offset";
+    static final String HEADER_FAILURE = "x-failure";
+
+    private final OutboxPayloadReader payloadReader;
+    private final TransactionTemplate transactionTemplate;
+    private final KafkaTemplate<String, byte[]> retryKafkaTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kafka.retry.forward-timeout-ms:10000}")
+    private long forwardTimeoutMs;
+
+    public OutboxEventBatchHandler(OutboxPayloadReader payloadReader,
+                                   TransactionTemplate transactionTemplate,
+                                   @Qualifier("outboxRetryKafkaTemplate")
+                                   KafkaTemplate<String, byte[]> retryKafkaTemplate,
+                                   MeterRegistry meterRegistry) {
+        this.payloadReader = payloadReader;
+        this.transactionTemplate = transactionTemplate;
+        this.retryKafkaTemplate = retryKafkaTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 배치 리스너에서 받은 레코드 처리
+     *
+     * @param records       한 번의 poll로 받은 레코드
+     * @param type          바인딩할 이벤트 타입
+     * @param keyOf         합치기 키 (가계부 ID 등)
+     * @param typeOf        이벤트 타입 (LEDGER_CREATED 등)
+     * @param creationTypes 생성 이벤트 타입
+     * @param apply         이벤트 반영 (트랜잭션 안에서 호출됨)
+     * @return 반영한 이벤트 수
+     * @throws BatchListenerFailedException 재시도 토픽 전달에 실패한 경우 (처리되지 않은 첫 레코드 위치)
+     */
+    public <E> int handleBatch(List<ConsumerRecord<String, byte[]>> records, Class<E> type,
+                               Function<E, ?> keyOf, Function<E, String> typeOf, List<String> creationTypes,
+                               Consumer<E> apply) {
+        FailedRecordForwarder forwarder = new FailedRecordForwarder();
+        List<Received<E>> received = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, byte[]> record = records.get(i);
+            try {
+                received.add(new Received<>(i, record, payloadReader.read(record.value(), type)));
+            } catch (Exception e) {
+                log.error("[Kafka Consumer] Failed to parse event: topic={}, offset={}, error={}",
+                        record.topic(), record.offset(), e.getMessage());
+                count(record.topic(), "parse_failed");
+                forwarder.forward(i, record, e);
+            }
+        }
+
+        List<Received<E>> coalesced = EventCoalescer.coalesce(received,
+                r -> keyOf.apply(r.event()), r -> typeOf.apply(r.event()), creationTypes);
+        if (coalesced.isEmpty()) {
+            forwarder.throwIfFailed();
+            return 0;
+        }
+        String topic = coalesced.get(0).record().topic();
+        count(topic, "coalesced", received.size() - coalesced.size());
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> coalesced.forEach(r -> apply.accept(r.event())));
+            count(topic, "applied", coalesced.size());
+            forwarder.throwIfFailed();
+            return coalesced.size();
+        } catch (Exception batchFailure) {
+            log.warn("[Kafka Consumer] Batch apply failed, retrying events one by one: topic={}, events={}, error={}",
+                    topic, coalesced.size(), batchFailure.getMessage());
+        }
+
+        // 배치 실패 시 이벤트별 트랜잭션으로 재시도, 실패한 이벤트만 재시도 토픽으로
+        int applied = 0;
+        for (Received<E> r : coalesced) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> apply.accept(r.event()));
+                applied++;
+            } catch (Exception e) {
+                log.error("[Kafka Consumer] Failed to apply event: topic={}, offset={}, error={}",
+                        r.record().topic(), r.record().offset(), e.getMessage());
+                forwarder.forward(r.index(), r.record(), e);
+            }
+        }
+        count(topic, "applied", applied);
+        forwarder.throwIfFailed();
+        return applied;
+    }
+
+    /**
+     * 재시도 토픽 리스너에서 받은 레코드 처리 (실패 시 예외를 던져 다음 재시도/DLT로 넘김)
+     */
+    public <E> void handleRetry(ConsumerRecord<String, byte[]> record, Class<E> type, Consumer<E> apply) {
+        meterRegistry.counter("kafka.consumer.retries", "topic", record.topic()).increment();
+
+        E event;
+        try {
+            event = payloadReader.read(record.value(), type);
+        } catch (Exception e) {
+            throw new UnprocessableEventException("이벤트 payload를 파싱할 수 없습니다: " + e.getMessage(), e);
+        }
+        transactionTemplate.executeWithoutResult(status -> apply.accept(event));
+    }
+
+    /**
+     * DLT에 도착한 레코드 기록
+     */
+    public void handleDeadLetter(ConsumerRecord<String, byte[]> record, String exceptionMessage) {
+        meterRegistry.counter("kafka.consumer.dead.letters", "topic", record.topic()).increment();
+        log.error("[Kafka Consumer] Event dead-lettered: topic={}, partition={}, offset={}, key={}, error={}",
+                record.topic(), record.partition(), record.offset(), record.key(), exceptionMessage);
+    }
+
+    /**
+     * 실패한 레코드를 재시도 토픽으로 전달 (전송 확인 후 반환)
+     */
+    private void forward(ConsumerRecord<String, byte[]> record, Exception cause) {
+        ProducerRecord<String, byte[]> failed = new ProducerRecord<>(
+                record.topic() + FAILED_TOPIC_SUFFIX, record.key(), record.value());
+        failed.headers().add(HEADER_ORIGINAL_TOPIC, record.topic().getBytes(StandardCharsets.UTF_8));
+        failed.headers().add(HEADER_ORIGINAL_OFFSET,
+                (record.partition() + ":" + record.offset()).getBytes(StandardCharsets.UTF_8));
+        failed.headers().add(HEADER_FAILURE,
+                String.valueOf(cause.getMessage()).getBytes(StandardCharsets.UTF_8));
+
+        try {
+            retryKafkaTemplate.send(failed).get(forwardTimeoutMs, TimeUnit.MILLISECONDS);
+            count(record.topic(), "forwarded");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 토픽 전달 중단: " + failed.topic(), e);
+        } catch (Exception e) {
+            throw new IllegalStateException("재시도 토픽 전달 실패: " + failed.topic(), e);
+        }
+    }
+
+    private void count(String topic, String outcome) {
+        count(topic, outcome, 1);
+    }
+
+    private void count(String topic, String outcome, int amount) {
+        if (amount > 0) {
+            meterRegistry.counter("kafka.consumer.events", "topic", topic, "outcome", outcome).increment(amount);
+        }
+    }
+
+    private record Received<E>(int index, ConsumerRecord<String, byte[]> record, E event) {
+    }
+
+    /**
+     * 배치 안의 실패 레코드 전달 + 전달하지 못한 레코드의 최소 위치 기록
+     *
+     * <p>한 번 전달에 실패하면 같은 배치에서는 더 전달을 시도하지 않고 위치만 기록합니다
+     * (브로커 장애 중 레코드마다 전송 타임아웃을 기다려 poll 간격을 넘기지 않도록).</p>
+     */
+    private final class FailedRecordForwarder {
+
+        private Exception failure;
+        private int firstFailedIndex = Integer.MAX_VALUE;
+
+        void forward(int index, ConsumerRecord<String, byte[]> record, Exception cause) {
+            if (failure == null) {
+                try {
+                    OutboxEventBatchHandler.this.forward(record, cause);
+                    return;
+                } catch (IllegalStateException e) {
+                    log.error("[Kafka Consumer] Failed to forward event: topic={}, offset={}, error={}",
+                            record.topic(), record.offset(), e.getMessage());
+                    failure = e;
+                }
+            }
+            count(record.topic(), "forward_failed");
+            firstFailedIndex = Math.min(firstFailedIndex, index);
+        }
+
+        void throwIfFailed() {
+            if (failure != null) {
+                throw new BatchListenerFailedException(failure.getMessage(), failure, firstFailedIndex);
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.hamkkebu.transactionservice.kafka;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Outbox 이벤트 payload(byte[]) → 타입 이벤트 바인딩
+ *
+ * <p>ByteArrayDeserializer로 받은 바이트를 String으로 만들지 않고 바로 파싱합니다.
+ * 첫 토큰으로 이중 인코딩 여부를 판단하므로 한 번의 파싱으로 처리됩니다.</p>
+ * <ul>
+ *   <li>일반 payload ({@code {...}}): 바이트에서 바로 타입 객체로 바인딩</li>
+ *   <li>이중 인코딩 payload ({@code "{...}"}, Producer가 JSON 문자열을 한번 더 직렬화한 경우):
+ *       문자열 토큰의 문자 버퍼를 그대로 안쪽 JSON 파서 입력으로 사용</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPayloadReader {
+
+    private final ObjectMapper objectMapper;
+
+    public <T> T read(byte[] payload, Class<T> type) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(payload)) {
+            JsonToken first = parser.nextToken();
+            if (first != JsonToken.VALUE_STRING) {
+                return objectMapper.readValue(parser, type);
+            }
+
+            try (JsonParser inner = objectMapper.getFactory().createParser(
+                    parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength())) {
+                return objectMapper.readValue(inner, type);
+            }
+        }
+    }
+}
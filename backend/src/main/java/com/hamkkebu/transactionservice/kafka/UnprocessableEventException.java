@@ -0,0 +1,13 @@
+package com.hamkkebu.transactionservice.kafka;
+
+/**
+ * 재시도해도 처리할 수 없는 이벤트 (payload 파싱 실패 등)
+ *
+ * <p>재시도 토픽 리스너에서 이 예외가 발생하면 재시도 없이 바로 DLT로 보냅니다.</p>
+ */
+public class UnprocessableEventException extends RuntimeException {
+
+    public UnprocessableEventException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -7,9 +7,12 @@ import com.hamkkebu.transactionservice.grpc.client.AuthServiceGrpcClient;
 import com.hamkkebu.transactionservice.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -23,25 +26,91 @@ import java.util.Optional;
 @Component
 public class UserEventConsumer extends AbstractUserEventConsumer<User> {
 
+    private static final List<String> CREATION_TYPES = List.of("USER_REGISTERED");
+
     private final AuthServiceGrpcClient authServiceGrpcClient;
+    private final TransactionTemplate transactionTemplate;
 
     public UserEventConsumer(UserRepository userRepository,
-                             AuthServiceGrpcClient authServiceGrpcClient) {
+                             AuthServiceGrpcClient authServiceGrpcClient,
+                             TransactionTemplate transactionTemplate) {
         super(userRepository);
         this.authServiceGrpcClient = authServiceGrpcClient;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
-     * 사용자 이벤트 처리 (USER_REGISTERED, USER_DELETED)
+     * 사용자 이벤트 배치 처리 (USER_REGISTERED, USER_DELETED)
+     *
+     * <p>한 번의 poll로 받은 이벤트를 사용자 ID별로 합쳐 마지막 상태만 반영하고,
+     * 배치 전체를 하나의 DB 트랜잭션으로 커밋합니다.</p>
+     * <p>배치 트랜잭션이 실패하면 이벤트마다 별도 트랜잭션으로 다시 반영하고, 처음 실패한 이벤트의
+     * 배치 내 위치로 {@link BatchListenerFailedException}을 던집니다. 에러 핸들러는 그 앞의 offset만 커밋하고
+     * 실패한 레코드부터 다시 전달하며, 재시도가 모두 실패하면 그 레코드만 건너뜁니다.</p>
      */
     @KafkaListener(
             topics = "${kafka.topics.user-events:user.events}",
             groupId = "transaction-service-group",
             containerFactory = "transactionKafkaListenerContainerFactory"
     )
-    @Transactional
-    public void handleUserEvent(Map<String, Object> eventData) {
-        processUserEvent(eventData);
+    public void handleUserEvents(List<Map<String, Object>> events) {
+        List<Received> received = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            received.add(new Received(i, events.get(i)));
+        }
+        List<Received> coalesced = EventCoalescer.coalesce(received, r -> userIdOf(r.event()),
+                r -> eventTypeOf(r.event()), CREATION_TYPES);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> coalesced.forEach(r -> processUserEvent(r.event())));
+        } catch (Exception batchFailure) {
+            log.warn("[Kafka Consumer] User event batch failed, retrying events one by one: events={}, error={}",
+                    coalesced.size(), batchFailure.getMessage());
+            applyOneByOne(coalesced);
+        }
+
+        log.info("[Kafka Consumer] Processed user events: received={}, applied={}", events.size(), coalesced.size());
+    }
+
+    /**
+     * 이벤트별 트랜잭션으로 반영 (실패한 이벤트에서 멈추고 배치 내 위치를 에러 핸들러에 전달)
+     */
+    private void applyOneByOne(List<Received> coalesced) {
+        for (Received r : coalesced) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> processUserEvent(r.event()));
+            } catch (Exception e) {
+                log.error("[Kafka Consumer] Failed to apply user event: index={}, userId={}, eventType={}, error={}",
+                        r.index(), userIdOf(r.event()), eventTypeOf(r.event()), e.getMessage());
+                throw new BatchListenerFailedException("사용자 이벤트 처리 실패: " + e.getMessage(), e, r.index());
+            }
+        }
+    }
+
+    /**
+     * 배치 내 위치를 보존한 수신 이벤트 (합친 뒤에도 실패 레코드의 위치를 알 수 있도록)
+     */
+    private record Received(int index, Map<String, Object> event) {
+    }
+
+    private static String eventTypeOf(Map<String, Object> eventData) {
+        Object eventType = eventData.get("eventType");
+        return eventType != null ? eventType.toString() : null;
+    }
+
+    private static Long userIdOf(Map<String, Object> eventData) {
+        Object userId = eventData.get("userId");
+        if (userId instanceof Number number) {
+            return number.longValue();
+        }
+        if (userId instanceof String text && !text.isBlank()) {
+            try {
+                return Long.parseLong(text.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
     }
 
     @Override
@@ -0,0 +1,59 @@
+package com.hamkkebu.transactionservice.kafka.event;
+
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ledger-service 가계부 이벤트 (LEDGER_CREATED, LEDGER_UPDATED, LEDGER_DELETED)
+ *
+ * <p>Outbox payload를 바이트에서 바로 바인딩합니다. 이 서비스가 쓰는 필드만 타입 필드로 두고,
+ * 나머지 필드는 공통 Consumer 처리에 그대로 넘기기 위해 보관합니다.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class LedgerSyncEvent {
+
+    private String eventType;
+    private Long ledgerId;
+    private Long userId;
+    private String name;
+    private String description;
+    private String currency;
+    private Boolean isDefault;
+
+    @JsonIgnore
+    private final Map<String, Object> otherFields = new HashMap<>(4);
+
+    @JsonAnySetter
+    public void putOtherField(String field, Object value) {
+        otherFields.put(field, value);
+    }
+
+    /**
+     * 공통 Consumer(AbstractLedgerEventConsumer) 처리용 Map으로 변환 (실제 반영할 이벤트만 변환)
+     */
+    public Map<String, Object> toEventData() {
+        Map<String, Object> eventData = new HashMap<>(otherFields);
+        putIfNotNull(eventData, "eventType", eventType);
+        putIfNotNull(eventData, "ledgerId", ledgerId);
+        putIfNotNull(eventData, "userId", userId);
+        putIfNotNull(eventData, "name", name);
+        putIfNotNull(eventData, "description", description);
+        putIfNotNull(eventData, "currency", currency);
+        putIfNotNull(eventData, "isDefault", isDefault);
+        return eventData;
+    }
+
+    private static void putIfNotNull(Map<String, Object> eventData, String field, Object value) {
+        if (value != null) {
+            eventData.put(field, value);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.hamkkebu.transactionservice.kafka.event;
 
+import com.hamkkebu.transactionservice.data.entity.Transaction;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,9 +15,17 @@ import java.util.UUID;
  * 거래 이벤트 DTO
  *
  * <p>transaction-service에서 발행하는 거래 관련 이벤트입니다.</p>
+ * <p>하위 서비스(예산/통계)가 거래 서비스를 다시 조회하지 않고 자체 projection을 유지할 수 있도록
+ * 거래 전체 상태와 버전을 싣습니다.</p>
+ * <ul>
+ *   <li>version: 거래가 변경될 때마다 증가합니다. 저장된 버전보다 큰 이벤트만 반영하면
+ *       중복/순서가 뒤바뀐 이벤트를 걸러낼 수 있습니다 (같은 버전은 같은 상태).</li>
+ *   <li>previous*: 수정 이벤트에만 있으며, 집계 projection이 이전 값을 빼고 새 값을 더할 수 있게 합니다.</li>
+ *   <li>삭제 이벤트도 삭제 직전 상태를 그대로 싣습니다.</li>
+ * </ul>
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class TransactionEvent {
@@ -31,6 +40,7 @@ public class TransactionEvent {
 
     // 거래 정보
     private Long transactionId;
+    private Long version;
     private Long ledgerId;
     private Long userId;
     private String type;  // INCOME, EXPENSE
@@ -39,53 +49,57 @@ public class TransactionEvent {
     private String category;
     private LocalDate transactionDate;
     private String memo;
+    private String sourceType;  // MANUAL, CODEF
+    private Long cardId;
+    private Long bankAccountId;
 
-    public static TransactionEvent created(Long transactionId, Long ledgerId, Long userId,
-                                           String type, BigDecimal amount, String description,
-                                           String category, LocalDate transactionDate, String memo) {
-        return TransactionEvent.builder()
-                .eventId(UUID.randomUUID().toString())
-                .eventType(EVENT_TYPE_CREATED)
-                .timestamp(LocalDateTime.now())
-                .transactionId(transactionId)
-                .ledgerId(ledgerId)
-                .userId(userId)
-                .type(type)
-                .amount(amount)
-                .description(description)
-                .category(category)
-                .transactionDate(transactionDate)
-                .memo(memo)
-                .build();
+    // 수정 전 값 (TRANSACTION_UPDATED 전용)
+    private Long previousLedgerId;
+    private String previousType;
+    private BigDecimal previousAmount;
+    private LocalDate previousTransactionDate;
+
+    public static TransactionEvent created(Transaction transaction) {
+        return of(EVENT_TYPE_CREATED, transaction).build();
     }
 
-    public static TransactionEvent updated(Long transactionId, Long ledgerId, Long userId,
-                                           String type, BigDecimal amount, String description,
-                                           String category, LocalDate transactionDate, String memo) {
-        return TransactionEvent.builder()
-                .eventId(UUID.randomUUID().toString())
-                .eventType(EVENT_TYPE_UPDATED)
-                .timestamp(LocalDateTime.now())
-                .transactionId(transactionId)
-                .ledgerId(ledgerId)
-                .userId(userId)
-                .type(type)
-                .amount(amount)
-                .description(description)
-                .category(category)
-                .transactionDate(transactionDate)
-                .memo(memo)
+    /**
+     * @param previousLedgerId        수정 전 가계부 ID
+     * @param previousType            수정 전 거래 유형
+     * @param previousAmount          수정 전 금액
+     * @param previousTransactionDate 수정 전 거래일
+     */
+    public static TransactionEvent updated(Transaction transaction, Long previousLedgerId, String previousType,
+                                           BigDecimal previousAmount, LocalDate previousTransactionDate) {
+        return of(EVENT_TYPE_UPDATED, transaction)
+                .previousLedgerId(previousLedgerId)
+                .previousType(previousType)
+                .previousAmount(previousAmount)
+                .previousTransactionDate(previousTransactionDate)
                 .build();
     }
 
-    public static TransactionEvent deleted(Long transactionId, Long ledgerId, Long userId) {
+    public static TransactionEvent deleted(Transaction transaction) {
+        return of(EVENT_TYPE_DELETED, transaction).build();
+    }
+
+    private static TransactionEventBuilder of(String eventType, Transaction transaction) {
         return TransactionEvent.builder()
                 .eventId(UUID.randomUUID().toString())
-                .eventType(EVENT_TYPE_DELETED)
+                .eventType(eventType)
                 .timestamp(LocalDateTime.now())
-                .transactionId(transactionId)
-                .ledgerId(ledgerId)
-                .userId(userId)
-                .build();
+                .transactionId(transaction.getId())
+                .version(transaction.getVersion())
+                .ledgerId(transaction.getLedgerId())
+                .userId(transaction.getUserId())
+                .type(transaction.getType() != null ? transaction.getType().name() : null)
+                .amount(transaction.getAmount())
+                .description(transaction.getDescription())
+                .category(transaction.getCategory())
+                .transactionDate(transaction.getTransactionDate())
+                .memo(transaction.getMemo())
+                .sourceType(transaction.getSourceType() != null ? transaction.getSourceType().name() : null)
+                .cardId(transaction.getCardId())
+                .bankAccountId(transaction.getBankAccountId());
     }
 }
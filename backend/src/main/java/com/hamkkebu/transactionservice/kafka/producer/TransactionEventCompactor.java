@@ -0,0 +1,76 @@
+package com.hamkkebu.transactionservice.kafka.producer;
+
+import com.hamkkebu.transactionservice.kafka.event.TransactionEvent;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * relay가 한 번에 가져온 거래 이벤트를 거래별로 합치는 유틸리티
+ *
+ * <p>이벤트는 거래 전체 상태를 담고 있으므로, 아직 발행하지 않은 연속 이벤트는 아래 규칙으로 합칠 수 있습니다.</p>
+ * <ul>
+ *   <li>생성 → 수정: 마지막 상태의 생성 이벤트 하나</li>
+ *   <li>생성 → 삭제: 둘 다 발행하지 않음 (하위 서비스는 거래를 본 적이 없음)</li>
+ *   <li>수정 → 수정: 마지막 상태 + 첫 수정의 이전 값을 가진 수정 이벤트 하나</li>
+ *   <li>그 외 (수정 → 삭제, 알 수 없는 타입, 거래 ID 없음 등): 합치지 않음</li>
+ * </ul>
+ * <p>거래 간 순서는 처음 나온 순서를, 같은 거래의 이벤트는 발생 순서를 유지합니다.</p>
+ */
+final class TransactionEventCompactor {
+
+    private TransactionEventCompactor() {
+    }
+
+    static List<TransactionEvent> compact(List<TransactionEvent> events) {
+        Map<Long, List<TransactionEvent>> byTransaction = new LinkedHashMap<>();
+        List<TransactionEvent> result = new ArrayList<>(events.size());
+
+        for (TransactionEvent event : events) {
+            if (event.getTransactionId() == null) {
+                result.add(event);
+                continue;
+            }
+
+            List<TransactionEvent> pending = byTransaction.computeIfAbsent(event.getTransactionId(),
+                    id -> new ArrayList<>(1));
+            if (pending.isEmpty()) {
+                pending.add(event);
+                continue;
+            }
+
+            TransactionEvent last = pending.get(pending.size() - 1);
+            String lastType = last.getEventType();
+            String type = event.getEventType();
+
+            if (TransactionEvent.EVENT_TYPE_CREATED.equals(lastType)
+                    && TransactionEvent.EVENT_TYPE_UPDATED.equals(type)) {
+                pending.set(pending.size() - 1, event.toBuilder()
+                        .eventType(TransactionEvent.EVENT_TYPE_CREATED)
+                        .previousLedgerId(null)
+                        .previousType(null)
+                        .previousAmount(null)
+                        .previousTransactionDate(null)
+                        .build());
+            } else if (TransactionEvent.EVENT_TYPE_CREATED.equals(lastType)
+                    && TransactionEvent.EVENT_TYPE_DELETED.equals(type)) {
+                pending.remove(pending.size() - 1);
+            } else if (TransactionEvent.EVENT_TYPE_UPDATED.equals(lastType)
+                    && TransactionEvent.EVENT_TYPE_UPDATED.equals(type)) {
+                pending.set(pending.size() - 1, event.toBuilder()
+                        .previousLedgerId(last.getPreviousLedgerId())
+                        .previousType(last.getPreviousType())
+                        .previousAmount(last.getPreviousAmount())
+                        .previousTransactionDate(last.getPreviousTransactionDate())
+                        .build());
+            } else {
+                pending.add(event);
+            }
+        }
+
+        byTransaction.values().forEach(result::addAll);
+        return result;
+    }
+}
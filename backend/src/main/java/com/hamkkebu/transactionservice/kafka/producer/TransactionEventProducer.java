@@ -1,20 +1,21 @@
 package com.hamkkebu.transactionservice.kafka.producer;
 
-import com.hamkkebu.boilerplate.common.publisher.OutboxEventPublisher;
-import com.hamkkebu.boilerplate.data.event.TransactionCreatedEvent;
-import com.hamkkebu.boilerplate.data.event.TransactionDeletedEvent;
-import com.hamkkebu.boilerplate.data.event.TransactionUpdatedEvent;
 import com.hamkkebu.transactionservice.data.entity.Transaction;
+import com.hamkkebu.transactionservice.kafka.event.TransactionEvent;
+import com.hamkkebu.transactionservice.repository.TransactionOutboxRepository;
+import com.hamkkebu.transactionservice.service.TransactionRollupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * 거래 이벤트 Producer (Transactional Outbox 패턴)
  *
- * <p>거래 생성/수정/삭제 시 Outbox 테이블에 이벤트를 저장합니다.</p>
- * <p>실제 Kafka 발행은 OutboxEventScheduler가 비동기로 처리합니다.</p>
+ * <p>거래 생성/수정/삭제 시 거래 이벤트 전용 Outbox 테이블(tbl_transaction_outbox)에 이벤트를 저장합니다.</p>
+ * <p>실제 Kafka 발행은 {@link TransactionOutboxRelay}가 배치 단위로 합쳐서 비동기로 처리합니다.</p>
  *
  * <p>장점:</p>
  * <ul>
@@ -22,16 +23,19 @@ import org.springframework.stereotype.Component;
  *   <li>이벤트 발행 실패 시에도 데이터 손실 방지</li>
  *   <li>재시도 메커니즘으로 일시적 장애 대응</li>
  * </ul>
+ *
+ * <p>이벤트는 {@link TransactionEvent}로 거래 전체 상태와 버전을 싣습니다.
+ * 버전이 커밋될 값과 같도록 호출 전에 변경 내용을 flush해야 합니다.</p>
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class TransactionEventProducer {
 
-    private final OutboxEventPublisher outboxEventPublisher;
+    private final TransactionOutboxRepository transactionOutboxRepository;
 
-    @Value("${kafka.topics.transaction-events:transaction.events}")
-    private String transactionEventsTopic;
+    @Value("${transaction.batch.size:500}")
+    private int batchSize;
 
     /**
      * 거래 생성 이벤트 발행 (Outbox 테이블에 저장)
@@ -39,34 +43,22 @@ public class TransactionEventProducer {
      * <p>반드시 @Transactional 메서드 내에서 호출해야 합니다.</p>
      */
     public void publishTransactionCreated(Transaction transaction) {
-        TransactionCreatedEvent event = TransactionCreatedEvent.builder()
-                .transactionId(transaction.getId().toString())
-                .userId(transaction.getUserId().toString())
-                .ledgerId(transaction.getLedgerId().toString())
-                .build();
-
-        outboxEventPublisher.publish(transactionEventsTopic, event);
-
-        log.info("[Outbox] Transaction created event saved: eventId={}, transactionId={}, ledgerId={}",
-                event.getEventId(), transaction.getId(), transaction.getLedgerId());
+        publish(TransactionEvent.created(transaction));
     }
 
     /**
      * 거래 수정 이벤트 발행 (Outbox 테이블에 저장)
      *
      * <p>반드시 @Transactional 메서드 내에서 호출해야 합니다.</p>
+     *
+     * @param previous 수정 전 가계부/거래일/유형/금액
      */
-    public void publishTransactionUpdated(Transaction transaction) {
-        TransactionUpdatedEvent event = TransactionUpdatedEvent.builder()
-                .transactionId(transaction.getId().toString())
-                .userId(transaction.getUserId().toString())
-                .ledgerId(transaction.getLedgerId().toString())
-                .build();
-
-        outboxEventPublisher.publish(transactionEventsTopic, event);
-
-        log.info("[Outbox] Transaction updated event saved: eventId={}, transactionId={}, ledgerId={}",
-                event.getEventId(), transaction.getId(), transaction.getLedgerId());
+    public void publishTransactionUpdated(Transaction transaction, TransactionRollupService.RollupEntry previous) {
+        publish(TransactionEvent.updated(transaction,
+                previous.ledgerId(),
+                previous.type() != null ? previous.type().name() : null,
+                previous.amount(),
+                previous.transactionDate()));
     }
 
     /**
@@ -75,15 +67,28 @@ public class TransactionEventProducer {
      * <p>반드시 @Transactional 메서드 내에서 호출해야 합니다.</p>
      */
     public void publishTransactionDeleted(Transaction transaction) {
-        TransactionDeletedEvent event = TransactionDeletedEvent.builder()
-                .transactionId(transaction.getId().toString())
-                .userId(transaction.getUserId().toString())
-                .ledgerId(transaction.getLedgerId().toString())
-                .build();
+        publish(TransactionEvent.deleted(transaction));
+    }
+
+    /**
+     * 여러 거래 이벤트 일괄 발행 (일괄 API/가져오기용, Outbox에 multi-row INSERT로 저장)
+     *
+     * <p>반드시 @Transactional 메서드 내에서 호출해야 합니다.</p>
+     */
+    public void publishAll(List<TransactionEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        transactionOutboxRepository.appendAll(events, batchSize);
+
+        log.info("[Outbox] Transaction events saved in batch: count={}", events.size());
+    }
 
-        outboxEventPublisher.publish(transactionEventsTopic, event);
+    private void publish(TransactionEvent event) {
+        transactionOutboxRepository.append(event);
 
-        log.info("[Outbox] Transaction deleted event saved: eventId={}, transactionId={}, ledgerId={}",
-                event.getEventId(), transaction.getId(), transaction.getLedgerId());
+        log.info("[Outbox] Transaction event saved: eventId={}, eventType={}, transactionId={}, version={}, "
+                        + "ledgerId={}", event.getEventId(), event.getEventType(), event.getTransactionId(),
+                event.getVersion(), event.getLedgerId());
     }
 }
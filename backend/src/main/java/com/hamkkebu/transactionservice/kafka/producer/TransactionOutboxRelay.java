@@ -0,0 +1,161 @@
+package com.hamkkebu.transactionservice.kafka.producer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hamkkebu.transactionservice.kafka.event.TransactionEvent;
+import com.hamkkebu.transactionservice.repository.TransactionOutboxRepository;
+import com.hamkkebu.transactionservice.repository.TransactionOutboxRepository.OutboxRow;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 이벤트 Outbox 배치 relay
+ *
+ * <p>tbl_transaction_outbox에서 batch-size건씩 {@code FOR UPDATE SKIP LOCKED}로 가져가
+ * 같은 거래의 이벤트를 합친 뒤({@link TransactionEventCompactor}) 한 번에 전송하고,
+ * 모든 전송이 확인되면 가져온 행을 일괄 삭제합니다. 전송이 하나라도 실패하면 롤백해 다음 실행에서 다시 보냅니다.</p>
+ * <ul>
+ *   <li>여러 인스턴스가 동시에 실행해도 서로 다른 행을 가져가므로 리스가 필요 없습니다.</li>
+ *   <li>가져온 건수가 batch-size와 같으면 (쌓인 이벤트가 더 있으면) 쉬지 않고 다음 배치를 처리합니다.
+ *       max-drain 시간을 넘기면 다음 실행으로 넘깁니다.</li>
+ *   <li>메시지 키는 거래 ID라 같은 거래의 이벤트는 같은 파티션에 순서대로 쌓입니다. 인스턴스 간 전송 순서가
+ *       뒤바뀌는 경우는 이벤트 버전으로 하위 서비스가 걸러냅니다.</li>
+ * </ul>
+ * <p>지표: {@code transaction.outbox.relay.events}(outcome=claimed/compacted/published/unreadable)</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "transaction.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class TransactionOutboxRelay {
+
+    private static final String METRIC_NAME = "transaction.outbox.relay.events";
+
+    private final TransactionOutboxRepository outboxRepository;
+    private final KafkaTemplate<String, TransactionEvent> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kafka.topics.transaction-events:transaction.events}")
+    private String transactionEventsTopic;
+
+    @Value("${transaction.outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${transaction.outbox.relay.send-timeout:30s}")
+    private Duration sendTimeout;
+
+    @Value("${transaction.outbox.relay.max-drain:10s}")
+    private Duration maxDrain;
+
+    public TransactionOutboxRelay(TransactionOutboxRepository outboxRepository,
+                                  KafkaTemplate<String, TransactionEvent> kafkaTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 쌓인 이벤트 발행 (실행 간격이 같은 거래의 이벤트를 합치는 window 역할)
+     */
+    @Scheduled(fixedDelayString = "${transaction.outbox.relay.interval:PT1S}")
+    public void relay() {
+        long deadline = System.nanoTime() + maxDrain.toNanos();
+        try {
+            int claimed;
+            do {
+                Integer result = transactionTemplate.execute(status -> relayBatch());
+                claimed = result != null ? result : 0;
+            } while (claimed == batchSize && System.nanoTime() < deadline);
+        } catch (Exception e) {
+            log.warn("[Outbox] Transaction event relay failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 한 배치 가져오기 → 합치기 → 전송 → 삭제 (relay 트랜잭션 안에서 실행)
+     *
+     * @return 가져온 행 수
+     */
+    private int relayBatch() {
+        List<OutboxRow> rows = outboxRepository.claim(batchSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = new ArrayList<>(rows.size());
+        List<TransactionEvent> events = new ArrayList<>(rows.size());
+        int unreadable = 0;
+        for (OutboxRow row : rows) {
+            ids.add(row.id());
+            TransactionEvent event = read(row);
+            if (event != null) {
+                events.add(event);
+            } else {
+                unreadable++;
+            }
+        }
+
+        List<TransactionEvent> compacted = TransactionEventCompactor.compact(events);
+        List<CompletableFuture<SendResult<String, TransactionEvent>>> sends = new ArrayList<>(compacted.size());
+        for (TransactionEvent event : compacted) {
+            String key = event.getTransactionId() != null ? event.getTransactionId().toString() : null;
+            sends.add(kafkaTemplate.send(transactionEventsTopic, key, event));
+        }
+        kafkaTemplate.flush();
+
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("거래 이벤트 전송 중단", e);
+        } catch (Exception e) {
+            // 롤백되어 가져온 행은 다음 실행에서 다시 전송 (일부 중복 발행은 eventId/버전으로 하위 서비스가 걸러냄)
+            throw new IllegalStateException("거래 이벤트 전송 실패", e);
+        }
+
+        outboxRepository.deleteByIds(ids);
+
+        count("claimed", rows.size());
+        count("unreadable", unreadable);
+        count("compacted", events.size() - compacted.size());
+        count("published", compacted.size());
+        log.debug("[Outbox] Relayed transaction events: claimed={}, published={}", rows.size(), compacted.size());
+        return rows.size();
+    }
+
+    private TransactionEvent read(OutboxRow row) {
+        try {
+            return objectMapper.readValue(row.payload(), TransactionEvent.class);
+        } catch (Exception e) {
+            // 다시 읽어도 같은 결과이므로 relay 전체를 막지 않도록 payload를 로그로 남기고 제외
+            log.error("[Outbox] Unreadable transaction event payload, dropping: id={}, payload={}, error={}",
+                    row.id(), row.payload(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void count(String outcome, int amount) {
+        if (amount > 0) {
+            meterRegistry.counter(METRIC_NAME, "outcome", outcome).increment(amount);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.hamkkebu.transactionservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+/**
+ * Codef 일일 호출 한도 JDBC Repository
+ *
+ * <p>(서비스 타입, 날짜)별 호출 수를 모든 레플리카가 같은 행에서 세므로, 인스턴스 수나 재시작과 관계없이
+ * 하루 한도를 넘지 않습니다. 행은 (서비스 타입, 날짜)당 하나이므로 따로 정리하지 않습니다.
+ * 각 문장은 행 잠금 하나로 끝나므로 호출자 트랜잭션 없이 문장 단위로 커밋됩니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class CodefCallQuotaRepository {
+
+    private static final String INSERT_QUOTA_SQL =
+            "INSERT IGNORE INTO tbl_codef_call_quota (service_type, quota_date, call_count) VALUES (?, ?, 0)";
+
+    // 한도 안에서만 증가 (행 잠금으로 원자적, 한도에 도달하면 0건 갱신)
+    private static final String CONSUME_QUOTA_SQL =
+            "UPDATE tbl_codef_call_quota SET call_count = call_count + 1 " +
+            "WHERE service_type = ? AND quota_date = ? AND call_count < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 호출 1회 차감
+     *
+     * @return 한도 안이면 true (호출 수 증가), 한도에 도달했으면 false
+     */
+    public boolean tryConsume(String serviceType, LocalDate quotaDate, int dailyLimit) {
+        jdbcTemplate.update(INSERT_QUOTA_SQL, serviceType, quotaDate);
+        return jdbcTemplate.update(CONSUME_QUOTA_SQL, serviceType, quotaDate, dailyLimit) == 1;
+    }
+}
@@ -1,7 +1,10 @@
 package com.hamkkebu.transactionservice.repository;
 
 import com.hamkkebu.transactionservice.data.entity.LinkedCard;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -27,9 +30,26 @@ public interface LinkedCardRepository extends JpaRepository<LinkedCard, Long> {
     Optional<LinkedCard> findByLinkedCardIdAndUserIdAndIsDeletedFalse(Long linkedCardId, Long userId);
 
     /**
-     * 삭제 후 유예기간(30일) 지난 카드 조회 (hard delete 대상)
+     * 특정 연동 카드 조회 (활성 상태, 사용자 무관 - 백그라운드 동기화용)
      */
-    List<LinkedCard> findByIsDeletedTrueAndDeletedAtBefore(LocalDateTime cutoffDate);
+    Optional<LinkedCard> findByLinkedCardIdAndIsDeletedFalse(Long linkedCardId);
+
+    /**
+     * 전체 활성 연동 카드 목록 조회 (마지막 동기화가 오래된 카드부터, 미동기화 카드 우선)
+     */
+    @Query("SELECT c FROM LinkedCard c WHERE c.isDeleted = false " +
+           "ORDER BY c.lastSyncedAt ASC NULLS FIRST, c.linkedCardId ASC")
+    List<LinkedCard> findAllActiveForSync();
+
+    /**
+     * 삭제 후 유예기간 지난 카드 ID 조회 (hard delete 대상, afterId 이후부터 ID 순 - 정리 작업 재개용)
+     */
+    @Query("SELECT c.linkedCardId FROM LinkedCard c " +
+           "WHERE c.isDeleted = true AND c.deletedAt < :cutoffDate AND c.linkedCardId > :afterId " +
+           "ORDER BY c.linkedCardId ASC")
+    List<Long> findExpiredIdsAfter(@Param("cutoffDate") LocalDateTime cutoffDate,
+                                   @Param("afterId") Long afterId,
+                                   Pageable pageable);
 
     /**
      * Connected ID로 카드 존재 여부 확인
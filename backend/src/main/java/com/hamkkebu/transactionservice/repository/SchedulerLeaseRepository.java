@@ -0,0 +1,91 @@
+package com.hamkkebu.transactionservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 스케줄 작업 리스 / 인스턴스 heartbeat JDBC Repository
+ *
+ * <p>만료 판정은 인스턴스 간 시계 차이를 피하기 위해 모두 DB 시각(NOW(3))으로 합니다.
+ * 각 문장은 행 잠금 하나로 끝나므로 호출자 트랜잭션 없이 문장 단위로 커밋됩니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class SchedulerLeaseRepository {
+
+    private static final String INSERT_LEASE_SQL =
+            "INSERT IGNORE INTO tbl_scheduler_leases (lease_name, owner_id, acquired_at, expires_at) " +
+            "VALUES (?, ?, NOW(3), DATE_ADD(NOW(3), INTERVAL ? MICROSECOND))";
+
+    // 만료됐거나 자신이 가진 리스만 가져옴 (행 잠금으로 원자적)
+    private static final String TAKE_OVER_LEASE_SQL =
+            "UPDATE tbl_scheduler_leases " +
+            "SET owner_id = ?, acquired_at = NOW(3), expires_at = DATE_ADD(NOW(3), INTERVAL ? MICROSECOND) " +
+            "WHERE lease_name = ? AND (expires_at <= NOW(3) OR owner_id = ?)";
+
+    // 해제 시에도 획득 후 최소 보유 시간까지는 유지 (시계가 늦은 인스턴스의 같은 cron 재실행 방지)
+    private static final String RELEASE_LEASE_SQL =
+            "UPDATE tbl_scheduler_leases " +
+            "SET expires_at = GREATEST(NOW(3), DATE_ADD(acquired_at, INTERVAL ? MICROSECOND)) " +
+            "WHERE lease_name = ? AND owner_id = ?";
+
+    private static final String HEARTBEAT_SQL =
+            "INSERT INTO tbl_scheduler_nodes (instance_id, heartbeat_at) VALUES (?, NOW(3)) " +
+            "ON DUPLICATE KEY UPDATE heartbeat_at = NOW(3)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 리스 획득 (없으면 생성, 만료됐으면 인수, 이미 가진 경우 연장)
+     *
+     * @return 획득 여부
+     */
+    public boolean tryAcquire(String leaseName, String ownerId, Duration leaseFor) {
+        long micros = toMicros(leaseFor);
+        if (jdbcTemplate.update(INSERT_LEASE_SQL, leaseName, ownerId, micros) == 1) {
+            return true;
+        }
+        return jdbcTemplate.update(TAKE_OVER_LEASE_SQL, ownerId, micros, leaseName, ownerId) == 1;
+    }
+
+    /**
+     * 리스 해제 (획득 시각 + minHold 이전에는 만료되지 않음)
+     */
+    public void release(String leaseName, String ownerId, Duration minHold) {
+        jdbcTemplate.update(RELEASE_LEASE_SQL, toMicros(minHold), leaseName, ownerId);
+    }
+
+    /**
+     * 인스턴스 heartbeat 기록
+     */
+    public void heartbeat(String instanceId) {
+        jdbcTemplate.update(HEARTBEAT_SQL, instanceId);
+    }
+
+    /**
+     * ttl 안에 heartbeat를 보낸 인스턴스 ID 목록 (ID 순)
+     */
+    public List<String> findLiveInstanceIds(Duration ttl) {
+        return jdbcTemplate.queryForList(
+                "SELECT instance_id FROM tbl_scheduler_nodes " +
+                "WHERE heartbeat_at > DATE_SUB(NOW(3), INTERVAL ? MICROSECOND) ORDER BY instance_id",
+                String.class, toMicros(ttl));
+    }
+
+    /**
+     * 오래전에 멈춘 인스턴스 행 삭제
+     */
+    public int deleteStaleInstances(Duration olderThan) {
+        return jdbcTemplate.update(
+                "DELETE FROM tbl_scheduler_nodes WHERE heartbeat_at < DATE_SUB(NOW(3), INTERVAL ? MICROSECOND)",
+                toMicros(olderThan));
+    }
+
+    private static long toMicros(Duration duration) {
+        return duration.toNanos() / 1_000;
+    }
+}
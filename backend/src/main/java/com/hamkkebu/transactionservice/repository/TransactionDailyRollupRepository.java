@@ -0,0 +1,132 @@
+package com.hamkkebu.transactionservice.repository;
+
+import com.hamkkebu.transactionservice.data.dto.DailyTransactionAggregate;
+import com.hamkkebu.transactionservice.data.dto.MonthlyTransactionAggregate;
+import com.hamkkebu.transactionservice.data.dto.TransactionAggregate;
+import com.hamkkebu.transactionservice.data.entity.TransactionDailyRollup;
+import com.hamkkebu.transactionservice.data.entity.TransactionDailyRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 거래 일별 집계(rollup) Repository
+ *
+ * <p>쓰기는 모두 native upsert로 수행하여 동시 갱신 시에도 행 단위로 원자적으로 누적됩니다.</p>
+ */
+@Repository
+public interface TransactionDailyRollupRepository extends JpaRepository<TransactionDailyRollup, TransactionDailyRollupId> {
+
+    // ==================== 조회 ====================
+
+    // 기간별 일자·유형별 집계 (건수 0인 버킷 제외)
+    @Query("SELECT r.transactionDate AS transactionDate, r.type AS type, " +
+           "r.totalAmount AS totalAmount, r.transactionCount AS transactionCount " +
+           "FROM TransactionDailyRollup r " +
+           "WHERE r.ledgerId = :ledgerId AND r.transactionDate BETWEEN :startDate AND :endDate " +
+           "AND r.transactionCount > 0")
+    List<DailyTransactionAggregate> findDailyByLedgerIdAndDateRange(
+            @Param("ledgerId") Long ledgerId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    // 기간별 월·유형별 집계 (년별 요약용)
+    @Query("SELECT YEAR(r.transactionDate) AS transactionYear, MONTH(r.transactionDate) AS transactionMonth, " +
+           "r.type AS type, SUM(r.totalAmount) AS totalAmount, SUM(r.transactionCount) AS transactionCount " +
+           "FROM TransactionDailyRollup r " +
+           "WHERE r.ledgerId = :ledgerId AND r.transactionDate BETWEEN :startDate AND :endDate " +
+           "AND r.transactionCount > 0 " +
+           "GROUP BY YEAR(r.transactionDate), MONTH(r.transactionDate), r.type")
+    List<MonthlyTransactionAggregate> aggregateMonthlyByLedgerIdAndDateRange(
+            @Param("ledgerId") Long ledgerId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    // 가계부 전체 유형별 집계
+    @Query("SELECT r.type AS type, SUM(r.totalAmount) AS totalAmount, SUM(r.transactionCount) AS transactionCount " +
+           "FROM TransactionDailyRollup r WHERE r.ledgerId = :ledgerId GROUP BY r.type")
+    List<TransactionAggregate> aggregateByLedgerId(@Param("ledgerId") Long ledgerId);
+
+    // 가계부 전체 일자·유형별 집계 행 (정합성 검증용, 건수 0인 버킷 포함)
+    @Query("SELECT r.transactionDate AS transactionDate, r.type AS type, " +
+           "r.totalAmount AS totalAmount, r.transactionCount AS transactionCount " +
+           "FROM TransactionDailyRollup r WHERE r.ledgerId = :ledgerId")
+    List<DailyTransactionAggregate> findDailyByLedgerId(@Param("ledgerId") Long ledgerId);
+
+    // 집계 행이 존재하는 가계부 ID 목록 (정합성 검증용)
+    @Query("SELECT DISTINCT r.ledgerId FROM TransactionDailyRollup r")
+    List<Long> findDistinctLedgerIds();
+
+    // ==================== 증분 갱신 ====================
+
+    // 단일 버킷 증분 반영 (없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO tbl_transaction_daily_rollup " +
+                   "(ledger_id, transaction_date, transaction_type, total_amount, transaction_count) " +
+                   "VALUES (:ledgerId, :transactionDate, :type, :amountDelta, :countDelta) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "total_amount = total_amount + VALUES(total_amount), " +
+                   "transaction_count = transaction_count + VALUES(transaction_count)",
+           nativeQuery = true)
+    int applyDelta(@Param("ledgerId") Long ledgerId,
+                   @Param("transactionDate") LocalDate transactionDate,
+                   @Param("type") String type,
+                   @Param("amountDelta") BigDecimal amountDelta,
+                   @Param("countDelta") long countDelta);
+
+    // 특정 연동 카드의 활성 거래를 집계에서 차감 (soft delete 직전에 호출)
+    @Modifying
+    @Query(value = "INSERT INTO tbl_transaction_daily_rollup " +
+                   "(ledger_id, transaction_date, transaction_type, total_amount, transaction_count) " +
+                   "SELECT t.ledger_id, t.transaction_date, t.transaction_type, -SUM(t.amount), -COUNT(*) " +
+                   "FROM tbl_transactions t " +
+                   "WHERE t.linked_card_id = :linkedCardId AND t.is_deleted = false " +
+                   "GROUP BY t.ledger_id, t.transaction_date, t.transaction_type " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "total_amount = total_amount + VALUES(total_amount), " +
+                   "transaction_count = transaction_count + VALUES(transaction_count)",
+           nativeQuery = true)
+    int subtractActiveByLinkedCardId(@Param("linkedCardId") Long linkedCardId);
+
+    // 원본 거래로부터 가계부의 특정 거래일 집계 행을 재계산하여 덮어쓰기 (upsert 동기화 후 호출)
+    // INSERT ... SELECT는 원본 행을 잠금 읽기하므로 동시 동기화의 커밋된 결과까지 반영됩니다.
+    @Modifying
+    @Query(value = "INSERT INTO tbl_transaction_daily_rollup " +
+                   "(ledger_id, transaction_date, transaction_type, total_amount, transaction_count) " +
+                   "SELECT t.ledger_id, t.transaction_date, t.transaction_type, SUM(t.amount), COUNT(*) " +
+                   "FROM tbl_transactions t " +
+                   "WHERE t.ledger_id = :ledgerId AND t.transaction_date IN (:transactionDates) " +
+                   "AND t.is_deleted = false " +
+                   "GROUP BY t.ledger_id, t.transaction_date, t.transaction_type " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "total_amount = VALUES(total_amount), " +
+                   "transaction_count = VALUES(transaction_count)",
+           nativeQuery = true)
+    int refreshFromTransactionsByLedgerIdAndDates(@Param("ledgerId") Long ledgerId,
+                                                  @Param("transactionDates") Collection<LocalDate> transactionDates);
+
+    // ==================== 재계산 ====================
+
+    // 가계부 집계 행 전체 삭제
+    @Modifying
+    @Query(value = "DELETE FROM tbl_transaction_daily_rollup WHERE ledger_id = :ledgerId", nativeQuery = true)
+    int deleteByLedgerId(@Param("ledgerId") Long ledgerId);
+
+    // 원본 거래로부터 가계부 집계 행 재생성
+    @Modifying
+    @Query(value = "INSERT INTO tbl_transaction_daily_rollup " +
+                   "(ledger_id, transaction_date, transaction_type, total_amount, transaction_count) " +
+                   "SELECT t.ledger_id, t.transaction_date, t.transaction_type, SUM(t.amount), COUNT(*) " +
+                   "FROM tbl_transactions t " +
+                   "WHERE t.ledger_id = :ledgerId AND t.is_deleted = false " +
+                   "GROUP BY t.ledger_id, t.transaction_date, t.transaction_type",
+           nativeQuery = true)
+    int insertFromTransactionsByLedgerId(@Param("ledgerId") Long ledgerId);
+}
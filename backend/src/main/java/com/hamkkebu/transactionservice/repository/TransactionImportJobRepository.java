@@ -0,0 +1,120 @@
+package com.hamkkebu.transactionservice.repository;
+
+import com.hamkkebu.transactionservice.data.dto.TransactionImportJobResponse;
+import com.hamkkebu.transactionservice.data.dto.TransactionImportJobResponse.Status;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 거래 가져오기 작업 상태 JDBC Repository
+ *
+ * <p>진행 상황은 가져오기 청크 트랜잭션과 별개로 문장 단위로 커밋해,
+ * 작업이 도중에 실패해도 그때까지의 진행 건수가 남도록 합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionImportJobRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO tbl_transaction_import_jobs (ledger_id, user_id, file_name, status) VALUES (?, ?, ?, ?)";
+
+    private static final String START_SQL =
+            "UPDATE tbl_transaction_import_jobs SET status = ?, started_at = NOW(3) WHERE id = ?";
+
+    private static final String PROGRESS_SQL =
+            "UPDATE tbl_transaction_import_jobs " +
+            "SET processed_rows = ?, inserted_rows = ?, duplicate_rows = ?, invalid_rows = ? WHERE id = ?";
+
+    private static final String FINISH_SQL =
+            "UPDATE tbl_transaction_import_jobs " +
+            "SET status = ?, processed_rows = ?, inserted_rows = ?, duplicate_rows = ?, invalid_rows = ?, " +
+            "error_message = ?, finished_at = NOW(3) WHERE id = ?";
+
+    private static final String SELECT_SQL =
+            "SELECT id, ledger_id, file_name, status, processed_rows, inserted_rows, duplicate_rows, invalid_rows, " +
+            "error_message, created_at, started_at, finished_at " +
+            "FROM tbl_transaction_import_jobs WHERE id = ? AND user_id = ?";
+
+    private static final int ERROR_MESSAGE_MAX_LENGTH = 2000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 대기(PENDING) 상태 작업 생성
+     *
+     * @return 작업 ID
+     */
+    public long create(Long ledgerId, Long userId, String fileName) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, ledgerId);
+            ps.setLong(2, userId);
+            ps.setString(3, fileName);
+            ps.setString(4, Status.PENDING.name());
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    public void markRunning(long jobId) {
+        jdbcTemplate.update(START_SQL, Status.RUNNING.name(), jobId);
+    }
+
+    public void updateProgress(long jobId, int processed, int inserted, int duplicates, int invalid) {
+        jdbcTemplate.update(PROGRESS_SQL, processed, inserted, duplicates, invalid, jobId);
+    }
+
+    /**
+     * 작업 종료 (COMPLETED 또는 FAILED)
+     */
+    public void finish(long jobId, Status status, int processed, int inserted, int duplicates, int invalid,
+                       String errorMessage) {
+        String message = errorMessage != null && errorMessage.length() > ERROR_MESSAGE_MAX_LENGTH
+                ? errorMessage.substring(0, ERROR_MESSAGE_MAX_LENGTH)
+                : errorMessage;
+        jdbcTemplate.update(FINISH_SQL, status.name(), processed, inserted, duplicates, invalid, message, jobId);
+    }
+
+    /**
+     * 본인 작업 조회
+     */
+    public Optional<TransactionImportJobResponse> findByIdAndUserId(long jobId, Long userId) {
+        List<TransactionImportJobResponse> jobs = jdbcTemplate.query(SELECT_SQL,
+                (rs, rowNum) -> toResponse(rs), jobId, userId);
+        return jobs.stream().findFirst();
+    }
+
+    private static TransactionImportJobResponse toResponse(ResultSet rs) throws SQLException {
+        return TransactionImportJobResponse.builder()
+                .jobId(rs.getLong("id"))
+                .ledgerId(rs.getLong("ledger_id"))
+                .fileName(rs.getString("file_name"))
+                .status(Status.valueOf(rs.getString("status")))
+                .processedRows(rs.getInt("processed_rows"))
+                .insertedRows(rs.getInt("inserted_rows"))
+                .duplicateRows(rs.getInt("duplicate_rows"))
+                .invalidRows(rs.getInt("invalid_rows"))
+                .errorMessage(rs.getString("error_message"))
+                .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                .startedAt(toLocalDateTime(rs.getTimestamp("started_at")))
+                .finishedAt(toLocalDateTime(rs.getTimestamp("finished_at")))
+                .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,172 @@
+package com.hamkkebu.transactionservice.repository;
+
+import com.hamkkebu.transactionservice.data.entity.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 거래 JDBC 일괄 쓰기/삭제 Repository
+ *
+ * <p>IDENTITY 전략에서는 Hibernate가 insert를 배치로 묶지 못하므로,
+ * 대량 동기화 경로는 JdbcTemplate batchUpdate로 직접 기록합니다.</p>
+ * <p>JPA 트랜잭션과 같은 커넥션을 사용하지만 영속성 컨텍스트를 거치지 않으므로,
+ * 여기서 기록한 행은 같은 트랜잭션에서 엔티티로 다시 수정하지 않아야 합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO tbl_transactions " +
+            "(ledger_id, user_id, transaction_type, amount, description, category, transaction_date, memo, " +
+            "source_type, external_approval_no, linked_card_id, card_id, import_hash, " +
+            "is_deleted, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false, ?, ?)";
+
+    // uk_tx_linked_card_active_approval 충돌 시 금액이 바뀐 경우에만 갱신
+    // (MySQL은 SET 절을 왼쪽부터 평가하므로 amount 비교에 쓰이는 amount 갱신은 마지막에 둡니다)
+    private static final String UPSERT_APPROVAL_SQL = INSERT_SQL + " " +
+            "ON DUPLICATE KEY UPDATE " +
+            "description = IF(amount <> VALUES(amount), VALUES(description), description), " +
+            "category = IF(amount <> VALUES(amount), VALUES(category), category), " +
+            "updated_at = IF(amount <> VALUES(amount), VALUES(updated_at), updated_at), " +
+            "version = IF(amount <> VALUES(amount), version + 1, version), " +
+            "amount = VALUES(amount)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${transaction.batch.size:500}")
+    private int batchSize;
+
+    /**
+     * 연동 카드 승인내역 일괄 upsert
+     *
+     * <p>(linked_card_id, 활성 승인번호) 유니크 키로 충돌을 판정하므로 동시에 같은 카드를 동기화하거나
+     * 재시도해도 중복 거래가 생기지 않습니다. 거래일/유형/가계부는 기존 값을 유지합니다.</p>
+     *
+     * @param transactions 승인번호와 연동 카드 ID가 설정된 거래
+     * @return upsert 요청 건수
+     */
+    public int batchUpsertApprovals(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_APPROVAL_SQL, transactions, batchSize,
+                (ps, t) -> setInsertParameters(ps, t, now));
+        return transactions.size();
+    }
+
+    /**
+     * 거래 일괄 insert (생성된 ID를 각 엔티티에 설정)
+     *
+     * <p>rewriteBatchedStatements로 batch-size건씩 multi-row INSERT로 전송하고,
+     * 드라이버가 돌려주는 생성 키(입력 순서)를 엔티티 ID로 설정합니다. 버전은 컬럼 기본값 0입니다.</p>
+     *
+     * @param transactions ID가 없는 거래
+     */
+    public void batchInsert(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (int from = 0; from < transactions.size(); from += batchSize) {
+                    List<Transaction> chunk =
+                            transactions.subList(from, Math.min(from + batchSize, transactions.size()));
+                    for (Transaction t : chunk) {
+                        setInsertParameters(ps, t, now);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                    assignGeneratedIds(ps, chunk);
+                }
+            }
+            return null;
+        });
+        transactions.forEach(t -> t.setVersion(0L));
+    }
+
+    /**
+     * 가계부에 이미 존재하는 활성 가져오기 키 조회
+     *
+     * <p>uk_tx_ledger_active_import_hash 인덱스만으로 처리됩니다 (테이블 행을 읽지 않음).</p>
+     *
+     * @param importHashes 확인할 가져오기 키 (한 청크 분량)
+     * @return 그중 이미 활성 거래로 존재하는 키
+     */
+    public Set<String> findActiveImportHashes(Long ledgerId, Collection<String> importHashes) {
+        if (importHashes.isEmpty()) {
+            return new HashSet<>();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(importHashes.size(), "?"));
+        List<Object> args = new ArrayList<>(importHashes.size() + 1);
+        args.add(ledgerId);
+        args.addAll(importHashes);
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT active_import_hash FROM tbl_transactions " +
+                "WHERE ledger_id = ? AND active_import_hash IN (" + placeholders + ")",
+                String.class, args.toArray()));
+    }
+
+    /**
+     * 연동 카드의 soft delete된 거래를 최대 limit건 hard delete
+     *
+     * <p>호출자가 트랜잭션 없이 호출하면 문장 단위로 커밋되므로, 잠금과 undo 로그가 한 청크 크기로 제한됩니다.
+     * (linked_card_id, is_deleted) 인덱스로 대상 범위만 잠급니다.</p>
+     *
+     * @return 삭제된 건수 (limit보다 작으면 남은 거래 없음)
+     */
+    public int deleteSoftDeletedByLinkedCardId(Long linkedCardId, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM tbl_transactions WHERE linked_card_id = ? AND is_deleted = true LIMIT ?",
+                linkedCardId, limit);
+    }
+
+    private static void assignGeneratedIds(PreparedStatement ps, List<Transaction> chunk) throws SQLException {
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+            for (Transaction t : chunk) {
+                if (!keys.next()) {
+                    throw new IllegalStateException("생성된 거래 ID 수가 insert 건수보다 적습니다");
+                }
+                t.setId(keys.getLong(1));
+            }
+        }
+    }
+
+    private void setInsertParameters(PreparedStatement ps, Transaction t, Timestamp now) throws SQLException {
+        ps.setLong(1, t.getLedgerId());
+        ps.setLong(2, t.getUserId());
+        ps.setString(3, t.getType().name());
+        ps.setBigDecimal(4, t.getAmount());
+        ps.setString(5, t.getDescription());
+        ps.setString(6, t.getCategory());
+        ps.setObject(7, t.getTransactionDate());
+        ps.setString(8, t.getMemo());
+        ps.setString(9, t.getSourceType().name());
+        ps.setString(10, t.getExternalApprovalNo());
+        ps.setObject(11, t.getLinkedCardId(), Types.BIGINT);
+        ps.setObject(12, t.getCardId(), Types.BIGINT);
+        ps.setString(13, t.getImportHash());
+        ps.setTimestamp(14, now);
+        ps.setTimestamp(15, now);
+    }
+}
@@ -0,0 +1,87 @@
+package com.hamkkebu.transactionservice.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hamkkebu.transactionservice.kafka.event.TransactionEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 거래 이벤트 Outbox JDBC Repository
+ *
+ * <p>append는 호출자의 DB 트랜잭션에 참여하므로 거래 변경과 함께 커밋/롤백됩니다.
+ * claim은 relay 트랜잭션 안에서 호출해야 하며, 가져간 행은 커밋(삭제) 또는 롤백 때까지 잠겨
+ * 다른 인스턴스의 relay는 SKIP LOCKED로 건너뜁니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionOutboxRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO tbl_transaction_outbox (transaction_id, event_type, payload) VALUES (?, ?, ?)";
+
+    private static final String CLAIM_SQL =
+            "SELECT id, payload FROM tbl_transaction_outbox ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트 1건 저장
+     */
+    public void append(TransactionEvent event) {
+        jdbcTemplate.update(INSERT_SQL, event.getTransactionId(), event.getEventType(), toJson(event));
+    }
+
+    /**
+     * 이벤트 일괄 저장 (대량 동기화/가져오기용, multi-row INSERT로 전송)
+     */
+    public void appendAll(List<TransactionEvent> events, int batchSize) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(events.size());
+        for (TransactionEvent event : events) {
+            args.add(new Object[]{event.getTransactionId(), event.getEventType(), toJson(event)});
+        }
+        for (int from = 0; from < args.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, args.subList(from, Math.min(from + batchSize, args.size())));
+        }
+    }
+
+    /**
+     * 발행할 이벤트를 오래된 순으로 최대 limit건 잠그고 가져옴 (다른 relay가 잡은 행은 건너뜀)
+     */
+    public List<OutboxRow> claim(int limit) {
+        return jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new OutboxRow(rs.getLong("id"), rs.getString("payload")), limit);
+    }
+
+    /**
+     * 발행 완료된 행 일괄 삭제
+     */
+    public int deleteByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.update("DELETE FROM tbl_transaction_outbox WHERE id IN (" + placeholders + ")",
+                ids.toArray());
+    }
+
+    private String toJson(TransactionEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("거래 이벤트 직렬화 실패: transactionId=" + event.getTransactionId(), e);
+        }
+    }
+
+    public record OutboxRow(long id, String payload) {
+    }
+}
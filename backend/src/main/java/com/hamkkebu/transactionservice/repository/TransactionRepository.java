@@ -1,18 +1,22 @@
 package com.hamkkebu.transactionservice.repository;
 
+import com.hamkkebu.transactionservice.data.dto.DailyTransactionAggregate;
 import com.hamkkebu.transactionservice.data.entity.Transaction;
-import com.hamkkebu.transactionservice.data.entity.enums.TransactionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
@@ -23,20 +27,39 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
 
     List<Transaction> findByLedgerIdAndIsDeletedFalseOrderByTransactionDateDescIdDesc(Long ledgerId);
 
+    // 커서 기반 거래 목록 첫 페이지 (COUNT 쿼리 없음, 조회 건수는 Pageable 크기로 제한)
+    @Query("SELECT t FROM Transaction t WHERE t.ledgerId = :ledgerId AND t.isDeleted = false " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<Transaction> findFirstSliceByLedgerId(@Param("ledgerId") Long ledgerId, Pageable pageable);
+
+    // 커서 기반 거래 목록 다음 페이지 (커서의 (거래일, ID)보다 작은 거래부터 조회)
+    @Query("SELECT t FROM Transaction t WHERE t.ledgerId = :ledgerId AND t.isDeleted = false " +
+           "AND (t.transactionDate < :cursorDate OR (t.transactionDate = :cursorDate AND t.id < :cursorId)) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<Transaction> findSliceByLedgerIdAfterCursor(
+            @Param("ledgerId") Long ledgerId,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    // 가계부 전체 거래 스트리밍 조회 (내보내기용, MySQL 드라이버가 행 단위로 전달하도록 fetch size 지정)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Transaction t WHERE t.ledgerId = :ledgerId AND t.isDeleted = false " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    Stream<Transaction> streamByLedgerId(@Param("ledgerId") Long ledgerId);
+
     // 특정 거래 조회 (삭제되지 않은 것만)
     Optional<Transaction> findByIdAndIsDeletedFalse(Long id);
 
     // 특정 거래 조회 (삭제되지 않은 것만, 사용자 검증 포함)
     Optional<Transaction> findByIdAndUserIdAndIsDeletedFalse(Long id, Long userId);
 
-    // 특정 가계부의 총 수입 계산
-    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
-           "WHERE t.ledgerId = :ledgerId AND t.type = :type AND t.isDeleted = false")
-    BigDecimal sumAmountByLedgerIdAndType(@Param("ledgerId") Long ledgerId, @Param("type") TransactionType type);
-
-    // 특정 가계부의 거래 수
-    @Query("SELECT COUNT(t) FROM Transaction t WHERE t.ledgerId = :ledgerId AND t.isDeleted = false")
-    Long countByLedgerId(@Param("ledgerId") Long ledgerId);
+    // 일괄 수정/삭제 대상 조회 (가계부 범위 안의 본인 거래만)
+    List<Transaction> findByLedgerIdAndUserIdAndIdInAndIsDeletedFalse(Long ledgerId, Long userId, Collection<Long> ids);
 
     // 기간별 거래 조회 (페이징)
     Page<Transaction> findByLedgerIdAndTransactionDateBetweenAndIsDeletedFalseOrderByTransactionDateDescIdDesc(
@@ -50,24 +73,16 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     Page<Transaction> findByLedgerIdAndCategoryAndIsDeletedFalseOrderByTransactionDateDescIdDesc(
             Long ledgerId, String category, Pageable pageable);
 
-    // 기간별 총 수입 계산
-    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
-           "WHERE t.ledgerId = :ledgerId AND t.type = :type " +
-           "AND t.transactionDate BETWEEN :startDate AND :endDate AND t.isDeleted = false")
-    BigDecimal sumAmountByLedgerIdAndTypeAndDateRange(
-            @Param("ledgerId") Long ledgerId,
-            @Param("type") TransactionType type,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate);
-
-    // 기간별 거래 수 계산
-    @Query("SELECT COUNT(t) FROM Transaction t " +
-           "WHERE t.ledgerId = :ledgerId " +
-           "AND t.transactionDate BETWEEN :startDate AND :endDate AND t.isDeleted = false")
-    Long countByLedgerIdAndDateRange(
-            @Param("ledgerId") Long ledgerId,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate);
+    // 가계부 전체 일자·유형별 합계/건수 집계 (일별 집계 테이블 정합성 검증용)
+    @Query("SELECT t.transactionDate AS transactionDate, t.type AS type, " +
+           "SUM(t.amount) AS totalAmount, COUNT(t) AS transactionCount FROM Transaction t " +
+           "WHERE t.ledgerId = :ledgerId AND t.isDeleted = false " +
+           "GROUP BY t.transactionDate, t.type")
+    List<DailyTransactionAggregate> aggregateDailyByLedgerId(@Param("ledgerId") Long ledgerId);
+
+    // 활성 거래가 존재하는 가계부 ID 목록 (일별 집계 테이블 정합성 검증용)
+    @Query("SELECT DISTINCT t.ledgerId FROM Transaction t WHERE t.isDeleted = false")
+    List<Long> findDistinctLedgerIds();
 
     // 가계부와 사용자별 접근 권한 확인
     boolean existsByLedgerIdAndUserIdAndIsDeletedFalse(Long ledgerId, Long userId);
@@ -78,21 +93,21 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
 
     // ==================== Codef 연동 관련 ====================
 
-    // 승인번호로 거래 조회 (중복 체크 및 업데이트 매칭용)
-    Optional<Transaction> findByExternalApprovalNoAndLinkedCardIdAndIsDeletedFalse(
-            String externalApprovalNo, Long linkedCardId);
+    // 승인번호 목록으로 연동 카드의 기존 거래 일괄 조회 (동기화 시 메모리 diff용)
+    List<Transaction> findByLinkedCardIdAndExternalApprovalNoInAndIsDeletedFalse(
+            Long linkedCardId, Collection<String> externalApprovalNos);
 
     // 특정 연동 카드의 거래 목록 조회
     List<Transaction> findByLinkedCardIdAndIsDeletedFalse(Long linkedCardId);
 
+    // 특정 연동 카드의 활성 거래가 속한 가계부 ID 목록 (일괄 soft delete 시 요약 캐시 버전 증가용)
+    @Query("SELECT DISTINCT t.ledgerId FROM Transaction t WHERE t.linkedCardId = :linkedCardId AND t.isDeleted = false")
+    List<Long> findDistinctLedgerIdsByLinkedCardId(@Param("linkedCardId") Long linkedCardId);
+
     // 특정 연동 카드의 거래 일괄 soft delete
-    @Query("UPDATE Transaction t SET t.isDeleted = true, t.deletedAt = CURRENT_TIMESTAMP " +
+    @Query("UPDATE Transaction t SET t.isDeleted = true, t.deletedAt = CURRENT_TIMESTAMP, " +
+           "t.version = t.version + 1 " +
            "WHERE t.linkedCardId = :linkedCardId AND t.isDeleted = false")
     @org.springframework.data.jpa.repository.Modifying
     int softDeleteByLinkedCardId(@Param("linkedCardId") Long linkedCardId);
-
-    // hard delete 대상 거래 조회 (삭제된 지 cutoff일 지난 연동 카드 거래)
-    @Query("DELETE FROM Transaction t WHERE t.linkedCardId = :linkedCardId AND t.isDeleted = true")
-    @org.springframework.data.jpa.repository.Modifying
-    int hardDeleteByLinkedCardId(@Param("linkedCardId") Long linkedCardId);
 }
@@ -0,0 +1,124 @@
+package com.hamkkebu.transactionservice.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV 행 단위 스트리밍 리더
+ *
+ * <p>파일 전체를 읽지 않고 {@link #next()} 호출마다 한 레코드만 읽습니다.
+ * 따옴표로 감싼 필드 안의 쉼표/줄바꿈과 이중 따옴표("") 이스케이프를 처리하고,
+ * 줄바꿈은 CRLF와 LF를 모두 허용합니다. 파일 맨 앞의 UTF-8 BOM은 건너뜁니다.</p>
+ */
+final class CsvRowReader implements Closeable {
+
+    private static final int EOF = -1;
+    private static final int NONE = -2;
+    private static final char BOM = '\uFEFF';
+
+    private final Reader reader;
+    private int pushback = NONE;
+    private long line = 1;
+    private long recordLine;
+    private boolean started;
+
+    CsvRowReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+    }
+
+    /**
+     * 다음 레코드 읽기
+     *
+     * @return 필드 목록 (파일 끝이면 null)
+     * @throws IOException 읽기 실패 또는 닫히지 않은 따옴표
+     */
+    List<String> next() throws IOException {
+        int c = read();
+        if (!started) {
+            started = true;
+            if (c == BOM) {
+                c = read();
+            }
+        }
+        if (c == EOF) {
+            return null;
+        }
+
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+
+        while (true) {
+            if (quoted) {
+                if (c == EOF) {
+                    throw new IOException("닫히지 않은 따옴표가 있습니다 (" + recordLine + "행)");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+                field.append((char) c);
+                c = read();
+                continue;
+            }
+
+            if (c == '"' && fieldStart) {
+                quoted = true;
+                fieldStart = false;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+            } else if (c == '\r' || c == '\n' || c == EOF) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pushback = next;
+                    }
+                }
+                if (c != EOF) {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+                fieldStart = false;
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 레코드가 시작된 행 번호 (1부터, 필드 안 줄바꿈 포함)
+     */
+    long recordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        if (pushback != NONE) {
+            int c = pushback;
+            pushback = NONE;
+            return c;
+        }
+        return reader.read();
+    }
+}
@@ -0,0 +1,203 @@
+package com.hamkkebu.transactionservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 가계부 접근 권한 캐시
+ *
+ * <p>(가계부 ID, 사용자 ID)별 접근 판정 결과를 프로세스 내에 캐시하여
+ * 매 요청마다 발생하던 Ledger/LedgerShare 조회를 줄입니다.</p>
+ * <p>가계부·공유 상태는 Kafka Consumer를 통해서만 변경되고, 이벤트는 consumer group 안의 한 레플리카만 받습니다.
+ * 그 레플리카는 반영 트랜잭션이 커밋된 직후 자신의 항목을 무효화하고 Redis 채널
+ * {@value #INVALIDATION_CHANNEL}로 무효화를 알려, 다른 레플리카도 같은 항목을 무효화합니다.</p>
+ * <p>TTL은 무효화 누락(Redis 장애로 알림 유실 등)에 대비한 안전장치입니다.
+ * 공유 해제가 늦게 반영되면 권한 없는 사용자가 접근할 수 있으므로 SHARED 판정은 shared-ttl로 더 짧게 둡니다.</p>
+ * <p>메트릭: {@code cache.gets{cache="ledgerAccess",result="hit|miss"}}, {@code cache.size} 등</p>
+ */
+@Slf4j
+@Component
+public class LedgerAccessCache implements MessageListener {
+
+    /**
+     * 무효화 알림 채널 (메시지: {@code {ledgerId}} 또는 {@code {ledgerId}:{userId}})
+     */
+    public static final String INVALIDATION_CHANNEL = "ledger-access:invalidate";
+
+    private static final String CACHE_NAME = "ledgerAccess";
+
+    /**
+     * 가계부 접근 판정 결과
+     */
+    public enum LedgerAccess {
+        OWNER,          // 가계부 소유자
+        SHARED,         // 공유 수락된 멤버
+        DENIED,         // 가계부는 존재하나 권한 없음
+        NOT_FOUND       // 가계부 없음
+    }
+
+    private record Key(Long ledgerId, long generation, Long userId) {
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<Key, LedgerAccess> cache;
+    // 가계부별 세대: 가계부 단위 무효화는 새 세대로 바꿔, 로딩 중인 항목을 포함한 이전 세대 항목을 더 이상 읽지 않음
+    private final Cache<Long, Long> generations;
+    // 세대 항목이 만료된 뒤 다시 만들어도 이전 세대 번호와 겹치지 않도록 전역 순번 사용
+    private final AtomicLong generationSequence = new AtomicLong();
+
+    public LedgerAccessCache(
+            StringRedisTemplate redisTemplate,
+            @Value("${transaction.ledger-access-cache.max-size:10000}") long maxSize,
+            @Value("${transaction.ledger-access-cache.ttl:5m}") Duration ttl,
+            @Value("${transaction.ledger-access-cache.shared-ttl:30s}") Duration sharedTtl,
+            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(expiry(ttl, sharedTtl))
+                .recordStats()
+                .build();
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(ttl)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 접근 판정 결과 조회 (없으면 loader로 판정 후 저장)
+     */
+    public LedgerAccess get(Long ledgerId, Long userId, Supplier<LedgerAccess> loader) {
+        long generation = generations.get(ledgerId, id -> generationSequence.incrementAndGet());
+        return cache.get(new Key(ledgerId, generation, userId), key -> loader.get());
+    }
+
+    /**
+     * 가계부의 모든 사용자 항목 무효화 (가계부 생성/수정/삭제 이벤트)
+     */
+    public void invalidateLedger(Long ledgerId) {
+        if (ledgerId == null) {
+            return;
+        }
+        afterCommit(() -> {
+            evictLedger(ledgerId);
+            broadcast(String.valueOf(ledgerId));
+        });
+    }
+
+    /**
+     * 특정 사용자의 가계부 항목 무효화 (공유 생성/수락/거절/삭제 이벤트)
+     *
+     * <p>이벤트에 사용자 ID가 없으면 가계부 전체 항목을 무효화합니다.</p>
+     */
+    public void invalidate(Long ledgerId, Long userId) {
+        if (userId == null) {
+            invalidateLedger(ledgerId);
+            return;
+        }
+        if (ledgerId == null) {
+            return;
+        }
+        afterCommit(() -> {
+            evict(ledgerId, userId);
+            broadcast(ledgerId + ":" + userId);
+        });
+    }
+
+    /**
+     * 다른 레플리카(및 자신)가 보낸 무효화 알림 반영
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            int separator = body.indexOf(':');
+            if (separator < 0) {
+                evictLedger(Long.valueOf(body));
+            } else {
+                evict(Long.valueOf(body.substring(0, separator)), Long.valueOf(body.substring(separator + 1)));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("[LedgerAccessCache] Ignoring malformed invalidation message: {}", body);
+        }
+    }
+
+    private void evictLedger(Long ledgerId) {
+        generations.put(ledgerId, generationSequence.incrementAndGet());
+        log.debug("[LedgerAccessCache] Invalidated ledger {}", ledgerId);
+    }
+
+    private void evict(Long ledgerId, Long userId) {
+        Long generation = generations.getIfPresent(ledgerId);
+        if (generation != null) {
+            // 로딩 중인 항목이면 로딩이 끝난 뒤 제거됨
+            cache.invalidate(new Key(ledgerId, generation, userId));
+        }
+        log.debug("[LedgerAccessCache] Invalidated ledger {} for user {}", ledgerId, userId);
+    }
+
+    private void broadcast(String message) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (RuntimeException e) {
+            // 다른 레플리카는 TTL이 지나야 반영됨
+            log.warn("[LedgerAccessCache] Failed to broadcast invalidation {}: {}", message, e.getMessage());
+        }
+    }
+
+    private static Expiry<Key, LedgerAccess> expiry(Duration ttl, Duration sharedTtl) {
+        long ttlNanos = ttl.toNanos();
+        long sharedTtlNanos = Math.min(sharedTtl.toNanos(), ttlNanos);
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Key key, LedgerAccess access, long currentTime) {
+                return access == LedgerAccess.SHARED ? sharedTtlNanos : ttlNanos;
+            }
+
+            @Override
+            public long expireAfterUpdate(Key key, LedgerAccess access, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, access, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(Key key, LedgerAccess access, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 후에 실행
+     *
+     * <p>커밋 전에 무효화하면 그 사이 요청이 변경 전 상태를 다시 캐시할 수 있습니다.</p>
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
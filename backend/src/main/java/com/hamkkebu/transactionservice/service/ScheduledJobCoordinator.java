@@ -0,0 +1,139 @@
+package com.hamkkebu.transactionservice.service;
+
+import com.hamkkebu.transactionservice.repository.SchedulerLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 레플리카 간 스케줄 작업 조정
+ *
+ * <p>모든 레플리카가 같은 cron으로 깨어나므로, 작업 성격에 따라 두 가지 방식으로 나눕니다.</p>
+ * <ul>
+ *   <li>단독 실행 ({@link #runExclusively}): DB 리스를 얻은 한 인스턴스만 실행합니다.
+ *       실행 도중 인스턴스가 죽으면 리스 만료 후 다음 실행에서 다른 인스턴스가 이어받습니다.</li>
+ *   <li>분담 실행 ({@link #currentShard}): heartbeat가 살아있는 인스턴스를 ID 순으로 정렬해
+ *       자신의 순번을 샤드 번호로 사용합니다. 실행 도중 인스턴스 수가 바뀌면 일부 키가 두 번 처리되거나
+ *       다음 실행으로 밀릴 수 있으므로, 분담 작업은 멱등이어야 합니다.</li>
+ * </ul>
+ * <p>scheduler.coordination.enabled=false 이면 모든 작업을 로컬에서 바로 실행합니다 (단일 인스턴스/로컬 개발).</p>
+ */
+@Slf4j
+@Component
+public class ScheduledJobCoordinator {
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final boolean enabled;
+    private final String instanceId;
+    private final Duration nodeTtl;
+    private final Duration minHold;
+
+    public ScheduledJobCoordinator(SchedulerLeaseRepository schedulerLeaseRepository,
+                                   @Value("${scheduler.coordination.enabled:true}") boolean enabled,
+                                   @Value("${scheduler.coordination.instance-id:${HOSTNAME:}}") String instanceId,
+                                   @Value("${scheduler.coordination.node-ttl:90s}") Duration nodeTtl,
+                                   @Value("${scheduler.coordination.min-hold:5m}") Duration minHold) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.enabled = enabled;
+        // 재시작한 인스턴스는 새 ID로 참여 (이전 리스/heartbeat와 구분)
+        String base = instanceId == null || instanceId.isBlank() ? "instance" : instanceId;
+        this.instanceId = base + ":" + UUID.randomUUID().toString().substring(0, 8);
+        this.nodeTtl = nodeTtl;
+        this.minHold = minHold;
+
+        log.info("[Scheduler] Coordination {}: instanceId={}", enabled ? "enabled" : "disabled", this.instanceId);
+    }
+
+    /**
+     * 리스를 얻은 경우에만 작업 실행
+     *
+     * @param jobName  리스 이름 (작업별로 고유)
+     * @param leaseFor 리스 유지 시간 (작업 최대 실행 시간보다 길게)
+     * @param job      실행할 작업
+     * @return 이 인스턴스에서 실행했으면 true
+     */
+    public boolean runExclusively(String jobName, Duration leaseFor, Runnable job) {
+        if (!enabled) {
+            job.run();
+            return true;
+        }
+
+        if (!schedulerLeaseRepository.tryAcquire(jobName, instanceId, leaseFor)) {
+            log.info("[Scheduler] Skipping {}: lease held by another instance", jobName);
+            return false;
+        }
+
+        log.info("[Scheduler] Acquired lease: job={}, instanceId={}, leaseFor={}", jobName, instanceId, leaseFor);
+        try {
+            job.run();
+            return true;
+        } finally {
+            try {
+                schedulerLeaseRepository.release(jobName, instanceId, minHold);
+            } catch (Exception e) {
+                // 해제 실패 시 리스는 leaseFor 후 자연 만료
+                log.warn("[Scheduler] Failed to release lease: job={}, error={}", jobName, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 현재 인스턴스의 분담 샤드
+     *
+     * <p>heartbeat를 먼저 기록하므로 방금 시작한 인스턴스도 자신을 포함한 목록으로 계산합니다.</p>
+     */
+    public Shard currentShard() {
+        if (!enabled) {
+            return Shard.SINGLE;
+        }
+
+        schedulerLeaseRepository.heartbeat(instanceId);
+        List<String> liveInstances = schedulerLeaseRepository.findLiveInstanceIds(nodeTtl);
+        int index = liveInstances.indexOf(instanceId);
+        if (index < 0) {
+            // heartbeat 직후 조회에서 자신이 빠지는 경우는 없지만, 조회 실패 대비로 전체를 맡음
+            return Shard.SINGLE;
+        }
+        return new Shard(index, liveInstances.size());
+    }
+
+    /**
+     * 주기적 heartbeat (분담 작업 인스턴스 목록 유지)
+     */
+    @Scheduled(fixedDelayString = "${scheduler.coordination.heartbeat-interval:PT30S}", initialDelay = 0)
+    public void heartbeat() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            schedulerLeaseRepository.heartbeat(instanceId);
+            schedulerLeaseRepository.deleteStaleInstances(nodeTtl.multipliedBy(10));
+        } catch (Exception e) {
+            log.warn("[Scheduler] Heartbeat failed: instanceId={}, error={}", instanceId, e.getMessage());
+        }
+    }
+
+    /**
+     * 분담 샤드 (index / count)
+     */
+    public record Shard(int index, int count) {
+
+        public static final Shard SINGLE = new Shard(0, 1);
+
+        /**
+         * 키가 이 샤드에 속하는지 여부 (연속된 ID도 고르게 나뉘도록 해시를 섞음)
+         */
+        public boolean owns(long key) {
+            if (count <= 1) {
+                return true;
+            }
+            long mixed = key * 0x9E3779B97F4A7C15L;
+            return Math.floorMod(mixed ^ (mixed >>> 32), count) == index;
+        }
+    }
+}
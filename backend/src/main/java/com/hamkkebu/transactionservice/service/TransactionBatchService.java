@@ -0,0 +1,232 @@
+package com.hamkkebu.transactionservice.service;
+
+import com.hamkkebu.transactionservice.data.dto.TransactionBatchRequest;
+import com.hamkkebu.transactionservice.data.dto.TransactionBatchRequest.Operation;
+import com.hamkkebu.transactionservice.data.dto.TransactionBatchRequest.OperationType;
+import com.hamkkebu.transactionservice.data.dto.TransactionBatchResponse;
+import com.hamkkebu.transactionservice.data.dto.TransactionBatchResponse.ItemResult;
+import com.hamkkebu.transactionservice.data.dto.TransactionRequest;
+import com.hamkkebu.transactionservice.data.entity.Transaction;
+import com.hamkkebu.transactionservice.data.entity.enums.TransactionSourceType;
+import com.hamkkebu.transactionservice.data.mapper.TransactionMapper;
+import com.hamkkebu.transactionservice.kafka.event.TransactionEvent;
+import com.hamkkebu.transactionservice.kafka.producer.TransactionEventProducer;
+import com.hamkkebu.transactionservice.repository.TransactionJdbcRepository;
+import com.hamkkebu.transactionservice.repository.TransactionRepository;
+import com.hamkkebu.transactionservice.service.TransactionRollupService.RollupEntry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 거래 일괄 생성/수정/삭제 서비스
+ *
+ * <p>CSV 가져오기 도구나 오프라인 동기화 클라이언트가 수백 건을 한 번에 보낼 때,
+ * 단건 API를 반복하는 대신 한 트랜잭션에서 묶어서 처리합니다.</p>
+ * <ul>
+ *   <li>가계부 접근 권한은 한 번만 검증하고, 수정/삭제 대상은 한 번의 IN 조회로 가져옵니다.</li>
+ *   <li>생성은 JDBC multi-row INSERT, 수정/삭제는 한 번의 flush로 반영합니다.</li>
+ *   <li>일별 집계는 버킷별로 합산해 반영하고, 거래 이벤트는 Outbox에 일괄 저장합니다.</li>
+ *   <li>검증 실패/대상 없음 작업은 결과에 실패로 표시하고 건너뛰며, 나머지 작업은 반영합니다.
+ *       DB 오류는 배치 전체를 롤백합니다.</li>
+ *   <li>작업은 요청 순서대로 적용하므로 같은 거래를 수정한 뒤 삭제할 수 있습니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionBatchService {
+
+    static final String ERROR_INVALID_REQUEST = "INVALID_REQUEST";
+    static final String ERROR_NOT_FOUND = "TRANSACTION_NOT_FOUND";
+
+    private final TransactionService transactionService;
+    private final TransactionRepository transactionRepository;
+    private final TransactionJdbcRepository transactionJdbcRepository;
+    private final TransactionRollupService transactionRollupService;
+    private final TransactionMapper transactionMapper;
+    private final TransactionEventProducer transactionEventProducer;
+    private final Validator validator;
+
+    @Transactional
+    public TransactionBatchResponse execute(TransactionBatchRequest request, Long userId) {
+        Long ledgerId = request.getLedgerId();
+        List<Operation> operations = request.getOperations();
+        log.info("Executing {} batch operations for ledger {} by user {}", operations.size(), ledgerId, userId);
+
+        // 가계부 접근 권한 검증 (소유자 또는 공유 멤버) - 배치당 한 번
+        transactionService.checkLedgerAccess(ledgerId, userId);
+
+        Map<Long, Transaction> targets = findTargets(ledgerId, userId, operations);
+
+        ItemResult[] failures = new ItemResult[operations.size()];
+        Transaction[] applied = new Transaction[operations.size()];
+        List<Transaction> created = new ArrayList<>();
+        Map<Long, RollupEntry> originals = new LinkedHashMap<>();
+        Map<Long, Transaction> modified = new LinkedHashMap<>();
+        Set<Long> deletedIds = new HashSet<>();
+
+        for (int i = 0; i < operations.size(); i++) {
+            Operation operation = operations.get(i);
+            TransactionRequest transactionRequest = operation.toRequest(ledgerId);
+
+            if (operation.getOp() == OperationType.CREATE) {
+                String violation = validate(transactionRequest);
+                if (violation != null) {
+                    failures[i] = failure(i, operation, ERROR_INVALID_REQUEST, violation);
+                    continue;
+                }
+                Transaction transaction = transactionMapper.toEntity(transactionRequest);
+                transaction.setUserId(userId);
+                transaction.setSourceType(TransactionSourceType.MANUAL);
+                created.add(transaction);
+                applied[i] = transaction;
+                continue;
+            }
+
+            Transaction target = operation.getTransactionId() != null
+                    ? targets.get(operation.getTransactionId())
+                    : null;
+            if (target == null) {
+                failures[i] = failure(i, operation, ERROR_NOT_FOUND, "거래를 찾을 수 없습니다");
+                continue;
+            }
+
+            if (operation.getOp() == OperationType.UPDATE) {
+                String violation = validate(transactionRequest);
+                if (violation != null) {
+                    failures[i] = failure(i, operation, ERROR_INVALID_REQUEST, violation);
+                    continue;
+                }
+                originals.putIfAbsent(target.getId(), RollupEntry.of(target));
+                transactionMapper.updateEntity(transactionRequest, target);
+            } else {
+                originals.putIfAbsent(target.getId(), RollupEntry.of(target));
+                target.delete();
+                deletedIds.add(target.getId());
+                // 같은 배치의 이후 작업에서는 삭제된 거래로 취급
+                targets.remove(target.getId());
+            }
+            modified.put(target.getId(), target);
+            applied[i] = target;
+        }
+
+        // 쓰기: 생성은 JDBC 일괄 insert, 수정/삭제는 한 번의 flush (이벤트에 커밋될 버전을 싣기 위함)
+        transactionJdbcRepository.batchInsert(created);
+        if (!modified.isEmpty()) {
+            transactionRepository.saveAllAndFlush(modified.values());
+        }
+
+        applyRollup(created, originals, modified, deletedIds);
+        transactionEventProducer.publishAll(buildEvents(created, originals, modified, deletedIds));
+
+        TransactionBatchResponse response = buildResponse(operations, failures, applied);
+        log.info("Executed batch operations for ledger {}: succeeded={}, failed={}",
+                ledgerId, response.getSucceeded(), response.getFailed());
+        return response;
+    }
+
+    private Map<Long, Transaction> findTargets(Long ledgerId, Long userId, List<Operation> operations) {
+        Set<Long> ids = operations.stream()
+                .filter(operation -> operation.getOp() != OperationType.CREATE && operation.getTransactionId() != null)
+                .map(Operation::getTransactionId)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+        return transactionRepository.findByLedgerIdAndUserIdAndIdInAndIsDeletedFalse(ledgerId, userId, ids).stream()
+                .collect(Collectors.toMap(Transaction::getId, transaction -> transaction));
+    }
+
+    private void applyRollup(List<Transaction> created, Map<Long, RollupEntry> originals,
+                             Map<Long, Transaction> modified, Set<Long> deletedIds) {
+        List<RollupEntry> added = new ArrayList<>(created.size() + modified.size());
+        created.forEach(transaction -> added.add(RollupEntry.of(transaction)));
+        modified.forEach((id, transaction) -> {
+            if (!deletedIds.contains(id)) {
+                added.add(RollupEntry.of(transaction));
+            }
+        });
+        transactionRollupService.applyAll(originals.values(), added);
+    }
+
+    private static List<TransactionEvent> buildEvents(List<Transaction> created, Map<Long, RollupEntry> originals,
+                                                      Map<Long, Transaction> modified, Set<Long> deletedIds) {
+        List<TransactionEvent> events = new ArrayList<>(created.size() + modified.size());
+        created.forEach(transaction -> events.add(TransactionEvent.created(transaction)));
+        modified.forEach((id, transaction) -> {
+            if (deletedIds.contains(id)) {
+                events.add(TransactionEvent.deleted(transaction));
+                return;
+            }
+            RollupEntry previous = originals.get(id);
+            events.add(TransactionEvent.updated(transaction, previous.ledgerId(),
+                    previous.type() != null ? previous.type().name() : null,
+                    previous.amount(), previous.transactionDate()));
+        });
+        return events;
+    }
+
+    private static TransactionBatchResponse buildResponse(List<Operation> operations, ItemResult[] failures,
+                                                          Transaction[] applied) {
+        List<ItemResult> results = new ArrayList<>(operations.size());
+        int failed = 0;
+        for (int i = 0; i < operations.size(); i++) {
+            if (failures[i] != null) {
+                results.add(failures[i]);
+                failed++;
+                continue;
+            }
+            Operation operation = operations.get(i);
+            results.add(ItemResult.builder()
+                    .index(i)
+                    .clientRef(operation.getClientRef())
+                    .op(operation.getOp())
+                    .success(true)
+                    .transactionId(applied[i].getId())
+                    .version(applied[i].getVersion())
+                    .build());
+        }
+        return TransactionBatchResponse.builder()
+                .total(operations.size())
+                .succeeded(operations.size() - failed)
+                .failed(failed)
+                .results(results)
+                .build();
+    }
+
+    private String validate(TransactionRequest request) {
+        Set<ConstraintViolation<TransactionRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static ItemResult failure(int index, Operation operation, String errorCode, String message) {
+        return ItemResult.builder()
+                .index(index)
+                .clientRef(operation.getClientRef())
+                .op(operation.getOp())
+                .success(false)
+                .transactionId(operation.getTransactionId())
+                .errorCode(errorCode)
+                .message(message)
+                .build();
+    }
+}
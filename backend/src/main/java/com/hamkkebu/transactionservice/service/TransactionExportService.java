@@ -0,0 +1,142 @@
+package com.hamkkebu.transactionservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hamkkebu.transactionservice.data.dto.TransactionExportFormat;
+import com.hamkkebu.transactionservice.data.dto.TransactionResponse;
+import com.hamkkebu.transactionservice.data.entity.Transaction;
+import com.hamkkebu.transactionservice.data.mapper.TransactionMapper;
+import com.hamkkebu.transactionservice.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * 거래 내보내기 서비스
+ *
+ * <p>가계부의 전체 거래를 List로 적재하지 않고 DB 커서에서 한 건씩 읽어
+ * NDJSON 또는 CSV로 응답 스트림에 바로 기록합니다.
+ * 읽은 엔티티는 즉시 영속성 컨텍스트에서 분리하므로 거래 수와 무관하게 힙 사용량이 일정합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionExportService {
+
+    private static final String CSV_HEADER =
+            "id,transactionDate,type,amount,category,description,memo,createdAt,updatedAt";
+    private static final int FLUSH_INTERVAL = 500;
+    // 스프레드시트에서 수식으로 해석되는 첫 글자 (OWASP CSV Injection)
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final TransactionService transactionService;
+    private final TransactionRepository transactionRepository;
+    private final TransactionMapper transactionMapper;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${transaction.export.timeout-seconds:300}")
+    private int exportTimeoutSeconds;
+
+    /**
+     * 내보내기 응답 본문 준비
+     *
+     * <p>접근 권한은 응답 스트림을 열기 전에 검증하여 일반 API와 동일한 에러 응답을 반환합니다.
+     * 실제 조회와 기록은 반환된 본문이 비동기로 실행될 때 별도의 읽기 전용 트랜잭션에서 수행됩니다.</p>
+     */
+    public StreamingResponseBody prepareExport(Long ledgerId, Long userId, TransactionExportFormat format) {
+        transactionService.checkLedgerAccess(ledgerId, userId);
+
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setTimeout(exportTimeoutSeconds);
+
+        return outputStream -> template.executeWithoutResult(status -> export(ledgerId, format, outputStream));
+    }
+
+    private void export(Long ledgerId, TransactionExportFormat format, OutputStream outputStream) {
+        long written = 0;
+        try (Stream<Transaction> transactions = transactionRepository.streamByLedgerId(ledgerId)) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            if (format == TransactionExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            for (Transaction transaction : (Iterable<Transaction>) transactions::iterator) {
+                TransactionResponse response = transactionMapper.toResponse(transaction);
+                entityManager.detach(transaction);
+
+                if (format == TransactionExportFormat.CSV) {
+                    writeCsvLine(writer, response);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(response));
+                    writer.write('\n');
+                }
+
+                if (++written % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            log.warn("[Export] Failed to write transactions: ledgerId={}, written={}", ledgerId, written, e);
+            throw new UncheckedIOException(e);
+        }
+        log.info("[Export] Exported {} transactions as {}: ledgerId={}", written, format, ledgerId);
+    }
+
+    private void writeCsvLine(Writer writer, TransactionResponse response) throws IOException {
+        writer.write(String.join(",",
+                csv(response.getId()),
+                csv(response.getTransactionDate()),
+                csv(response.getType()),
+                response.getAmount() != null ? response.getAmount().toPlainString() : "",
+                csv(response.getCategory()),
+                csv(response.getDescription()),
+                csv(response.getMemo()),
+                csv(response.getCreatedAt()),
+                csv(response.getUpdatedAt())));
+        writer.write('\n');
+    }
+
+    /**
+     * CSV 필드 이스케이프
+     *
+     * <ul>
+     *   <li>수식 주입 방지: 내용/카테고리/메모는 사용자나 카드 가맹점이 정한 값이므로, 스프레드시트가 수식으로
+     *       실행하는 문자({@code = + - @}, 탭, CR)로 시작하면 앞에 {@code '}를 붙여 문자열로 열리게 합니다.</li>
+     *   <li>RFC 4180: 구분자·따옴표·개행 포함 시 따옴표로 감싸고 따옴표는 두 번 기록합니다.</li>
+     * </ul>
+     */
+    static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,219 @@
+package com.hamkkebu.transactionservice.service;
+
+import com.hamkkebu.transactionservice.data.entity.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 거래내역 CSV 행 → 가져오기 거래 변환
+ *
+ * <p>헤더 이름으로 컬럼 위치를 찾으므로 컬럼 순서와 추가 컬럼(잔액, 지점 등)은 상관없습니다.
+ * 내보내기 CSV(transactionDate, type, amount ...)와 은행 거래내역 양식(거래일자, 출금액, 입금액 ...)을 모두 받습니다.</p>
+ * <ul>
+ *   <li>유형 컬럼이 있으면 그 값(INCOME/EXPENSE, 수입/지출, 입금/출금)을 쓰고 금액은 절댓값을 씁니다.</li>
+ *   <li>유형 컬럼 없이 금액 컬럼만 있으면 음수를 지출, 양수를 수입으로 봅니다.</li>
+ *   <li>출금/입금 컬럼이 나뉘어 있으면 값이 있는 쪽으로 유형을 정합니다.</li>
+ * </ul>
+ */
+final class TransactionImportRowParser {
+
+    private static final int DESCRIPTION_MAX_LENGTH = 500;
+    private static final int CATEGORY_MAX_LENGTH = 100;
+    private static final int MEMO_MAX_LENGTH = 1000;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("uuuu-M-d");
+
+    private static final Map<Column, List<String>> ALIASES = Map.of(
+            Column.DATE, List.of("transactiondate", "date", "거래일", "거래일자", "거래일시", "일자", "날짜"),
+            Column.TYPE, List.of("type", "transactiontype", "구분", "유형", "거래구분"),
+            Column.AMOUNT, List.of("amount", "금액", "거래금액"),
+            Column.WITHDRAWAL, List.of("withdrawal", "출금", "출금액", "출금금액", "찾으신금액"),
+            Column.DEPOSIT, List.of("deposit", "입금", "입금액", "입금금액", "맡기신금액"),
+            Column.DESCRIPTION, List.of("description", "내용", "적요", "거래내용", "내역", "거래처"),
+            Column.CATEGORY, List.of("category", "카테고리", "분류"),
+            Column.MEMO, List.of("memo", "메모", "비고"));
+
+    private enum Column { DATE, TYPE, AMOUNT, WITHDRAWAL, DEPOSIT, DESCRIPTION, CATEGORY, MEMO }
+
+    private final int[] indexes = new int[Column.values().length];
+
+    private TransactionImportRowParser(List<String> header) {
+        for (Column column : Column.values()) {
+            indexes[column.ordinal()] = -1;
+            for (int i = 0; i < header.size(); i++) {
+                if (ALIASES.get(column).contains(normalizeHeader(header.get(i)))) {
+                    indexes[column.ordinal()] = i;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * 헤더 행으로 파서 생성
+     *
+     * @throws IllegalArgumentException 거래일 또는 금액(금액/출금/입금) 컬럼이 없는 경우
+     */
+    static TransactionImportRowParser fromHeader(List<String> header) {
+        TransactionImportRowParser parser = new TransactionImportRowParser(header);
+        if (!parser.has(Column.DATE)) {
+            throw new IllegalArgumentException("거래일 컬럼을 찾을 수 없습니다 (예: transactionDate, 거래일자)");
+        }
+        if (!parser.has(Column.AMOUNT) && !parser.has(Column.WITHDRAWAL) && !parser.has(Column.DEPOSIT)) {
+            throw new IllegalArgumentException("금액 컬럼을 찾을 수 없습니다 (예: amount, 금액, 출금액/입금액)");
+        }
+        return parser;
+    }
+
+    /**
+     * 데이터 행 변환
+     *
+     * @throws IllegalArgumentException 거래일/금액/유형 형식이 올바르지 않은 행
+     */
+    ImportRow parse(List<String> fields) {
+        LocalDate transactionDate = parseDate(value(fields, Column.DATE));
+
+        TransactionType type;
+        BigDecimal amount;
+        if (has(Column.AMOUNT)) {
+            BigDecimal signed = parseAmount(value(fields, Column.AMOUNT));
+            if (signed == null) {
+                throw new IllegalArgumentException("금액이 비어 있습니다");
+            }
+            String typeValue = value(fields, Column.TYPE);
+            if (typeValue != null) {
+                type = parseType(typeValue);
+            } else {
+                type = signed.signum() < 0 ? TransactionType.EXPENSE : TransactionType.INCOME;
+            }
+            amount = signed.abs();
+        } else {
+            BigDecimal withdrawal = parseAmount(value(fields, Column.WITHDRAWAL));
+            BigDecimal deposit = parseAmount(value(fields, Column.DEPOSIT));
+            boolean out = withdrawal != null && withdrawal.signum() != 0;
+            boolean in = deposit != null && deposit.signum() != 0;
+            if (out == in) {
+                throw new IllegalArgumentException("출금액과 입금액 중 하나만 있어야 합니다");
+            }
+            type = out ? TransactionType.EXPENSE : TransactionType.INCOME;
+            amount = (out ? withdrawal : deposit).abs();
+        }
+        if (amount.signum() == 0) {
+            throw new IllegalArgumentException("금액은 0보다 커야 합니다");
+        }
+        // amount 컬럼 DECIMAL(19, 4) 범위
+        if (amount.scale() > 4 || amount.precision() - amount.scale() > 15) {
+            throw new IllegalArgumentException("금액 범위를 벗어났습니다: " + amount.toPlainString());
+        }
+
+        return new ImportRow(transactionDate, type, amount,
+                truncate(text(fields, Column.DESCRIPTION), DESCRIPTION_MAX_LENGTH),
+                truncate(text(fields, Column.CATEGORY), CATEGORY_MAX_LENGTH),
+                truncate(text(fields, Column.MEMO), MEMO_MAX_LENGTH));
+    }
+
+    private boolean has(Column column) {
+        return indexes[column.ordinal()] >= 0;
+    }
+
+    private String value(List<String> fields, Column column) {
+        int index = indexes[column.ordinal()];
+        if (index < 0 || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // 내보내기에서 수식 주입 방지로 붙인 ' 를 되돌려 원래 문자열로 가져옴
+    private String text(List<String> fields, Column column) {
+        String value = value(fields, column);
+        if (value != null && value.length() > 1 && value.charAt(0) == '\''
+                && "=+-@".indexOf(value.charAt(1)) >= 0) {
+            return value.substring(1);
+        }
+        return value;
+    }
+
+    private static String normalizeHeader(String header) {
+        return header.replace("\uFEFF", "").replaceAll("[\\s_\\-()]", "").toLowerCase(Locale.ROOT);
+    }
+
+    // 2024-03-01, 2024.03.01, 2024/3/1, 20240301 (뒤에 붙은 시각은 무시)
+    private static LocalDate parseDate(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("거래일이 비어 있습니다");
+        }
+        String date = value.split("[\\sT]", 2)[0].replace('.', '-').replace('/', '-');
+        if (date.endsWith("-")) {
+            date = date.substring(0, date.length() - 1);
+        }
+        if (date.matches("\\d{8}")) {
+            date = date.substring(0, 4) + "-" + date.substring(4, 6) + "-" + date.substring(6);
+        }
+        try {
+            return LocalDate.parse(date, DATE_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("거래일 형식이 올바르지 않습니다: " + value);
+        }
+    }
+
+    // 1,234 / -1234.5 / (1,234) / 1,234원
+    private static BigDecimal parseAmount(String value) {
+        if (value == null) {
+            return null;
+        }
+        String amount = value.replaceAll("[,\\s원₩]", "");
+        boolean negative = amount.startsWith("(") && amount.endsWith(")");
+        if (negative) {
+            amount = amount.substring(1, amount.length() - 1);
+        }
+        if (amount.isEmpty()) {
+            return null;
+        }
+        try {
+            BigDecimal parsed = new BigDecimal(amount);
+            return negative ? parsed.negate() : parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("금액 형식이 올바르지 않습니다: " + value);
+        }
+    }
+
+    private static TransactionType parseType(String value) {
+        return switch (value.toUpperCase(Locale.ROOT)) {
+            case "INCOME", "수입", "입금", "DEPOSIT", "CREDIT" -> TransactionType.INCOME;
+            case "EXPENSE", "지출", "출금", "WITHDRAWAL", "DEBIT" -> TransactionType.EXPENSE;
+            default -> throw new IllegalArgumentException("거래 유형을 알 수 없습니다: " + value);
+        };
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+
+    /**
+     * 변환된 가져오기 행
+     */
+    record ImportRow(LocalDate transactionDate, TransactionType type, BigDecimal amount,
+                     String description, String category, String memo) {
+
+        /**
+         * 중복 판별 기준 값 (가계부/카테고리/메모와 무관, 금액은 표기 차이를 없앰)
+         */
+        String dedupeKey() {
+            String normalizedDescription = description != null
+                    ? description.replaceAll("\\s+", " ").toLowerCase(Locale.ROOT)
+                    : "";
+            return transactionDate + "|" + type + "|" + amount.stripTrailingZeros().toPlainString()
+                    + "|" + normalizedDescription;
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.hamkkebu.transactionservice.service;
+
+import com.hamkkebu.boilerplate.common.exception.BusinessException;
+import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import com.hamkkebu.transactionservice.data.dto.TransactionImportJobResponse;
+import com.hamkkebu.transactionservice.data.dto.TransactionImportJobResponse.Status;
+import com.hamkkebu.transactionservice.data.entity.Transaction;
+import com.hamkkebu.transactionservice.data.entity.enums.TransactionSourceType;
+import com.hamkkebu.transactionservice.kafka.event.TransactionEvent;
+import com.hamkkebu.transactionservice.kafka.producer.TransactionEventProducer;
+import com.hamkkebu.transactionservice.repository.TransactionImportJobRepository;
+import com.hamkkebu.transactionservice.repository.TransactionJdbcRepository;
+import com.hamkkebu.transactionservice.service.TransactionImportRowParser.ImportRow;
+import com.hamkkebu.transactionservice.service.TransactionRollupService.RollupEntry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래내역 파일(CSV) 가져오기 서비스
+ *
+ * <p>업로드 파일을 임시 파일로 옮기고 작업(job)을 만든 뒤 바로 반환하며,
+ * 실제 가져오기는 전용 스레드에서 파일을 한 행씩 읽어 청크(transaction.batch.size) 단위로 처리합니다.
+ * 파일 크기와 무관하게 메모리에는 한 청크와 행별 중복 판별 키만 유지합니다.</p>
+ * <ul>
+ *   <li>청크마다 별도 트랜잭션: 기존 가져오기 키를 한 번의 IN 조회로 걸러낸 뒤 JDBC multi-row INSERT,
+ *       일별 집계 반영, 거래 이벤트 Outbox 저장을 함께 커밋하고 작업 진행 건수를 갱신합니다.</li>
+ *   <li>중복 판별 키는 거래일/유형/금액/내용과 파일 안에서 같은 값이 나온 순번의 해시입니다.
+ *       같은 날 같은 금액의 같은 가맹점 거래가 여러 건이어도 각각 가져오며,
+ *       실패한 작업의 파일이나 기간이 겹치는 파일을 다시 올리면 없는 거래만 추가됩니다.</li>
+ *   <li>형식이 잘못된 행은 건너뛰고 행 번호와 사유를 작업에 기록합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class TransactionImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    private final TransactionService transactionService;
+    private final TransactionJdbcRepository transactionJdbcRepository;
+    private final TransactionImportJobRepository importJobRepository;
+    private final TransactionRollupService transactionRollupService;
+    private final TransactionEventProducer transactionEventProducer;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor importExecutor;
+    private final int chunkSize;
+
+    public TransactionImportService(TransactionService transactionService,
+                                    TransactionJdbcRepository transactionJdbcRepository,
+                                    TransactionImportJobRepository importJobRepository,
+                                    TransactionRollupService transactionRollupService,
+                                    TransactionEventProducer transactionEventProducer,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${transaction.import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+                                    @Value("${transaction.import.queue-capacity:20}") int queueCapacity,
+                                    @Value("${transaction.batch.size:500}") int chunkSize) {
+        this.transactionService = transactionService;
+        this.transactionJdbcRepository = transactionJdbcRepository;
+        this.importJobRepository = importJobRepository;
+        this.transactionRollupService = transactionRollupService;
+        this.transactionEventProducer = transactionEventProducer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+
+        // 동시 실행 작업 수와 대기 작업 수를 제한 (초과 시 즉시 거절)
+        this.importExecutor = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("transaction-import-"));
+        this.importExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 가져오기 작업 시작
+     *
+     * <p>접근 권한은 작업을 만들기 전에 검증합니다. 업로드 파일은 스트림으로 임시 파일에 복사하므로
+     * 요청 스레드에서도 파일 전체를 메모리에 올리지 않습니다.</p>
+     *
+     * @param encoding 파일 인코딩 이름 (은행 양식은 EUC-KR/MS949인 경우가 많음)
+     * @return 생성된 작업 (대기열이 가득 차면 FAILED)
+     * @throws BusinessException 빈 파일이거나 지원하지 않는 인코딩 (INVALID_INPUT_VALUE)
+     */
+    public TransactionImportJobResponse startImport(Long ledgerId, Long userId, MultipartFile file, String encoding) {
+        transactionService.checkLedgerAccess(ledgerId, userId);
+        Charset charset = resolveCharset(encoding);
+        if (file.isEmpty()) {
+            log.warn("[Import] Rejected empty file: ledgerId={}, userId={}", ledgerId, userId);
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Path tempFile = copyToTempFile(file);
+        long jobId = importJobRepository.create(ledgerId, userId, file.getOriginalFilename());
+        log.info("[Import] Job created: jobId={}, ledgerId={}, userId={}, fileName={}, size={}",
+                jobId, ledgerId, userId, file.getOriginalFilename(), file.getSize());
+
+        try {
+            importExecutor.execute(() -> runImport(jobId, ledgerId, userId, tempFile, charset));
+        } catch (RejectedExecutionException e) {
+            log.warn("[Import] Job rejected (queue full): jobId={}", jobId);
+            deleteQuietly(tempFile);
+            importJobRepository.finish(jobId, Status.FAILED, 0, 0, 0, 0,
+                    "진행 중인 가져오기 작업이 많습니다. 잠시 후 다시 시도하세요");
+        }
+        return getJob(jobId, userId);
+    }
+
+    /**
+     * 가져오기 작업 상태 조회 (본인 작업만)
+     */
+    public TransactionImportJobResponse getJob(long jobId, Long userId) {
+        return importJobRepository.findByIdAndUserId(jobId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TRANSACTION_IMPORT_JOB_NOT_FOUND));
+    }
+
+    /**
+     * 요청 파라미터의 인코딩 이름을 Charset으로 변환 (잘못된 이름/미지원 인코딩은 클라이언트 오류)
+     */
+    private static Charset resolveCharset(String encoding) {
+        try {
+            return Charset.forName(encoding);
+        } catch (IllegalArgumentException e) {
+            // IllegalCharsetNameException, UnsupportedCharsetException 포함
+            log.warn("[Import] Rejected unsupported encoding: {}", encoding);
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 실행 중인 작업은 커밋된 청크까지 반영된 채 RUNNING으로 남으며, 같은 파일을 다시 올리면 이어서 가져옴
+        importExecutor.shutdownNow();
+    }
+
+    private void runImport(long jobId, Long ledgerId, Long userId, Path file, Charset charset) {
+        ImportProgress progress = new ImportProgress();
+        long startedAt = System.currentTimeMillis();
+        try {
+            importJobRepository.markRunning(jobId);
+            readAndInsert(jobId, ledgerId, userId, file, charset, progress);
+            importJobRepository.finish(jobId, Status.COMPLETED, progress.processed, progress.inserted,
+                    progress.duplicates, progress.invalid, progress.errorSummary());
+            log.info("[Import] Job completed: jobId={}, processed={}, inserted={}, duplicates={}, invalid={}, "
+                            + "elapsedMs={}", jobId, progress.processed, progress.inserted, progress.duplicates,
+                    progress.invalid, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("[Import] Job failed: jobId={}, processed={}, inserted={}, error={}",
+                    jobId, progress.processed, progress.inserted, e.getMessage(), e);
+            String reason = e instanceof CharacterCodingException
+                    ? "파일을 " + charset.name() + " 인코딩으로 읽을 수 없습니다 (encoding 파라미터를 확인하세요)"
+                    : e.getMessage();
+            String summary = progress.errorSummary();
+            importJobRepository.finish(jobId, Status.FAILED, progress.processed, progress.inserted,
+                    progress.duplicates, progress.invalid, summary != null ? reason + "\n" + summary : reason);
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private void readAndInsert(long jobId, Long ledgerId, Long userId, Path file, Charset charset,
+                               ImportProgress progress) throws IOException {
+        try (CsvRowReader reader = new CsvRowReader(Files.newBufferedReader(file, charset))) {
+            List<String> header = reader.next();
+            if (header == null) {
+                throw new IllegalArgumentException("빈 파일입니다");
+            }
+            TransactionImportRowParser parser = TransactionImportRowParser.fromHeader(header);
+
+            // 중복 판별 기준 값별 등장 횟수 (같은 값의 n번째 행은 재가져오기에서도 n번째로 매칭)
+            Map<String, Integer> occurrences = new HashMap<>();
+            List<Transaction> chunk = new ArrayList<>(chunkSize);
+            List<String> fields;
+            while ((fields = reader.next()) != null) {
+                if (isBlank(fields)) {
+                    continue;
+                }
+                progress.processed++;
+
+                ImportRow row;
+                try {
+                    row = parser.parse(fields);
+                } catch (IllegalArgumentException e) {
+                    progress.addInvalid(reader.recordLine(), e.getMessage());
+                    continue;
+                }
+                String dedupeKey = row.dedupeKey();
+                int occurrence = occurrences.merge(dedupeKey, 1, Integer::sum);
+                chunk.add(toTransaction(row, ledgerId, userId, importHash(dedupeKey, occurrence)));
+
+                if (chunk.size() >= chunkSize) {
+                    insertChunk(ledgerId, chunk, progress);
+                    importJobRepository.updateProgress(jobId, progress.processed, progress.inserted,
+                            progress.duplicates, progress.invalid);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            insertChunk(ledgerId, chunk, progress);
+        }
+    }
+
+    /**
+     * 청크 하나를 한 트랜잭션으로 반영
+     *
+     * <p>같은 가계부에 같은 파일을 동시에 가져오는 경우 다른 작업이 먼저 커밋한 행과 유니크 키가 충돌할 수 있으므로,
+     * 한 번 더 기존 키를 조회해 다시 시도합니다.</p>
+     */
+    private void insertChunk(Long ledgerId, List<Transaction> chunk, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        int inserted;
+        try {
+            inserted = transactionTemplate.execute(status -> insertNew(ledgerId, chunk));
+        } catch (DuplicateKeyException e) {
+            log.info("[Import] Import key conflict, retrying chunk: ledgerId={}, size={}", ledgerId, chunk.size());
+            chunk.forEach(transaction -> transaction.setId(null));
+            inserted = transactionTemplate.execute(status -> insertNew(ledgerId, chunk));
+        }
+        progress.inserted += inserted;
+        progress.duplicates += chunk.size() - inserted;
+    }
+
+    private int insertNew(Long ledgerId, List<Transaction> chunk) {
+        Set<String> existing = transactionJdbcRepository.findActiveImportHashes(ledgerId,
+                chunk.stream().map(Transaction::getImportHash).toList());
+        List<Transaction> fresh = chunk.stream()
+                .filter(transaction -> !existing.contains(transaction.getImportHash()))
+                .toList();
+        if (fresh.isEmpty()) {
+            return 0;
+        }
+
+        transactionJdbcRepository.batchInsert(fresh);
+        transactionRollupService.applyAll(List.of(), fresh.stream().map(RollupEntry::of).toList());
+        transactionEventProducer.publishAll(fresh.stream().map(TransactionEvent::created).toList());
+        return fresh.size();
+    }
+
+    private static Transaction toTransaction(ImportRow row, Long ledgerId, Long userId, String importHash) {
+        return Transaction.builder()
+                .ledgerId(ledgerId)
+                .userId(userId)
+                .type(row.type())
+                .amount(row.amount())
+                .description(row.description())
+                .category(row.category())
+                .transactionDate(row.transactionDate())
+                .memo(row.memo())
+                .sourceType(TransactionSourceType.IMPORT)
+                .importHash(importHash)
+                .build();
+    }
+
+    static String importHash(String dedupeKey, int occurrence) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((dedupeKey + "#" + occurrence).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    private static boolean isBlank(List<String> fields) {
+        return fields.stream().allMatch(String::isBlank);
+    }
+
+    private static Path copyToTempFile(MultipartFile file) {
+        try {
+            Path tempFile = Files.createTempFile("transaction-import-", ".csv");
+            try (InputStream in = file.getInputStream()) {
+                Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return tempFile;
+        } catch (IOException e) {
+            throw new UncheckedIOException("업로드 파일을 저장하지 못했습니다", e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[Import] Failed to delete temp file: path={}, error={}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 진행 건수 (작업 스레드 한 곳에서만 갱신)
+     */
+    private static final class ImportProgress {
+        private int processed;
+        private int inserted;
+        private int duplicates;
+        private int invalid;
+        private final List<String> errors = new ArrayList<>();
+
+        void addInvalid(long line, String reason) {
+            invalid++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(line + "행: " + reason);
+            }
+        }
+
+        String errorSummary() {
+            if (errors.isEmpty()) {
+                return null;
+            }
+            String summary = String.join("\n", errors);
+            return invalid > errors.size() ? summary + "\n외 " + (invalid - errors.size()) + "건" : summary;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.hamkkebu.transactionservice.service;
+
+import com.hamkkebu.boilerplate.common.util.BigDecimalUtils;
+import com.hamkkebu.transactionservice.data.dto.DailyTransactionAggregate;
+import com.hamkkebu.transactionservice.data.dto.RollupDrift;
+import com.hamkkebu.transactionservice.data.entity.Transaction;
+import com.hamkkebu.transactionservice.data.entity.enums.TransactionType;
+import com.hamkkebu.transactionservice.repository.TransactionDailyRollupRepository;
+import com.hamkkebu.transactionservice.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 거래 일별 집계(rollup) 관리 서비스
+ *
+ * <p>거래 생성/수정/삭제 시 tbl_transaction_daily_rollup을 증분 갱신합니다.
+ * 증분 갱신 메서드는 거래 쓰기와 같은 DB 트랜잭션 안에서만 호출할 수 있습니다 (MANDATORY).</p>
+ *
+ * <p>원본 거래로부터 집계를 재계산하여 불일치를 검출하고 재생성하는 기능도 제공합니다.</p>
+ * <p>거래 쓰기 경로는 모두 이 서비스를 거치므로, 반영한 가계부의 요약 캐시 버전을
+ * 커밋 후에 올립니다 (금액 변화가 없는 수정도 월별 거래 목록에는 반영되어야 함).</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class TransactionRollupService {
+
+    private final TransactionDailyRollupRepository rollupRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionSummaryCache summaryCache;
+
+    /**
+     * 집계에 반영된 거래 값 스냅샷 (수정 전 값 보관용)
+     */
+    public record RollupEntry(Long ledgerId, LocalDate transactionDate, TransactionType type, BigDecimal amount) {
+
+        public static RollupEntry of(Transaction transaction) {
+            return new RollupEntry(transaction.getLedgerId(), transaction.getTransactionDate(),
+                    transaction.getType(), transaction.getAmount());
+        }
+    }
+
+    // ==================== 증분 갱신 ====================
+
+    /**
+     * 거래 생성 반영
+     */
+    public void applyCreated(Transaction transaction) {
+        summaryCache.bumpVersion(transaction.getLedgerId());
+        apply(RollupEntry.of(transaction), 1);
+    }
+
+    /**
+     * 거래 삭제 반영
+     */
+    public void applyDeleted(Transaction transaction) {
+        summaryCache.bumpVersion(transaction.getLedgerId());
+        apply(RollupEntry.of(transaction), -1);
+    }
+
+    /**
+     * 거래 수정 반영
+     *
+     * @param previous 수정 전 값 ({@link RollupEntry#of}로 수정 전에 생성)
+     * @param updated  수정된 거래
+     */
+    public void applyUpdated(RollupEntry previous, Transaction updated) {
+        RollupEntry current = RollupEntry.of(updated);
+        summaryCache.bumpVersions(List.of(previous.ledgerId(), current.ledgerId()));
+        if (previous.ledgerId().equals(current.ledgerId())
+                && previous.transactionDate().equals(current.transactionDate())
+                && previous.type() == current.type()
+                && previous.amount().compareTo(current.amount()) == 0) {
+            return;
+        }
+        apply(previous, -1);
+        apply(current, 1);
+    }
+
+    /**
+     * 여러 거래 변경을 버킷(가계부, 거래일, 유형)별로 합쳐 반영 (일괄 API용)
+     *
+     * <p>버킷마다 증감을 먼저 합산하므로 같은 날짜의 거래가 많아도 버킷당 한 번만 갱신합니다.</p>
+     *
+     * @param removed 집계에서 뺄 값 (삭제된 거래, 수정 전 값)
+     * @param added   집계에 더할 값 (생성된 거래, 수정 후 값)
+     */
+    public void applyAll(Collection<RollupEntry> removed, Collection<RollupEntry> added) {
+        Map<RollupEntry, BigDecimal> amountDeltas = new HashMap<>();
+        Map<RollupEntry, Long> countDeltas = new HashMap<>();
+        accumulate(removed, -1, amountDeltas, countDeltas);
+        accumulate(added, 1, amountDeltas, countDeltas);
+        summaryCache.bumpVersions(countDeltas.keySet().stream().map(RollupEntry::ledgerId).toList());
+
+        countDeltas.forEach((bucket, countDelta) -> {
+            BigDecimal amountDelta = amountDeltas.get(bucket);
+            if (countDelta == 0 && amountDelta.signum() == 0) {
+                return;
+            }
+            rollupRepository.applyDelta(bucket.ledgerId(), bucket.transactionDate(), bucket.type().name(),
+                    amountDelta, countDelta);
+        });
+    }
+
+    private static void accumulate(Collection<RollupEntry> entries, int sign,
+                                   Map<RollupEntry, BigDecimal> amountDeltas, Map<RollupEntry, Long> countDeltas) {
+        for (RollupEntry entry : entries) {
+            RollupEntry bucket = new RollupEntry(entry.ledgerId(), entry.transactionDate(), entry.type(), null);
+            BigDecimal amount = BigDecimalUtils.nullToZero(entry.amount());
+            amountDeltas.merge(bucket, sign > 0 ? amount : amount.negate(), BigDecimal::add);
+            countDeltas.merge(bucket, (long) sign, Long::sum);
+        }
+    }
+
+    /**
+     * 연동 카드 거래 일괄 soft delete 반영
+     *
+     * <p>차감 대상을 원본 거래에서 읽으므로 반드시 soft delete 쿼리보다 먼저 호출해야 합니다.</p>
+     *
+     * @return 갱신된 집계 행 수 (MySQL affected rows 기준)
+     */
+    public int applySoftDeleteByLinkedCardId(Long linkedCardId) {
+        summaryCache.bumpVersions(transactionRepository.findDistinctLedgerIdsByLinkedCardId(linkedCardId));
+        return rollupRepository.subtractActiveByLinkedCardId(linkedCardId);
+    }
+
+    /**
+     * 가계부의 특정 거래일 버킷을 원본 거래로부터 재계산
+     *
+     * <p>증감을 계산할 수 없는 upsert 쓰기 후에 사용합니다. 재계산 결과로 덮어쓰므로
+     * 같은 버킷을 여러 번 갱신해도 결과가 같습니다 (동시 동기화/재시도에 안전).
+     * 거래가 모두 사라지는 버킷은 갱신되지 않으므로 삭제 경로에는 사용하지 않습니다.</p>
+     *
+     * @return 갱신된 집계 행 수 (MySQL affected rows 기준)
+     */
+    public int refreshDates(Long ledgerId, Collection<LocalDate> transactionDates) {
+        if (transactionDates.isEmpty()) {
+            return 0;
+        }
+        summaryCache.bumpVersion(ledgerId);
+        return rollupRepository.refreshFromTransactionsByLedgerIdAndDates(ledgerId, transactionDates);
+    }
+
+    private void apply(RollupEntry entry, int sign) {
+        BigDecimal amount = BigDecimalUtils.nullToZero(entry.amount());
+        rollupRepository.applyDelta(
+                entry.ledgerId(),
+                entry.transactionDate(),
+                entry.type().name(),
+                sign > 0 ? amount : amount.negate(),
+                sign);
+    }
+
+    // ==================== 검증 / 재생성 ====================
+
+    /**
+     * 검증 대상 가계부 ID 목록 (원본 거래 또는 집계 행이 존재하는 가계부)
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findLedgerIdsToVerify() {
+        Set<Long> ledgerIds = new TreeSet<>(transactionRepository.findDistinctLedgerIds());
+        ledgerIds.addAll(rollupRepository.findDistinctLedgerIds());
+        return ledgerIds;
+    }
+
+    /**
+     * 원본 거래로부터 재계산한 값과 집계 테이블을 비교하여 불일치 버킷을 반환
+     *
+     * <p>건수와 금액이 모두 0인 집계 행은 존재하지 않는 것으로 취급합니다.</p>
+     */
+    @Transactional(readOnly = true)
+    public List<RollupDrift> verifyLedger(Long ledgerId) {
+        Map<BucketKey, DailyTransactionAggregate> expected =
+                indexByBucket(transactionRepository.aggregateDailyByLedgerId(ledgerId));
+        Map<BucketKey, DailyTransactionAggregate> actual =
+                indexByBucket(rollupRepository.findDailyByLedgerId(ledgerId));
+
+        Set<BucketKey> keys = new HashSet<>(expected.keySet());
+        keys.addAll(actual.keySet());
+
+        List<RollupDrift> drifts = new ArrayList<>();
+        for (BucketKey key : keys) {
+            BigDecimal expectedAmount = amountOf(expected.get(key));
+            BigDecimal actualAmount = amountOf(actual.get(key));
+            long expectedCount = countOf(expected.get(key));
+            long actualCount = countOf(actual.get(key));
+
+            if (expectedAmount.compareTo(actualAmount) != 0 || expectedCount != actualCount) {
+                drifts.add(RollupDrift.builder()
+                        .ledgerId(ledgerId)
+                        .transactionDate(key.transactionDate())
+                        .type(key.type())
+                        .expectedAmount(expectedAmount)
+                        .actualAmount(actualAmount)
+                        .expectedCount(expectedCount)
+                        .actualCount(actualCount)
+                        .build());
+            }
+        }
+        return drifts;
+    }
+
+    /**
+     * 가계부의 집계 행을 원본 거래로부터 재생성
+     *
+     * @return 재생성된 집계 행 수
+     */
+    @Transactional
+    public int rebuildLedger(Long ledgerId) {
+        int deleted = rollupRepository.deleteByLedgerId(ledgerId);
+        int inserted = rollupRepository.insertFromTransactionsByLedgerId(ledgerId);
+        summaryCache.bumpVersion(ledgerId);
+        log.info("[Rollup] Rebuilt ledger {}: deletedRows={}, insertedRows={}", ledgerId, deleted, inserted);
+        return inserted;
+    }
+
+    private record BucketKey(LocalDate transactionDate, TransactionType type) {
+    }
+
+    private Map<BucketKey, DailyTransactionAggregate> indexByBucket(List<DailyTransactionAggregate> aggregates) {
+        Map<BucketKey, DailyTransactionAggregate> index = new HashMap<>();
+        for (DailyTransactionAggregate aggregate : aggregates) {
+            index.put(new BucketKey(aggregate.getTransactionDate(), aggregate.getType()), aggregate);
+        }
+        return index;
+    }
+
+    private BigDecimal amountOf(DailyTransactionAggregate aggregate) {
+        return aggregate != null ? BigDecimalUtils.nullToZero(aggregate.getTotalAmount()) : BigDecimal.ZERO;
+    }
+
+    private long countOf(DailyTransactionAggregate aggregate) {
+        return aggregate != null && aggregate.getTransactionCount() != null ? aggregate.getTransactionCount() : 0L;
+    }
+}
@@ -0,0 +1,82 @@
+package com.hamkkebu.transactionservice.service;
+
+import com.hamkkebu.transactionservice.data.dto.RollupDrift;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 거래 일별 집계(rollup) 정합성 검증 스케줄러
+ *
+ * <p>가계부별로 원본 거래에서 재계산한 값과 집계 테이블을 비교하여 불일치를 보고하고,
+ * auto-repair가 켜져 있으면 해당 가계부의 집계를 재생성합니다.</p>
+ * <p>가계부 단위로 트랜잭션을 분리하므로 한 가계부의 실패가 전체 작업을 중단시키지 않습니다.</p>
+ * <p>여러 레플리카 중 리스를 얻은 한 인스턴스에서만 실행합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionRollupVerifyScheduler {
+
+    private static final String LEASE_NAME = "transaction-rollup-verify";
+
+    private final TransactionRollupService transactionRollupService;
+    private final ScheduledJobCoordinator scheduledJobCoordinator;
+
+    @Value("${transaction.rollup.auto-repair:true}")
+    private boolean autoRepair;
+
+    @Value("${transaction.rollup.verify-lease:2h}")
+    private Duration verifyLease;
+
+    /**
+     * 매일 새벽 4시 30분에 실행 (기본값)
+     */
+    @Scheduled(cron = "${transaction.rollup.verify-cron:0 30 4 * * *}")
+    public void verifyRollup() {
+        // 여러 레플리카 중 리스를 얻은 한 인스턴스만 실행
+        scheduledJobCoordinator.runExclusively(LEASE_NAME, verifyLease, this::verifyAllLedgers);
+    }
+
+    private void verifyAllLedgers() {
+        Set<Long> ledgerIds = transactionRollupService.findLedgerIdsToVerify();
+        log.info("[Rollup] Starting verification for {} ledgers (autoRepair={})", ledgerIds.size(), autoRepair);
+
+        int driftedLedgers = 0;
+        int driftedBuckets = 0;
+        int failedLedgers = 0;
+
+        for (Long ledgerId : ledgerIds) {
+            try {
+                List<RollupDrift> drifts = transactionRollupService.verifyLedger(ledgerId);
+                if (drifts.isEmpty()) {
+                    continue;
+                }
+
+                driftedLedgers++;
+                driftedBuckets += drifts.size();
+                drifts.forEach(drift -> log.warn(
+                        "[Rollup] Drift detected: ledgerId={}, date={}, type={}, amount={}/{}, count={}/{}",
+                        drift.getLedgerId(), drift.getTransactionDate(), drift.getType(),
+                        drift.getActualAmount(), drift.getExpectedAmount(),
+                        drift.getActualCount(), drift.getExpectedCount()));
+
+                if (autoRepair) {
+                    transactionRollupService.rebuildLedger(ledgerId);
+                }
+            } catch (Exception e) {
+                failedLedgers++;
+                log.error("[Rollup] Verification failed for ledger {}: {}", ledgerId, e.getMessage(), e);
+            }
+        }
+
+        log.info("[Rollup] Verification completed: ledgers={}, driftedLedgers={}, driftedBuckets={}, failed={}",
+                ledgerIds.size(), driftedLedgers, driftedBuckets, failedLedgers);
+    }
+}
@@ -4,9 +4,14 @@ import com.hamkkebu.boilerplate.common.enums.ShareStatus;
 import com.hamkkebu.boilerplate.common.exception.BusinessException;
 import com.hamkkebu.boilerplate.common.exception.ErrorCode;
 import com.hamkkebu.boilerplate.common.util.BigDecimalUtils;
+import com.hamkkebu.transactionservice.data.dto.DailyTransactionAggregate;
+import com.hamkkebu.transactionservice.data.dto.MonthlyTransactionAggregate;
 import com.hamkkebu.transactionservice.data.dto.PeriodTransactionSummary;
 import com.hamkkebu.transactionservice.data.dto.PeriodTransactionSummary.PeriodDetail;
 import com.hamkkebu.transactionservice.data.dto.PeriodTransactionSummary.PeriodType;
+import com.hamkkebu.transactionservice.data.dto.TransactionAggregate;
+import com.hamkkebu.transactionservice.data.dto.TransactionCursor;
+import com.hamkkebu.transactionservice.data.dto.TransactionCursorPage;
 import com.hamkkebu.transactionservice.data.dto.TransactionRequest;
 import com.hamkkebu.transactionservice.data.dto.TransactionResponse;
 import com.hamkkebu.transactionservice.data.dto.TransactionSummary;
@@ -17,10 +22,13 @@ import com.hamkkebu.transactionservice.data.mapper.TransactionMapper;
 import com.hamkkebu.transactionservice.kafka.producer.TransactionEventProducer;
 import com.hamkkebu.transactionservice.repository.LedgerRepository;
 import com.hamkkebu.transactionservice.repository.LedgerShareRepository;
+import com.hamkkebu.transactionservice.repository.TransactionDailyRollupRepository;
 import com.hamkkebu.transactionservice.repository.TransactionRepository;
+import com.hamkkebu.transactionservice.service.LedgerAccessCache.LedgerAccess;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,6 +41,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -40,9 +49,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TransactionService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TransactionRepository transactionRepository;
+    private final TransactionDailyRollupRepository rollupRepository;
+    private final TransactionRollupService transactionRollupService;
     private final LedgerRepository ledgerRepository;
     private final LedgerShareRepository ledgerShareRepository;
+    private final LedgerAccessCache ledgerAccessCache;
+    private final TransactionSummaryCache summaryCache;
     private final TransactionMapper transactionMapper;
     private final TransactionEventProducer transactionEventProducer;
 
@@ -58,6 +73,7 @@ public class TransactionService {
         transaction.setSourceType(TransactionSourceType.MANUAL);
 
         Transaction savedTransaction = transactionRepository.save(transaction);
+        transactionRollupService.applyCreated(savedTransaction);
         log.info("Created transaction with id {}", savedTransaction.getId());
 
         // Kafka 이벤트 발행
@@ -83,6 +99,46 @@ public class TransactionService {
         return transactions.map(transactionMapper::toResponse);
     }
 
+    /**
+     * 커서 기반 거래 목록 조회 (keyset 페이징)
+     *
+     * <p>OFFSET/COUNT 없이 (거래일, ID) 커서 다음부터 size건을 조회합니다.
+     * size + 1건을 조회해 다음 페이지 존재 여부를 판단합니다.</p>
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     */
+    @Transactional(readOnly = true)
+    public TransactionCursorPage getTransactionsByLedgerCursor(Long ledgerId, Long userId, String cursor, int size) {
+        log.debug("Fetching transactions for ledger {} by user {} after cursor {}", ledgerId, userId, cursor);
+        validateLedgerAccess(ledgerId, userId);
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Transaction> transactions;
+        if (cursor == null || cursor.isBlank()) {
+            transactions = transactionRepository.findFirstSliceByLedgerId(ledgerId, limit);
+        } else {
+            TransactionCursor after = TransactionCursor.decode(cursor);
+            transactions = transactionRepository.findSliceByLedgerIdAfterCursor(
+                    ledgerId, after.transactionDate(), after.id(), limit);
+        }
+
+        boolean hasNext = transactions.size() > pageSize;
+        List<TransactionResponse> content = transactionMapper.toResponseList(
+                hasNext ? transactions.subList(0, pageSize) : transactions);
+        String nextCursor = hasNext
+                ? TransactionCursor.of(content.get(content.size() - 1)).encode()
+                : null;
+
+        return TransactionCursorPage.builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(pageSize)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public List<TransactionResponse> getAllTransactionsByLedger(Long ledgerId, Long userId) {
         log.debug("Fetching all transactions for ledger {} by user {}", ledgerId, userId);
@@ -99,11 +155,14 @@ public class TransactionService {
         Transaction transaction = transactionRepository.findByIdAndUserIdAndIsDeletedFalse(id, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TRANSACTION_NOT_FOUND));
 
+        TransactionRollupService.RollupEntry previous = TransactionRollupService.RollupEntry.of(transaction);
         transactionMapper.updateEntity(request, transaction);
-        Transaction updatedTransaction = transactionRepository.save(transaction);
+        // 이벤트에 커밋될 버전을 싣기 위해 flush
+        Transaction updatedTransaction = transactionRepository.saveAndFlush(transaction);
+        transactionRollupService.applyUpdated(previous, updatedTransaction);
 
         // Kafka 이벤트 발행
-        transactionEventProducer.publishTransactionUpdated(updatedTransaction);
+        transactionEventProducer.publishTransactionUpdated(updatedTransaction, previous);
 
         log.info("Updated transaction {}", id);
         return transactionMapper.toResponse(updatedTransaction);
@@ -117,7 +176,9 @@ public class TransactionService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.TRANSACTION_NOT_FOUND));
 
         transaction.delete();
-        transactionRepository.save(transaction);
+        // 이벤트에 커밋될 버전을 싣기 위해 flush
+        transactionRepository.saveAndFlush(transaction);
+        transactionRollupService.applyDeleted(transaction);
 
         // Kafka 이벤트 발행
         transactionEventProducer.publishTransactionDeleted(transaction);
@@ -130,11 +191,15 @@ public class TransactionService {
         log.debug("Calculating summary for ledger {} by user {}", ledgerId, userId);
         validateLedgerAccess(ledgerId, userId);
 
-        BigDecimal totalIncome = BigDecimalUtils.nullToZero(
-                transactionRepository.sumAmountByLedgerIdAndType(ledgerId, TransactionType.INCOME));
-        BigDecimal totalExpense = BigDecimalUtils.nullToZero(
-                transactionRepository.sumAmountByLedgerIdAndType(ledgerId, TransactionType.EXPENSE));
-        Long transactionCount = transactionRepository.countByLedgerId(ledgerId);
+        return summaryCache.get(ledgerId, "total", TransactionSummary.class,
+                () -> loadSummaryByLedger(ledgerId));
+    }
+
+    private TransactionSummary loadSummaryByLedger(Long ledgerId) {
+        List<TransactionAggregate> aggregates = rollupRepository.aggregateByLedgerId(ledgerId);
+        BigDecimal totalIncome = sumAmountByType(aggregates, TransactionType.INCOME);
+        BigDecimal totalExpense = sumAmountByType(aggregates, TransactionType.EXPENSE);
+        Long transactionCount = sumTransactionCount(aggregates);
 
         BigDecimal balance = BigDecimalUtils.calculateBalance(totalIncome, totalExpense);
 
@@ -159,11 +224,14 @@ public class TransactionService {
         log.debug("Fetching daily summary for ledger {} on {} by user {}", ledgerId, date, userId);
         validateLedgerAccess(ledgerId, userId);
 
-        return buildPeriodSummary(ledgerId, PeriodType.DAILY, date, date);
+        return buildPeriodSummary(ledgerId, PeriodType.DAILY, date, date,
+                rollupRepository.findDailyByLedgerIdAndDateRange(ledgerId, date, date), true);
     }
 
     /**
      * 월별 거래 요약 조회
+     *
+     * <p>총계/월별/년별 요약은 가계부 버전별로 캐시합니다 ({@link TransactionSummaryCache}).</p>
      */
     @Transactional(readOnly = true)
     public PeriodTransactionSummary getMonthlySummary(Long ledgerId, int year, int month, Long userId) {
@@ -171,28 +239,54 @@ public class TransactionService {
         validateLedgerAccess(ledgerId, userId);
 
         YearMonth yearMonth = YearMonth.of(year, month);
+        return summaryCache.get(ledgerId, "monthly:" + yearMonth, PeriodTransactionSummary.class,
+                () -> loadMonthlySummary(ledgerId, yearMonth));
+    }
+
+    private PeriodTransactionSummary loadMonthlySummary(Long ledgerId, YearMonth yearMonth) {
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
 
-        PeriodTransactionSummary summary = buildPeriodSummary(ledgerId, PeriodType.MONTHLY, startDate, endDate);
-        summary.setPeriodDetails(buildDailyDetails(ledgerId, startDate, endDate));
+        List<DailyTransactionAggregate> aggregates = rollupRepository
+                .findDailyByLedgerIdAndDateRange(ledgerId, startDate, endDate);
+
+        PeriodTransactionSummary summary = buildPeriodSummary(
+                ledgerId, PeriodType.MONTHLY, startDate, endDate, aggregates, true);
+        summary.setPeriodDetails(buildDailyDetails(aggregates));
 
         return summary;
     }
 
     /**
      * 년별 거래 요약 조회
+     *
+     * <p>12개월치 월별 버킷을 한 번의 GROUP BY 쿼리로 집계합니다.
+     * 연간 거래 목록은 includeTransactions가 true일 때만 조회합니다.</p>
+     *
+     * @param includeTransactions 응답에 연간 거래 목록 포함 여부
      */
     @Transactional(readOnly = true)
-    public PeriodTransactionSummary getYearlySummary(Long ledgerId, int year, Long userId) {
-        log.debug("Fetching yearly summary for ledger {} on {} by user {}", ledgerId, year, userId);
+    public PeriodTransactionSummary getYearlySummary(Long ledgerId, int year, boolean includeTransactions,
+                                                     Long userId) {
+        log.debug("Fetching yearly summary for ledger {} on {} by user {} (includeTransactions={})",
+                ledgerId, year, userId, includeTransactions);
         validateLedgerAccess(ledgerId, userId);
 
+        String period = "yearly:" + year + (includeTransactions ? ":transactions" : "");
+        return summaryCache.get(ledgerId, period, PeriodTransactionSummary.class,
+                () -> loadYearlySummary(ledgerId, year, includeTransactions));
+    }
+
+    private PeriodTransactionSummary loadYearlySummary(Long ledgerId, int year, boolean includeTransactions) {
         LocalDate startDate = LocalDate.of(year, 1, 1);
         LocalDate endDate = LocalDate.of(year, 12, 31);
 
-        PeriodTransactionSummary summary = buildPeriodSummary(ledgerId, PeriodType.YEARLY, startDate, endDate);
-        summary.setPeriodDetails(buildMonthlyDetails(ledgerId, year));
+        List<MonthlyTransactionAggregate> aggregates = rollupRepository
+                .aggregateMonthlyByLedgerIdAndDateRange(ledgerId, startDate, endDate);
+
+        PeriodTransactionSummary summary = buildPeriodSummary(
+                ledgerId, PeriodType.YEARLY, startDate, endDate, aggregates, includeTransactions);
+        summary.setPeriodDetails(buildMonthlyDetails(aggregates));
 
         return summary;
     }
@@ -205,7 +299,8 @@ public class TransactionService {
         log.debug("Fetching period summary for ledger {} from {} to {} by user {}", ledgerId, startDate, endDate, userId);
         validateLedgerAccess(ledgerId, userId);
 
-        return buildPeriodSummary(ledgerId, PeriodType.DAILY, startDate, endDate);
+        return buildPeriodSummary(ledgerId, PeriodType.DAILY, startDate, endDate,
+                rollupRepository.findDailyByLedgerIdAndDateRange(ledgerId, startDate, endDate), true);
     }
 
     /**
@@ -224,22 +319,26 @@ public class TransactionService {
 
     /**
      * 기간별 요약 빌드 헬퍼 메서드
+     *
+     * <p>합계와 건수는 집계 버킷으로부터 계산하고,
+     * 거래 목록이 필요한 경우에만 별도 쿼리로 조회합니다.</p>
      */
     private PeriodTransactionSummary buildPeriodSummary(Long ledgerId, PeriodType periodType,
-                                                        LocalDate startDate, LocalDate endDate) {
-        BigDecimal totalIncome = BigDecimalUtils.nullToZero(
-                transactionRepository.sumAmountByLedgerIdAndTypeAndDateRange(
-                        ledgerId, TransactionType.INCOME, startDate, endDate));
-        BigDecimal totalExpense = BigDecimalUtils.nullToZero(
-                transactionRepository.sumAmountByLedgerIdAndTypeAndDateRange(
-                        ledgerId, TransactionType.EXPENSE, startDate, endDate));
-        Long transactionCount = transactionRepository.countByLedgerIdAndDateRange(ledgerId, startDate, endDate);
+                                                        LocalDate startDate, LocalDate endDate,
+                                                        List<? extends TransactionAggregate> aggregates,
+                                                        boolean includeTransactions) {
+        BigDecimal totalIncome = sumAmountByType(aggregates, TransactionType.INCOME);
+        BigDecimal totalExpense = sumAmountByType(aggregates, TransactionType.EXPENSE);
+        Long transactionCount = sumTransactionCount(aggregates);
 
         BigDecimal balance = BigDecimalUtils.calculateBalance(totalIncome, totalExpense);
 
-        List<Transaction> transactions = transactionRepository
-                .findByLedgerIdAndTransactionDateBetweenAndIsDeletedFalseOrderByTransactionDateDescIdDesc(
-                        ledgerId, startDate, endDate);
+        List<TransactionResponse> transactions = null;
+        if (includeTransactions) {
+            transactions = transactionMapper.toResponseList(transactionRepository
+                    .findByLedgerIdAndTransactionDateBetweenAndIsDeletedFalseOrderByTransactionDateDescIdDesc(
+                            ledgerId, startDate, endDate));
+        }
 
         return PeriodTransactionSummary.builder()
                 .ledgerId(ledgerId)
@@ -250,33 +349,31 @@ public class TransactionService {
                 .totalExpense(totalExpense)
                 .balance(balance)
                 .transactionCount(transactionCount)
-                .transactions(transactionMapper.toResponseList(transactions))
+                .transactions(transactions)
                 .build();
     }
 
     /**
      * 일별 상세 요약 빌드 (월별 조회 시 사용)
+     *
+     * <p>집계 버킷을 거래일 기준으로 묶어 최신일 순으로 반환합니다.</p>
      */
-    private List<PeriodDetail> buildDailyDetails(Long ledgerId, LocalDate startDate, LocalDate endDate) {
-        List<Transaction> transactions = transactionRepository
-                .findByLedgerIdAndTransactionDateBetweenAndIsDeletedFalseOrderByTransactionDateDescIdDesc(
-                        ledgerId, startDate, endDate);
-
-        Map<LocalDate, List<Transaction>> groupedByDate = transactions.stream()
-                .collect(Collectors.groupingBy(Transaction::getTransactionDate));
+    private List<PeriodDetail> buildDailyDetails(List<DailyTransactionAggregate> aggregates) {
+        Map<LocalDate, List<DailyTransactionAggregate>> groupedByDate = aggregates.stream()
+                .collect(Collectors.groupingBy(DailyTransactionAggregate::getTransactionDate));
 
         return groupedByDate.entrySet().stream()
-                .map(entry -> buildPeriodDetailFromTransactions(entry.getKey(), entry.getValue()))
+                .map(entry -> buildDailyDetail(entry.getKey(), entry.getValue()))
                 .sorted((a, b) -> b.getStartDate().compareTo(a.getStartDate()))
                 .toList();
     }
 
     /**
-     * 거래 목록으로부터 PeriodDetail 생성
+     * 하루치 집계 버킷으로부터 PeriodDetail 생성
      */
-    private PeriodDetail buildPeriodDetailFromTransactions(LocalDate date, List<Transaction> transactions) {
-        BigDecimal income = calculateAmountByType(transactions, TransactionType.INCOME);
-        BigDecimal expense = calculateAmountByType(transactions, TransactionType.EXPENSE);
+    private PeriodDetail buildDailyDetail(LocalDate date, List<DailyTransactionAggregate> aggregates) {
+        BigDecimal income = sumAmountByType(aggregates, TransactionType.INCOME);
+        BigDecimal expense = sumAmountByType(aggregates, TransactionType.EXPENSE);
 
         return PeriodDetail.builder()
                 .periodLabel(date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")))
@@ -285,53 +382,58 @@ public class TransactionService {
                 .income(income)
                 .expense(expense)
                 .balance(BigDecimalUtils.calculateBalance(income, expense))
-                .transactionCount((long) transactions.size())
+                .transactionCount(sumTransactionCount(aggregates))
                 .build();
     }
 
     /**
-     * 거래 유형별 금액 합계 계산
+     * 집계 버킷의 거래 유형별 금액 합계 계산
      */
-    private BigDecimal calculateAmountByType(List<Transaction> transactions, TransactionType type) {
-        return transactions.stream()
-                .filter(t -> t.getType() == type)
-                .map(Transaction::getAmount)
+    private BigDecimal sumAmountByType(List<? extends TransactionAggregate> aggregates, TransactionType type) {
+        return aggregates.stream()
+                .filter(a -> a.getType() == type)
+                .map(a -> BigDecimalUtils.nullToZero(a.getTotalAmount()))
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 
+    /**
+     * 집계 버킷의 거래 수 합계 계산
+     */
+    private Long sumTransactionCount(List<? extends TransactionAggregate> aggregates) {
+        return aggregates.stream()
+                .mapToLong(TransactionAggregate::getTransactionCount)
+                .sum();
+    }
+
     /**
      * 월별 상세 요약 빌드 (년별 조회 시 사용)
+     *
+     * <p>월별 집계 버킷을 월 순으로 묶어 반환합니다. 거래가 있는 월만 포함됩니다.</p>
      */
-    private List<PeriodDetail> buildMonthlyDetails(Long ledgerId, int year) {
-        List<PeriodDetail> details = new ArrayList<>();
+    private List<PeriodDetail> buildMonthlyDetails(List<MonthlyTransactionAggregate> aggregates) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
 
-        for (int month = 1; month <= 12; month++) {
-            YearMonth yearMonth = YearMonth.of(year, month);
-            LocalDate monthStart = yearMonth.atDay(1);
-            LocalDate monthEnd = yearMonth.atEndOfMonth();
-
-            BigDecimal income = BigDecimalUtils.nullToZero(
-                    transactionRepository.sumAmountByLedgerIdAndTypeAndDateRange(
-                            ledgerId, TransactionType.INCOME, monthStart, monthEnd));
-            BigDecimal expense = BigDecimalUtils.nullToZero(
-                    transactionRepository.sumAmountByLedgerIdAndTypeAndDateRange(
-                            ledgerId, TransactionType.EXPENSE, monthStart, monthEnd));
-            Long count = transactionRepository.countByLedgerIdAndDateRange(ledgerId, monthStart, monthEnd);
-
-            // 거래가 있는 월만 포함
-            if (count > 0) {
-                details.add(PeriodDetail.builder()
-                        .periodLabel(yearMonth.format(formatter))
-                        .startDate(monthStart)
-                        .endDate(monthEnd)
-                        .income(income)
-                        .expense(expense)
-                        .balance(BigDecimalUtils.calculateBalance(income, expense))
-                        .transactionCount(count)
-                        .build());
-            }
-        }
+        Map<YearMonth, List<MonthlyTransactionAggregate>> groupedByMonth = aggregates.stream()
+                .collect(Collectors.groupingBy(
+                        a -> YearMonth.of(a.getTransactionYear(), a.getTransactionMonth()),
+                        TreeMap::new,
+                        Collectors.toList()));
+
+        List<PeriodDetail> details = new ArrayList<>();
+        groupedByMonth.forEach((yearMonth, monthAggregates) -> {
+            BigDecimal income = sumAmountByType(monthAggregates, TransactionType.INCOME);
+            BigDecimal expense = sumAmountByType(monthAggregates, TransactionType.EXPENSE);
+
+            details.add(PeriodDetail.builder()
+                    .periodLabel(yearMonth.format(formatter))
+                    .startDate(yearMonth.atDay(1))
+                    .endDate(yearMonth.atEndOfMonth())
+                    .income(income)
+                    .expense(expense)
+                    .balance(BigDecimalUtils.calculateBalance(income, expense))
+                    .transactionCount(sumTransactionCount(monthAggregates))
+                    .build());
+        });
 
         return details;
     }
@@ -359,6 +461,16 @@ public class TransactionService {
         }
     }
 
+    /**
+     * 가계부 접근 권한 확인 (소유자 또는 공유 멤버)
+     *
+     * <p>응답을 스트리밍하는 API처럼 본문 기록 전에 권한만 먼저 검증해야 하는 경우에 사용합니다.</p>
+     */
+    @Transactional(readOnly = true)
+    public void checkLedgerAccess(Long ledgerId, Long userId) {
+        validateLedgerAccess(ledgerId, userId);
+    }
+
     /**
      * 가계부 접근 권한 검증 (거래 목록/통계 조회용)
      *
@@ -369,24 +481,38 @@ public class TransactionService {
      * </ul>
      */
     private void validateLedgerAccess(Long ledgerId, Long userId) {
+        LedgerAccess access = ledgerAccessCache.get(ledgerId, userId, () -> loadLedgerAccess(ledgerId, userId));
+
+        switch (access) {
+            case OWNER -> {
+            }
+            case SHARED -> log.debug("User {} accessing shared ledger {}", userId, ledgerId);
+            case NOT_FOUND -> {
+                log.warn("Ledger {} not found", ledgerId);
+                throw new BusinessException(ErrorCode.LEDGER_NOT_FOUND);
+            }
+            case DENIED -> {
+                log.warn("User {} attempted to access ledger {} without permission", userId, ledgerId);
+                throw new BusinessException(ErrorCode.LEDGER_ACCESS_DENIED);
+            }
+        }
+    }
+
+    private LedgerAccess loadLedgerAccess(Long ledgerId, Long userId) {
         // 1. 동기화된 가계부 정보로 소유권 확인
         if (ledgerRepository.existsByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId)) {
-            return;
+            return LedgerAccess.OWNER;
         }
 
         // 2. 공유받은 가계부인지 확인 (ACCEPTED 상태)
         if (ledgerShareRepository.existsByLedgerIdAndSharedUserIdAndStatusAndIsDeletedFalse(
                 ledgerId, userId, ShareStatus.ACCEPTED)) {
-            log.debug("User {} accessing shared ledger {}", userId, ledgerId);
-            return;
+            return LedgerAccess.SHARED;
         }
 
         // 접근 권한 없음: 가계부 존재 여부에 따라 에러 분기
-        if (!ledgerRepository.existsByLedgerIdAndIsDeletedFalse(ledgerId)) {
-            log.warn("Ledger {} not found", ledgerId);
-            throw new BusinessException(ErrorCode.LEDGER_NOT_FOUND);
-        }
-        log.warn("User {} attempted to access ledger {} without permission", userId, ledgerId);
-        throw new BusinessException(ErrorCode.LEDGER_ACCESS_DENIED);
+        return ledgerRepository.existsByLedgerIdAndIsDeletedFalse(ledgerId)
+                ? LedgerAccess.DENIED
+                : LedgerAccess.NOT_FOUND;
     }
 }
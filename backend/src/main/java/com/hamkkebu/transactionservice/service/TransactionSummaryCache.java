@@ -0,0 +1,282 @@
+package com.hamkkebu.transactionservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * 가계부 요약 조회 결과 캐시 (L1 Caffeine + L2 Redis)
+ *
+ * <p>항목 키는 (가계부 ID, 가계부 버전, 조회 기간)입니다. 거래 쓰기가 커밋되면 가계부 버전을 올리므로
+ * 이전 버전 항목은 삭제하지 않아도 더 이상 조회되지 않고 TTL로 사라집니다 (scan 후 삭제 없음).</p>
+ * <ul>
+ *   <li>버전: Redis {@code txsummary:ver:{ledgerId}}. 키가 없으면 현재 시각(μs)으로 시작하여,
+ *       버전 키가 만료/유실된 뒤에도 이전 버전 번호가 다시 쓰이지 않게 합니다.</li>
+ *   <li>L1: 인스턴스 내 Caffeine. 버전 포함 키로 Redis와 같은 JSON 문자열을 저장하고 조회마다 새 DTO로 변환하여,
+ *       호출자가 응답 DTO를 수정해도 캐시 값이 바뀌지 않게 합니다. 가계부 버전은 version-check-interval 동안
+ *       인스턴스 내에 보관합니다. 다른 인스턴스의 쓰기는 최대 이 간격만큼 늦게 보입니다.</li>
+ *   <li>L2: Redis JSON 문자열. 여러 인스턴스/멤버가 같은 요약을 한 번만 계산하도록 공유합니다.</li>
+ * </ul>
+ * <p>Redis 오류 시에는 failure-backoff 동안 캐시를 우회하고 DB에서 직접 계산합니다.
+ * 장애 중 버전 증가가 누락된 가계부는 최대 ttl 동안 이전 요약이 보일 수 있습니다.</p>
+ * <p>메트릭: {@code cache.gets{cache="transactionSummary"}} (L1),
+ * {@code transaction.summary.cache{tier="redis",result="hit|miss|error"}} (L2)</p>
+ */
+@Slf4j
+@Component
+public class TransactionSummaryCache {
+
+    private static final String CACHE_NAME = "transactionSummary";
+    private static final String KEY_PREFIX = "txsummary:";
+    private static final String VERSION_KEY_PREFIX = KEY_PREFIX + "ver:";
+    // 캐시 값 형식(DTO 구조)이 바뀌면 올려서 이전 형식 항목을 읽지 않도록 함
+    private static final String ENTRY_FORMAT = "v1";
+    private static final String METRIC_NAME = "transaction.summary.cache";
+
+    // 버전 조회: 없으면 시작 값으로 생성
+    private static final RedisScript<Long> READ_VERSION_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('GET', KEYS[1]) "
+                    + "if v then return tonumber(v) end "
+                    + "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) "
+                    + "return tonumber(ARGV[1])",
+            Long.class);
+
+    // 버전 증가: 없으면 시작 값에서 증가, TTL 갱신
+    private static final RedisScript<Long> BUMP_VERSION_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then redis.call('SET', KEYS[1], ARGV[1]) end "
+                    + "local v = redis.call('INCR', KEYS[1]) "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[2]) "
+                    + "return v",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Duration versionTtl;
+    private final long failureBackoffMillis;
+    private final Cache<String, String> entries;
+    private final Cache<Long, Long> versions;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisErrors;
+
+    private volatile long bypassUntil;
+
+    public TransactionSummaryCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${transaction.summary-cache.enabled:true}") boolean enabled,
+            @Value("${transaction.summary-cache.ttl:10m}") Duration ttl,
+            @Value("${transaction.summary-cache.version-ttl:7d}") Duration versionTtl,
+            @Value("${transaction.summary-cache.local-max-size:5000}") long localMaxSize,
+            @Value("${transaction.summary-cache.version-check-interval:1s}") Duration versionCheckInterval,
+            @Value("${transaction.summary-cache.failure-backoff:30s}") Duration failureBackoff) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.versionTtl = versionTtl;
+        this.failureBackoffMillis = failureBackoff.toMillis();
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(versionCheckInterval)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, CACHE_NAME);
+        this.redisHits = redisCounter(meterRegistry, "hit");
+        this.redisMisses = redisCounter(meterRegistry, "miss");
+        this.redisErrors = redisCounter(meterRegistry, "error");
+    }
+
+    /**
+     * 캐시된 요약 조회 (L1 → Redis 순으로 찾고, 없으면 loader로 계산 후 두 계층에 저장)
+     *
+     * <p>접근 권한 검증은 호출 전에 해야 합니다 (캐시 항목은 사용자와 무관하게 공유됨).
+     * 반환값은 호출마다 새로 만든 DTO이므로 호출자가 수정해도 됩니다.</p>
+     *
+     * @param period 가계부 내 조회 구분 (예: {@code monthly:2024-03})
+     */
+    public <T> T get(Long ledgerId, String period, Class<T> type, Supplier<T> loader) {
+        if (!enabled || System.currentTimeMillis() < bypassUntil) {
+            return loader.get();
+        }
+        Long version;
+        try {
+            version = versions.get(ledgerId, this::readVersion);
+        } catch (RuntimeException e) {
+            onRedisFailure("read version", ledgerId, e);
+            return loader.get();
+        }
+        if (version == null) {
+            return loader.get();
+        }
+
+        String key = KEY_PREFIX + ENTRY_FORMAT + ":" + ledgerId + ":" + version + ":" + period;
+        String local = entries.getIfPresent(key);
+        T cached = local != null ? deserialize(key, local, type) : null;
+        if (cached != null) {
+            return cached;
+        }
+
+        String shared = readEntry(key);
+        cached = shared != null ? deserialize(key, shared, type) : null;
+        if (cached != null) {
+            entries.put(key, shared);
+            return cached;
+        }
+
+        // 계산한 DTO는 이 호출자에게만 반환하고, 캐시에는 직렬화한 값만 보관
+        T loaded = loader.get();
+        if (loaded != null) {
+            String json = serialize(key, loaded);
+            if (json != null) {
+                entries.put(key, json);
+                writeEntry(key, json);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 가계부 버전 증가 (트랜잭션 안에서 호출되면 커밋 후에 실행)
+     */
+    public void bumpVersion(Long ledgerId) {
+        if (ledgerId != null) {
+            bumpVersions(List.of(ledgerId));
+        }
+    }
+
+    /**
+     * 여러 가계부 버전 증가 (트랜잭션 안에서 호출되면 커밋 후에 실행)
+     *
+     * <p>커밋 전에 올리면 그 사이 요청이 변경 전 상태를 새 버전으로 캐시할 수 있습니다.</p>
+     */
+    public void bumpVersions(Collection<Long> ledgerIds) {
+        if (!enabled || ledgerIds.isEmpty()) {
+            return;
+        }
+        Set<Long> targets = new TreeSet<>(ledgerIds);
+        afterCommit(() -> targets.forEach(this::bumpNow));
+    }
+
+    private void bumpNow(Long ledgerId) {
+        try {
+            Long version = redisTemplate.execute(BUMP_VERSION_SCRIPT, List.of(versionKey(ledgerId)),
+                    initialVersion(), String.valueOf(versionTtl.toMillis()));
+            versions.put(ledgerId, version);
+            log.debug("[SummaryCache] Bumped ledger {} to version {}", ledgerId, version);
+        } catch (RuntimeException e) {
+            // 이 인스턴스만이라도 다음 조회에서 Redis 버전을 다시 읽도록 함
+            versions.invalidate(ledgerId);
+            onRedisFailure("bump version", ledgerId, e);
+        }
+    }
+
+    private Long readVersion(Long ledgerId) {
+        return redisTemplate.execute(READ_VERSION_SCRIPT, List.of(versionKey(ledgerId)),
+                initialVersion(), String.valueOf(versionTtl.toMillis()));
+    }
+
+    private String readEntry(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            if (json == null) {
+                redisMisses.increment();
+            } else {
+                redisHits.increment();
+            }
+            return json;
+        } catch (RuntimeException e) {
+            onRedisFailure("read entry", key, e);
+            return null;
+        }
+    }
+
+    private void writeEntry(String key, String json) {
+        try {
+            redisTemplate.opsForValue().set(key, json, ttl);
+        } catch (RuntimeException e) {
+            onRedisFailure("write entry", key, e);
+        }
+    }
+
+    private <T> T deserialize(String key, String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            log.warn("[SummaryCache] Ignoring unreadable entry {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private String serialize(String key, Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            log.warn("[SummaryCache] Failed to serialize entry {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void onRedisFailure(String operation, Object target, RuntimeException e) {
+        redisErrors.increment();
+        bypassUntil = System.currentTimeMillis() + failureBackoffMillis;
+        log.warn("[SummaryCache] Redis {} failed for {}, bypassing cache for {}ms: {}",
+                operation, target, failureBackoffMillis, e.getMessage());
+    }
+
+    private static String versionKey(Long ledgerId) {
+        return VERSION_KEY_PREFIX + ledgerId;
+    }
+
+    // 마이크로초 단위 시각: 버전 키가 유실된 뒤 새로 시작해도 이전 버전 번호보다 커짐
+    private static String initialVersion() {
+        return String.valueOf(System.currentTimeMillis() * 1000);
+    }
+
+    private static Counter redisCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_NAME)
+                .description("가계부 요약 Redis 캐시 조회 결과")
+                .tag("tier", "redis")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+-- ==========================================
+-- V1: tbl_transactions 복합/커버링 인덱스 적용
+-- ==========================================
+-- 대상: schema.sql 적용 이전에 생성된 기존 데이터베이스
+-- (신규 환경은 schema.sql에 동일한 인덱스가 포함되어 있으므로 적용 불필요)
+--
+-- 모든 조회 쿼리가 ledger_id + is_deleted 동등 조건과 transaction_date 범위/정렬을 사용하므로
+-- 해당 순서의 복합 인덱스로 교체하고, 선택도가 낮은 단일 컬럼 인덱스는 제거합니다.
+-- 하나의 ALTER 문으로 묶어 테이블 재구성을 한 번만 수행합니다 (온라인 DDL).
+
+ALTER TABLE tbl_transactions
+    -- 가계부별 목록/기간 조회 (ORDER BY transaction_date DESC, id DESC를 인덱스 순서로 처리)
+    ADD INDEX idx_tx_ledger_deleted_date (ledger_id, is_deleted, transaction_date, id),
+    -- 가계부별 SUM/COUNT 집계 (커버링 인덱스)
+    ADD INDEX idx_tx_ledger_deleted_date_type_amount (ledger_id, is_deleted, transaction_date, transaction_type, amount),
+    -- 가계부별 카테고리 조회
+    ADD INDEX idx_tx_ledger_deleted_category_date (ledger_id, is_deleted, category, transaction_date),
+    -- 연동 카드별 조회/일괄 삭제
+    ADD INDEX idx_tx_linked_card_deleted (linked_card_id, is_deleted),
+    -- 복합 인덱스의 선두 컬럼으로 대체되거나 선택도가 낮은 인덱스 제거
+    DROP INDEX idx_ledger_id,
+    DROP INDEX idx_transaction_date,
+    DROP INDEX idx_is_deleted,
+    DROP INDEX idx_source_type,
+    DROP INDEX idx_linked_card_id,
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,39 @@
+-- ==========================================
+-- V2: 연동 카드별 활성 승인번호 유니크 제약
+-- ==========================================
+-- 대상: schema.sql 적용 이전에 생성된 기존 데이터베이스
+--
+-- MySQL은 부분(조건부) 인덱스를 지원하지 않으므로, 삭제되지 않은 거래에만 승인번호를 갖는
+-- 가상 생성 컬럼을 두고 (linked_card_id, active_approval_no)에 유니크 제약을 겁니다.
+-- linked_card_id 또는 승인번호가 NULL인 행(수기 거래, 삭제된 거래)은 제약 대상이 아닙니다.
+
+-- 1. 기존 중복 정리: 같은 카드·승인번호의 활성 거래 중 가장 먼저 생성된 행만 남기고 soft delete
+UPDATE tbl_transactions t
+    JOIN (
+        SELECT linked_card_id, external_approval_no, MIN(id) AS keep_id
+        FROM tbl_transactions
+        WHERE is_deleted = false
+          AND linked_card_id IS NOT NULL
+          AND external_approval_no IS NOT NULL
+        GROUP BY linked_card_id, external_approval_no
+        HAVING COUNT(*) > 1
+    ) dup ON t.linked_card_id = dup.linked_card_id
+         AND t.external_approval_no = dup.external_approval_no
+         AND t.id <> dup.keep_id
+SET t.is_deleted = true,
+    t.deleted_at = CURRENT_TIMESTAMP
+WHERE t.is_deleted = false;
+
+-- 2. 중복 정리로 일별 집계가 달라진 가계부는 정합성 검증 스케줄러(transaction.rollup.verify-cron)가
+--    재생성합니다. 즉시 반영이 필요하면 검증 스케줄러를 수동 실행하세요.
+
+-- 3. 가상 생성 컬럼 추가 (메타데이터만 변경)
+ALTER TABLE tbl_transactions
+    ADD COLUMN active_approval_no VARCHAR(100)
+        GENERATED ALWAYS AS (IF(is_deleted, NULL, external_approval_no)) VIRTUAL,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- 4. 유니크 제약 추가 (온라인 인덱스 생성, 가상 컬럼과 같은 문에서 추가하면 INPLACE 불가)
+ALTER TABLE tbl_transactions
+    ADD UNIQUE KEY uk_tx_linked_card_active_approval (linked_card_id, active_approval_no),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,22 @@
+-- ==========================================
+-- V3: 연동 카드 동기화 커서 (승인 시각 단위)
+-- ==========================================
+-- 대상: schema.sql 적용 이전에 생성된 기존 데이터베이스
+--
+-- 기존에는 마지막 동기화 일자(last_synced_date, yyyyMMdd)부터 다시 조회했으나,
+-- 이제 마지막으로 처리한 (승인 시각, 승인번호)를 커서로 저장하고
+-- 커서에서 overlap(codef.sync.overlap)만큼 이전부터 조회합니다.
+
+-- 1. 컬럼 추가 (NULL 허용 컬럼 추가는 INSTANT)
+ALTER TABLE tbl_linked_cards
+    ADD COLUMN last_synced_at DATETIME,
+    ADD COLUMN sync_cursor_approved_at DATETIME COMMENT '동기화 커서: 마지막으로 처리한 승인 시각',
+    ADD COLUMN sync_cursor_approval_no VARCHAR(100) COMMENT '동기화 커서: 마지막으로 처리한 승인번호',
+    ALGORITHM = INSTANT;
+
+-- 2. 기존 마지막 동기화 일자로 커서 초기화 (해당 일자 0시 - overlap 부터 다시 조회됨)
+UPDATE tbl_linked_cards
+SET sync_cursor_approved_at = STR_TO_DATE(last_synced_date, '%Y%m%d'),
+    last_synced_at = STR_TO_DATE(last_synced_date, '%Y%m%d')
+WHERE last_synced_date IS NOT NULL
+  AND sync_cursor_approved_at IS NULL;
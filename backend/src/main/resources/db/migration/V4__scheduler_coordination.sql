@@ -0,0 +1,22 @@
+-- ==========================================
+-- V4: 스케줄 작업 조정 테이블 (리스 + 인스턴스 heartbeat)
+-- ==========================================
+-- 대상: schema.sql 적용 이전에 생성된 기존 데이터베이스
+--
+-- 여러 레플리카가 같은 cron으로 깨어나도 정리/검증 작업은 리스를 얻은 한 인스턴스만 실행하고,
+-- 승인내역 동기화는 heartbeat가 살아있는 인스턴스 수로 linkedCardId 해시를 나누어 분담합니다.
+
+CREATE TABLE IF NOT EXISTS tbl_scheduler_leases (
+    lease_name  VARCHAR(100) PRIMARY KEY,
+    owner_id    VARCHAR(150) NOT NULL,
+    acquired_at DATETIME(3)  NOT NULL,
+    expires_at  DATETIME(3)  NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+  COMMENT='스케줄 작업 실행 리스 (만료 전까지 owner만 실행)';
+
+CREATE TABLE IF NOT EXISTS tbl_scheduler_nodes (
+    instance_id  VARCHAR(150) PRIMARY KEY,
+    heartbeat_at DATETIME(3)  NOT NULL,
+    INDEX idx_scheduler_node_heartbeat (heartbeat_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+  COMMENT='살아있는 스케줄러 인스턴스 (heartbeat 기준)';
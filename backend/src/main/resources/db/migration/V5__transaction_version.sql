@@ -0,0 +1,12 @@
+-- ==========================================
+-- V5: 거래 버전 컬럼 (낙관적 잠금 + 거래 이벤트 순서)
+-- ==========================================
+-- 대상: schema.sql 적용 이전에 생성된 기존 데이터베이스
+--
+-- 거래 이벤트(transaction.events)가 거래 전체 상태와 버전을 함께 싣도록 바뀌어,
+-- 하위 서비스는 저장된 버전보다 큰 이벤트만 반영해 자체 projection을 유지합니다.
+-- 기존 거래는 모두 버전 0에서 시작합니다.
+
+ALTER TABLE tbl_transactions
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0 COMMENT '거래 버전 (변경 시마다 증가)',
+    ALGORITHM = INSTANT;
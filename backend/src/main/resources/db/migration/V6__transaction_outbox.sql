@@ -0,0 +1,18 @@
+-- ==========================================
+-- V6: 거래 이벤트 전용 Outbox 테이블
+-- ==========================================
+-- 대상: schema.sql 적용 이전에 생성된 기존 데이터베이스
+--
+-- 거래 이벤트(transaction.events)는 공통 tbl_outbox_event 대신 이 테이블에 쌓고,
+-- TransactionOutboxRelay가 SELECT ... FOR UPDATE SKIP LOCKED로 배치 단위로 가져가
+-- 같은 거래의 이벤트를 합친 뒤 발행하고 일괄 삭제합니다.
+-- 배포 전 tbl_outbox_event에 남아있는 PENDING 거래 이벤트는 기존 스케줄러가 계속 발행합니다.
+
+CREATE TABLE IF NOT EXISTS tbl_transaction_outbox (
+    id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+    transaction_id BIGINT       NOT NULL,
+    event_type     VARCHAR(30)  NOT NULL,
+    payload        JSON         NOT NULL,
+    created_at     DATETIME(3)  NOT NULL DEFAULT CURRENT_TIMESTAMP(3)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+  COMMENT='거래 이벤트 Outbox (relay가 SKIP LOCKED로 배치 단위로 가져가 발행 후 삭제)';
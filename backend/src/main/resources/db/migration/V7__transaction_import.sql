@@ -0,0 +1,40 @@
+-- ==========================================
+-- V7: 거래내역 파일 가져오기 (중복 판별 키, 작업 상태 테이블)
+-- ==========================================
+-- 대상: schema.sql 적용 이전에 생성된 기존 데이터베이스
+--
+-- 가져온 거래(source_type = 'IMPORT')는 import_hash에 중복 판별 키를 저장하고,
+-- 삭제되지 않은 거래에만 값을 갖는 가상 생성 컬럼으로 (ledger_id, active_import_hash) 유니크 제약을 겁니다.
+-- 기존 거래는 import_hash가 NULL이므로 제약 대상이 아니며, 중복 정리가 필요 없습니다.
+
+-- 1. 중복 판별 키 컬럼 + 가상 생성 컬럼 추가 (nullable 컬럼 추가는 INSTANT)
+ALTER TABLE tbl_transactions
+    ADD COLUMN import_hash CHAR(64),
+    ADD COLUMN active_import_hash CHAR(64)
+        GENERATED ALWAYS AS (IF(is_deleted, NULL, import_hash)) VIRTUAL,
+    ALGORITHM = INSTANT;
+
+-- 2. 유니크 제약 추가 (온라인 인덱스 생성)
+ALTER TABLE tbl_transactions
+    ADD UNIQUE KEY uk_tx_ledger_active_import_hash (ledger_id, active_import_hash),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- 3. 가져오기 작업 상태 테이블
+CREATE TABLE IF NOT EXISTS tbl_transaction_import_jobs (
+    id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+    ledger_id      BIGINT        NOT NULL,
+    user_id        BIGINT        NOT NULL,
+    file_name      VARCHAR(255),
+    status         VARCHAR(20)   NOT NULL,
+    processed_rows INT           NOT NULL DEFAULT 0,
+    inserted_rows  INT           NOT NULL DEFAULT 0,
+    duplicate_rows INT           NOT NULL DEFAULT 0,
+    invalid_rows   INT           NOT NULL DEFAULT 0,
+    error_message  VARCHAR(2000),
+    created_at     DATETIME(3)   NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    started_at     DATETIME(3),
+    finished_at    DATETIME(3),
+    updated_at     DATETIME(3)   NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3),
+    INDEX idx_import_job_user_created (user_id, created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+  COMMENT='거래 가져오기 작업 (청크 커밋마다 진행 건수 갱신)';
@@ -0,0 +1,44 @@
+-- ==========================================
+-- V8: 거래 일별 집계(rollup) 테이블 생성 및 기존 거래 backfill
+-- ==========================================
+-- 대상: schema.sql 적용 이전에 생성된 기존 데이터베이스
+--
+-- 요약 조회(총계/월별/년별/기간)는 tbl_transaction_daily_rollup만 읽고, 거래 쓰기는 버킷에 증감만 반영합니다.
+-- 기존 거래가 집계되지 않은 상태로 애플리케이션을 배포하면 요약이 0/일부만 보이고,
+-- 수정/삭제가 빈 버킷에서 차감되어 음수 건수/금액이 생기므로 반드시 배포 전에 적용합니다.
+-- 배포 후에 적용하더라도 2번 단계가 집계를 원본 거래로부터 다시 만들므로 결과는 같습니다.
+
+-- 1. 집계 테이블 (schema.sql과 동일)
+CREATE TABLE IF NOT EXISTS tbl_transaction_daily_rollup (
+    ledger_id BIGINT NOT NULL,
+    transaction_date DATE NOT NULL,
+    transaction_type VARCHAR(20) NOT NULL,
+    total_amount DECIMAL(19, 4) NOT NULL DEFAULT 0,
+    transaction_count BIGINT NOT NULL DEFAULT 0,
+
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (ledger_id, transaction_date, transaction_type)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+  COMMENT='가계부·일자·유형별 거래 합계/건수 (삭제되지 않은 거래 기준)';
+
+-- 2. 삭제되지 않은 기존 거래로부터 집계 backfill
+--    (이미 반영된 증분이 있어도 원본 재계산 값으로 교체, 한 트랜잭션으로 적용하여 요약이 비는 구간 없음)
+--    INSERT ... SELECT는 원본 행에 공유 락을 잡으므로 적용 중 들어온 거래 쓰기는 완료 후 반영됩니다.
+--    idx_tx_ledger_deleted_date_type_amount(V1) 커버링 인덱스로 집계합니다.
+START TRANSACTION;
+
+DELETE FROM tbl_transaction_daily_rollup;
+
+INSERT INTO tbl_transaction_daily_rollup
+    (ledger_id, transaction_date, transaction_type, total_amount, transaction_count)
+SELECT t.ledger_id, t.transaction_date, t.transaction_type, SUM(t.amount), COUNT(*)
+FROM tbl_transactions t
+WHERE t.is_deleted = false
+GROUP BY t.ledger_id, t.transaction_date, t.transaction_type;
+
+COMMIT;
+
+-- 3. 확인: 원본 합계와 집계 합계가 같아야 함
+-- SELECT (SELECT COUNT(*) FROM tbl_transactions WHERE is_deleted = false) AS source_count,
+--        (SELECT SUM(transaction_count) FROM tbl_transaction_daily_rollup) AS rollup_count;
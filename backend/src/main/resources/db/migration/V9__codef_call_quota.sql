@@ -0,0 +1,15 @@
+-- ==========================================
+-- V9: Codef 일일 호출 한도 테이블
+-- ==========================================
+-- 대상: schema.sql 적용 이전에 생성된 기존 데이터베이스
+--
+-- DEMO 서비스 타입의 일 100회 한도를 인스턴스 내 rate limiter 대신 이 테이블의 날짜별 행으로 셉니다.
+-- 모든 레플리카가 같은 행을 차감하므로 레플리카 수나 재시작과 관계없이 하루 한도를 넘지 않습니다.
+
+CREATE TABLE IF NOT EXISTS tbl_codef_call_quota (
+    service_type VARCHAR(20) NOT NULL,
+    quota_date   DATE        NOT NULL,
+    call_count   INT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (service_type, quota_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+  COMMENT='Codef 서비스 타입·날짜별 호출 수 (일일 한도 차감)';
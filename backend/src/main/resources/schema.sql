@@ -69,6 +69,8 @@ CREATE TABLE IF NOT EXISTS tbl_transactions (
     category VARCHAR(100),
     transaction_date DATE NOT NULL,
     memo VARCHAR(1000),
+    -- 거래 버전 (낙관적 잠금, 거래 이벤트 순서)
+    version BIGINT NOT NULL DEFAULT 0,
 
     -- Auditing Fields (from BaseEntity)
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
@@ -86,19 +88,48 @@ CREATE TABLE IF NOT EXISTS tbl_transactions (
     linked_card_id BIGINT,
     card_id BIGINT,
     bank_account_id BIGINT,
-
-    INDEX idx_ledger_id (ledger_id),
+    -- 가져오기 중복 판별 키 (IMPORT 거래에만 존재)
+    import_hash CHAR(64),
+    -- 활성 거래의 승인번호 (삭제된 거래는 NULL이므로 유니크 제약에서 제외)
+    active_approval_no VARCHAR(100) GENERATED ALWAYS AS (IF(is_deleted, NULL, external_approval_no)) VIRTUAL,
+    -- 활성 거래의 가져오기 키 (삭제된 거래는 다시 가져올 수 있도록 유니크 제약에서 제외)
+    active_import_hash CHAR(64) GENERATED ALWAYS AS (IF(is_deleted, NULL, import_hash)) VIRTUAL,
+
+    -- 연동 카드별 활성 승인번호 유일성 (동시/재시도 동기화의 중복 insert 방지, upsert 충돌 키)
+    UNIQUE KEY uk_tx_linked_card_active_approval (linked_card_id, active_approval_no),
+    -- 가계부별 활성 가져오기 키 유일성 (가져오기 중복 조회, 동시 가져오기의 중복 insert 방지)
+    UNIQUE KEY uk_tx_ledger_active_import_hash (ledger_id, active_import_hash),
+    -- 가계부별 목록/기간 조회 (ORDER BY transaction_date DESC, id DESC를 인덱스 순서로 처리)
+    INDEX idx_tx_ledger_deleted_date (ledger_id, is_deleted, transaction_date, id),
+    -- 가계부별 SUM/COUNT 집계 (커버링 인덱스)
+    INDEX idx_tx_ledger_deleted_date_type_amount (ledger_id, is_deleted, transaction_date, transaction_type, amount),
+    -- 가계부별 카테고리 조회
+    INDEX idx_tx_ledger_deleted_category_date (ledger_id, is_deleted, category, transaction_date),
+    -- 연동 카드별 조회/일괄 삭제
+    INDEX idx_tx_linked_card_deleted (linked_card_id, is_deleted),
     INDEX idx_user_id (user_id),
     INDEX idx_account_id (account_id),
-    INDEX idx_transaction_date (transaction_date),
-    INDEX idx_is_deleted (is_deleted),
-    INDEX idx_source_type (source_type),
     INDEX idx_external_approval_no (external_approval_no),
-    INDEX idx_linked_card_id (linked_card_id),
     INDEX idx_card_id (card_id),
     INDEX idx_bank_account_id (bank_account_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- ==========================================
+-- 거래 일별 집계 테이블 (요약 조회용, 거래 쓰기 시 증분 갱신)
+-- ==========================================
+CREATE TABLE IF NOT EXISTS tbl_transaction_daily_rollup (
+    ledger_id BIGINT NOT NULL,
+    transaction_date DATE NOT NULL,
+    transaction_type VARCHAR(20) NOT NULL,
+    total_amount DECIMAL(19, 4) NOT NULL DEFAULT 0,
+    transaction_count BIGINT NOT NULL DEFAULT 0,
+
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (ledger_id, transaction_date, transaction_type)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+  COMMENT='가계부·일자·유형별 거래 합계/건수 (삭제되지 않은 거래 기준)';
+
 -- ==========================================
 -- Codef 연동 카드 테이블
 -- ==========================================
@@ -112,6 +143,9 @@ CREATE TABLE IF NOT EXISTS tbl_linked_cards (
     card_no_masked VARCHAR(20),
     card_id VARCHAR(100),
     last_synced_date VARCHAR(10),
+    last_synced_at DATETIME,
+    sync_cursor_approved_at DATETIME COMMENT '동기화 커서: 마지막으로 처리한 승인 시각',
+    sync_cursor_approval_no VARCHAR(100) COMMENT '동기화 커서: 마지막으로 처리한 승인번호',
 
     -- Auditing Fields (from BaseEntity)
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
@@ -282,3 +316,69 @@ CREATE TABLE IF NOT EXISTS tbl_ledger_bank_accounts (
     INDEX idx_ledger_ba_ba_id (bank_account_id)
 );
 
+
+-- ==========================================
+-- 스케줄 작업 리스(lease) 테이블 (여러 인스턴스 중 한 곳에서만 실행)
+-- ==========================================
+CREATE TABLE IF NOT EXISTS tbl_scheduler_leases (
+    lease_name  VARCHAR(100) PRIMARY KEY,
+    owner_id    VARCHAR(150) NOT NULL,
+    acquired_at DATETIME(3)  NOT NULL,
+    expires_at  DATETIME(3)  NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+  COMMENT='스케줄 작업 실행 리스 (만료 전까지 owner만 실행)';
+
+-- ==========================================
+-- 스케줄러 인스턴스 heartbeat 테이블 (동기화 작업 샤딩용)
+-- ==========================================
+CREATE TABLE IF NOT EXISTS tbl_scheduler_nodes (
+    instance_id  VARCHAR(150) PRIMARY KEY,
+    heartbeat_at DATETIME(3)  NOT NULL,
+    INDEX idx_scheduler_node_heartbeat (heartbeat_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+  COMMENT='살아있는 스케줄러 인스턴스 (heartbeat 기준)';
+
+-- ==========================================
+-- Codef 일일 호출 한도 테이블 (DEMO 서비스 타입, 모든 레플리카 합산)
+-- ==========================================
+CREATE TABLE IF NOT EXISTS tbl_codef_call_quota (
+    service_type VARCHAR(20) NOT NULL,
+    quota_date   DATE        NOT NULL,
+    call_count   INT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (service_type, quota_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+  COMMENT='Codef 서비스 타입·날짜별 호출 수 (일일 한도 차감)';
+
+-- ==========================================
+-- 거래 이벤트 Outbox 테이블 (transaction.events 전용 배치 relay)
+-- ==========================================
+CREATE TABLE IF NOT EXISTS tbl_transaction_outbox (
+    id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+    transaction_id BIGINT       NOT NULL,
+    event_type     VARCHAR(30)  NOT NULL,
+    payload        JSON         NOT NULL,
+    created_at     DATETIME(3)  NOT NULL DEFAULT CURRENT_TIMESTAMP(3)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+  COMMENT='거래 이벤트 Outbox (relay가 SKIP LOCKED로 배치 단위로 가져가 발행 후 삭제)';
+
+-- ==========================================
+-- 거래 가져오기 작업 테이블 (CSV 가져오기 진행 상황)
+-- ==========================================
+CREATE TABLE IF NOT EXISTS tbl_transaction_import_jobs (
+    id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+    ledger_id      BIGINT        NOT NULL,
+    user_id        BIGINT        NOT NULL,
+    file_name      VARCHAR(255),
+    status         VARCHAR(20)   NOT NULL,
+    processed_rows INT           NOT NULL DEFAULT 0,
+    inserted_rows  INT           NOT NULL DEFAULT 0,
+    duplicate_rows INT           NOT NULL DEFAULT 0,
+    invalid_rows   INT           NOT NULL DEFAULT 0,
+    error_message  VARCHAR(2000),
+    created_at     DATETIME(3)   NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    started_at     DATETIME(3),
+    finished_at    DATETIME(3),
+    updated_at     DATETIME(3)   NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3),
+    INDEX idx_import_job_user_created (user_id, created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+  COMMENT='거래 가져오기 작업 (청크 커밋마다 진행 건수 갱신)';
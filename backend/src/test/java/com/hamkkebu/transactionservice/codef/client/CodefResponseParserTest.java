@@ -0,0 +1,99 @@
+package com.hamkkebu.transactionservice.codef.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hamkkebu.transactionservice.codef.dto.CodefApproval;
+import com.hamkkebu.transactionservice.codef.dto.CodefCard;
+import com.hamkkebu.transactionservice.codef.dto.CodefResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CodefResponseParser 단위 테스트
+ *
+ * <p>금액 문자열 변환과 data 배열/단일 객체, 알 수 없는 필드 건너뛰기를 테스트합니다.</p>
+ */
+@DisplayName("CodefResponseParser 테스트")
+class CodefResponseParserTest {
+
+    private final CodefResponseParser parser = new CodefResponseParser(new ObjectMapper());
+
+    @Test
+    @DisplayName("금액 문자열은 콤마/통화 표기를 무시하고 부호와 소수점을 반영한다")
+    void parseAmount_Formats() {
+        assertThat(amount("12,300")).isEqualByComparingTo("12300");
+        assertThat(amount("-5000")).isEqualByComparingTo("-5000");
+        assertThat(amount("1,234.50원")).isEqualByComparingTo("1234.50");
+        assertThat(amount("1,234.50원").scale()).isEqualTo(2);
+        assertThat(amount("999999999999999999")).isEqualByComparingTo("999999999999999999");
+    }
+
+    @Test
+    @DisplayName("숫자가 없으면 0, 19자리 금액은 자릿수 초과로 실패한다")
+    void parseAmount_NoDigitsAndOverflow() {
+        assertThat(amount("")).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(amount("원")).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(amount("-")).isEqualByComparingTo(BigDecimal.ZERO);
+
+        assertThatThrownBy(() -> amount("9999999999999999999"))
+                .isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    @DisplayName("승인내역 배열을 파싱하고 알 수 없는/중첩 필드는 건너뛴다")
+    void parseApprovalList_SkipsUnknownFields() {
+        String json = """
+                {
+                  "result": {"code": "CF-00000", "extraMessage": {"a": [1, 2]}, "message": "성공"},
+                  "meta": [{"x": 1}],
+                  "data": [
+                    {"resApprovalNo": "A1", "resNested": {"deep": [{"k": "v"}]}, "resApprovalDate": "20240301",
+                     "resApprovalTime": "123000", "resApprovalAmount": "12,300", "resStoreName": "스타벅스",
+                     "resStoreCategory": "커피"},
+                    {"resApprovalNo": "A2", "resApprovalAmount": 4500, "resList": [1, [2, 3]],
+                     "resStoreName": "편의점"},
+                    {"resApprovalNo": "A3", "resApprovalAmount": "9999999999999999999"}
+                  ]
+                }
+                """;
+
+        CodefResponse<CodefApproval> response = parser.parseApprovalList(json);
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.message()).isEqualTo("성공");
+        assertThat(response.data()).extracting(CodefApproval::approvalNo).containsExactly("A1", "A2", "A3");
+
+        CodefApproval first = response.data().get(0);
+        assertThat(first.approvalDate()).isEqualTo("20240301");
+        assertThat(first.approvalTime()).isEqualTo("123000");
+        assertThat(first.amount()).isEqualByComparingTo("12300");
+        assertThat(first.storeName()).isEqualTo("스타벅스");
+        assertThat(first.storeCategory()).isEqualTo("커피");
+        assertThat(response.data().get(1).amount()).isEqualByComparingTo("4500");
+        assertThat(response.data().get(1).storeName()).isEqualTo("편의점");
+        // 자릿수 초과 금액은 항목 전체를 버리지 않고 0으로 읽음
+        assertThat(response.data().get(2).amount()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("data가 단일 객체이면 한 건짜리 목록으로 변환한다")
+    void parseCardList_SingleObjectData() {
+        String json = """
+                {"data": {"resCardNo": "1234-****", "resCardName": "체크카드", "resImage": {"url": "x"}},
+                 "result": {"code": "CF-00000", "message": "성공"}}
+                """;
+
+        CodefResponse<CodefCard> response = parser.parseCardList(json);
+
+        assertThat(response.code()).isEqualTo("CF-00000");
+        assertThat(response.data()).containsExactly(new CodefCard("1234-****", "체크카드"));
+    }
+
+    private static BigDecimal amount(String text) {
+        char[] padded = ("[" + text + "]").toCharArray();
+        return CodefResponseParser.parseAmount(padded, 1, text.length());
+    }
+}
@@ -0,0 +1,182 @@
+package com.hamkkebu.transactionservice.codef.service;
+
+import com.hamkkebu.transactionservice.codef.client.CodefGateway;
+import com.hamkkebu.transactionservice.codef.dto.CodefApproval;
+import com.hamkkebu.transactionservice.codef.dto.CodefResponse;
+import com.hamkkebu.transactionservice.codef.dto.SyncResult;
+import com.hamkkebu.transactionservice.data.entity.LinkedCard;
+import com.hamkkebu.transactionservice.data.entity.Transaction;
+import com.hamkkebu.transactionservice.repository.LinkedCardRepository;
+import com.hamkkebu.transactionservice.repository.TransactionJdbcRepository;
+import com.hamkkebu.transactionservice.repository.TransactionRepository;
+import com.hamkkebu.transactionservice.service.TransactionRollupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CodefSyncService 단위 테스트
+ *
+ * <p>동기화 커서와 overlap으로 정한 조회 기간/건너뛰기 기준(cutoff)을 테스트합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CodefSyncService 테스트")
+class CodefSyncServiceTest {
+
+    private static final DateTimeFormatter CODEF_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final Long LINKED_CARD_ID = 7L;
+
+    @Mock
+    private CodefGateway codefGateway;
+
+    @Mock
+    private LinkedCardRepository linkedCardRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionJdbcRepository transactionJdbcRepository;
+
+    @Mock
+    private TransactionRollupService transactionRollupService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private CodefSyncService codefSyncService;
+
+    private LinkedCard card;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(codefSyncService, "initialSyncDays", 30);
+        ReflectionTestUtils.setField(codefSyncService, "overlap", Duration.ofDays(1));
+
+        card = LinkedCard.builder()
+                .linkedCardId(LINKED_CARD_ID)
+                .userId(1L)
+                .ledgerId(10L)
+                .connectedId("connected")
+                .organization("0301")
+                .cardName("카드")
+                .cardId("card-1")
+                .build();
+
+        when(linkedCardRepository.findByLinkedCardIdAndIsDeletedFalse(LINKED_CARD_ID)).thenReturn(Optional.of(card));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<SyncResult>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("첫 동기화는 initial-days 전부터 조회하고 모든 승인을 반영한 뒤 커서를 가장 늦은 승인으로 둔다")
+    void syncCard_FirstSync() {
+        LocalDate today = LocalDate.now();
+        givenApprovals(
+                approval("A1", today.minusDays(29), "090000", "1000"),
+                approval("A2", today.minusDays(1), "235959", "2000"),
+                approval("A3", today.minusDays(1), "120000", "3000"));
+
+        SyncResult result = codefSyncService.syncCard(card);
+
+        verify(codefGateway).getApprovalList("connected", "0301",
+                today.minusDays(30).format(CODEF_DATE), today.format(CODEF_DATE), "card-1");
+        assertThat(result.getInsertedCount()).isEqualTo(3);
+        assertThat(result.getSkippedCount()).isZero();
+        assertThat(upsertedApprovalNos()).containsExactlyInAnyOrder("A1", "A2", "A3");
+        assertThat(card.getSyncCursorApprovedAt()).isEqualTo(today.minusDays(1).atTime(23, 59, 59));
+        assertThat(card.getSyncCursorApprovalNo()).isEqualTo("A2");
+    }
+
+    @Test
+    @DisplayName("증분 동기화는 커서 - overlap부터 조회하고 cutoff 이하 승인만 건너뛴다")
+    void syncCard_IncrementalWithOverlap() {
+        card.setSyncCursorApprovedAt(LocalDateTime.of(2024, 3, 10, 12, 0, 0));
+        card.setSyncCursorApprovalNo("B5");
+        // cutoff = (2024-03-09 12:00:00, B5)
+        givenApprovals(
+                approval("B1", LocalDate.of(2024, 3, 9), "115959", "1000"),   // cutoff 이전
+                approval("B2", LocalDate.of(2024, 3, 9), null, "1000"),       // 시각 없음 → 0시, cutoff 이전
+                approval("B4", LocalDate.of(2024, 3, 9), "120000", "1000"),   // 같은 시각, 승인번호가 작음
+                approval("B5", LocalDate.of(2024, 3, 9), "120000", "1000"),   // cutoff와 같음
+                approval("B6", LocalDate.of(2024, 3, 9), "120000", "1000"),   // 같은 시각, 승인번호가 큼
+                approval("B7", LocalDate.of(2024, 3, 9), "120001", "1000"),   // cutoff 1초 후
+                approval("B8", LocalDate.of(2024, 3, 10), "090000", "5000"),  // overlap 안, 이미 반영됨
+                approval("B9", LocalDate.of(2024, 3, 11), "080000", "7000")); // 커서 이후
+        when(transactionRepository.findByLinkedCardIdAndExternalApprovalNoInAndIsDeletedFalse(eq(LINKED_CARD_ID),
+                anyList())).thenReturn(List.of(Transaction.builder()
+                .ledgerId(10L)
+                .amount(new BigDecimal("5000"))
+                .transactionDate(LocalDate.of(2024, 3, 10))
+                .externalApprovalNo("B8")
+                .linkedCardId(LINKED_CARD_ID)
+                .build()));
+
+        SyncResult result = codefSyncService.syncCard(card);
+
+        verify(codefGateway).getApprovalList(eq("connected"), eq("0301"), eq("20240309"),
+                eq(LocalDate.now().format(CODEF_DATE)), eq("card-1"));
+        assertThat(upsertedApprovalNos()).containsExactlyInAnyOrder("B6", "B7", "B9");
+        assertThat(result.getInsertedCount()).isEqualTo(3);
+        assertThat(result.getSkippedCount()).isEqualTo(5);
+        assertThat(card.getSyncCursorApprovedAt()).isEqualTo(LocalDateTime.of(2024, 3, 11, 8, 0, 0));
+        assertThat(card.getSyncCursorApprovalNo()).isEqualTo("B9");
+    }
+
+    @Test
+    @DisplayName("오래된 커서는 initial-days로 잘리지 않고 커서 - overlap부터 조회하며, 커서는 뒤로 가지 않는다")
+    void syncCard_CursorOlderThanInitialWindow() {
+        LocalDateTime cursorAt = LocalDate.now().minusDays(90).atTime(18, 30);
+        card.setSyncCursorApprovedAt(cursorAt);
+        card.setSyncCursorApprovalNo("C5");
+        givenApprovals(
+                approval("C1", cursorAt.minusDays(2).toLocalDate(), "183000", "1000"),  // cutoff 이전
+                approval("C4", cursorAt.toLocalDate(), "090000", "2000"));              // overlap 안, 커서 이전
+
+        SyncResult result = codefSyncService.syncCard(card);
+
+        verify(codefGateway).getApprovalList(eq("connected"), eq("0301"),
+                eq(cursorAt.minusDays(1).toLocalDate().format(CODEF_DATE)), anyString(), eq("card-1"));
+        assertThat(upsertedApprovalNos()).containsExactly("C4");
+        assertThat(result.getSkippedCount()).isEqualTo(1);
+        assertThat(card.getSyncCursorApprovedAt()).isEqualTo(cursorAt);
+        assertThat(card.getSyncCursorApprovalNo()).isEqualTo("C5");
+    }
+
+    private void givenApprovals(CodefApproval... approvals) {
+        when(codefGateway.getApprovalList(anyString(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(new CodefResponse<>(CodefResponse.SUCCESS_CODE, "성공", List.of(approvals)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> upsertedApprovalNos() {
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionJdbcRepository).batchUpsertApprovals(captor.capture());
+        return captor.getValue().stream().map(Transaction::getExternalApprovalNo).toList();
+    }
+
+    private static CodefApproval approval(String approvalNo, LocalDate date, String time, String amount) {
+        return new CodefApproval(approvalNo, date.format(CODEF_DATE), time, new BigDecimal(amount), "가맹점", null);
+    }
+}
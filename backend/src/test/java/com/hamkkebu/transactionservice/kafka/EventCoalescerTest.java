@@ -0,0 +1,84 @@
+package com.hamkkebu.transactionservice.kafka;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * EventCoalescer 단위 테스트
+ *
+ * <p>배치로 수신한 이벤트를 키별로 합칠 때 마지막 상태와 필요한 생성 이벤트만 남는지 테스트합니다.</p>
+ */
+@DisplayName("EventCoalescer 테스트")
+class EventCoalescerTest {
+
+    private static final List<String> CREATION_TYPES = List.of("LEDGER_CREATED");
+
+    @Test
+    @DisplayName("같은 키의 수정 이벤트는 마지막 것만 남는다")
+    void coalesce_KeepsLastUpdatePerKey() {
+        List<Map<String, Object>> events = List.of(
+                event("LEDGER_UPDATED", 1L, "a"),
+                event("LEDGER_UPDATED", 2L, "b"),
+                event("LEDGER_UPDATED", 1L, "c"));
+
+        List<Map<String, Object>> result = coalesce(events);
+
+        assertThat(result).extracting(e -> e.get("name")).containsExactly("b", "c");
+    }
+
+    @Test
+    @DisplayName("생성 후 수정된 키는 생성 이벤트와 마지막 수정 이벤트를 순서대로 남긴다")
+    void coalesce_KeepsCreationBeforeLastEvent() {
+        List<Map<String, Object>> events = List.of(
+                event("LEDGER_CREATED", 1L, "created"),
+                event("LEDGER_UPDATED", 1L, "first"),
+                event("LEDGER_UPDATED", 1L, "second"),
+                event("LEDGER_DELETED", 1L, "deleted"));
+
+        List<Map<String, Object>> result = coalesce(events);
+
+        assertThat(result).extracting(e -> e.get("name")).containsExactly("created", "deleted");
+    }
+
+    @Test
+    @DisplayName("키나 이벤트 타입을 알 수 없는 이벤트는 합치지 않는다")
+    void coalesce_KeepsEventsWithoutKeyOrType() {
+        List<Map<String, Object>> events = List.of(
+                event("LEDGER_UPDATED", null, "no-key-1"),
+                event("LEDGER_UPDATED", null, "no-key-2"),
+                event(null, 3L, "untyped"),
+                event("LEDGER_UPDATED", 3L, "typed"));
+
+        List<Map<String, Object>> result = coalesce(events);
+
+        assertThat(result).extracting(e -> e.get("name"))
+                .containsExactly("no-key-1", "no-key-2", "untyped", "typed");
+    }
+
+    private static List<Map<String, Object>> coalesce(List<Map<String, Object>> events) {
+        return EventCoalescer.coalesce(events, EventCoalescerTest::ledgerId, EventCoalescerTest::eventType,
+                CREATION_TYPES);
+    }
+
+    private static Map<String, Object> event(String eventType, Long ledgerId, String name) {
+        Map<String, Object> event = new HashMap<>();
+        event.put("eventType", eventType);
+        event.put("ledgerId", ledgerId);
+        event.put("name", name);
+        return event;
+    }
+
+    private static String eventType(Map<String, Object> event) {
+        return (String) event.get("eventType");
+    }
+
+    private static Long ledgerId(Map<String, Object> event) {
+        return (Long) event.get("ledgerId");
+    }
+}
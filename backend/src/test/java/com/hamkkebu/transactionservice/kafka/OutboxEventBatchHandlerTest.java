@@ -0,0 +1,126 @@
+package com.hamkkebu.transactionservice.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hamkkebu.transactionservice.kafka.event.LedgerSyncEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OutboxEventBatchHandler 단위 테스트
+ *
+ * <p>재시도 토픽 전달 성공/실패 시 배치 처리 결과와 에러 핸들러에 넘기는 레코드 위치를 테스트합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxEventBatchHandler 테스트")
+class OutboxEventBatchHandlerTest {
+
+    private static final String TOPIC = "ledger.events";
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> retryKafkaTemplate;
+
+    private OutboxEventBatchHandler batchHandler;
+
+    private final List<Long> applied = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        batchHandler = new OutboxEventBatchHandler(new OutboxPayloadReader(new ObjectMapper()), transactionTemplate,
+                retryKafkaTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(batchHandler, "forwardTimeoutMs", 1000L);
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("반영 실패 이벤트를 재시도 토픽으로 넘기고 나머지를 반영한다")
+    void handleBatch_ForwardsFailedEvent() {
+        when(retryKafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        int result = handle(List.of(ledgerEvent(0, 1L), ledgerEvent(1, 2L), ledgerEvent(2, 3L)), Set.of(2L));
+
+        assertThat(result).isEqualTo(2);
+        assertThat(applied).endsWith(1L, 3L);
+        verify(retryKafkaTemplate).send(argThat((ProducerRecord<String, byte[]> r) ->
+                r.topic().equals(TOPIC + OutboxEventBatchHandler.FAILED_TOPIC_SUFFIX) && r.key().equals("2")));
+    }
+
+    @Test
+    @DisplayName("재시도 토픽 전달이 실패하면 전달하지 못한 첫 레코드 위치로 배치 실패를 알린다")
+    void handleBatch_ForwardFails_ReportsFirstUnforwardedIndex() {
+        when(retryKafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new KafkaException("broker down")));
+
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+                ledgerEvent(0, 1L), ledgerEvent(1, 2L), ledgerEvent(2, 3L), ledgerEvent(3, 4L));
+
+        assertThatThrownBy(() -> handle(records, Set.of(2L, 3L)))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getIndex()).isEqualTo(1));
+        // 다시 전달되기 전에 실패하지 않은 이벤트는 모두 반영됨, 전달은 첫 실패 후 더 시도하지 않음
+        assertThat(applied).endsWith(1L, 4L);
+        verify(retryKafkaTemplate, times(1)).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    @DisplayName("파싱 실패 레코드를 전달하지 못해도 나머지를 반영한 뒤 그 레코드 위치로 배치 실패를 알린다")
+    void handleBatch_ParseFailureForwardFails() {
+        when(retryKafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new KafkaException("broker down")));
+
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+                ledgerEvent(0, 1L), record(1, "9", "{not json"), ledgerEvent(2, 2L));
+
+        assertThatThrownBy(() -> handle(records, Set.of()))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getIndex()).isEqualTo(1));
+        assertThat(applied).containsExactly(1L, 2L);
+    }
+
+    private int handle(List<ConsumerRecord<String, byte[]>> records, Set<Long> failingLedgerIds) {
+        return batchHandler.handleBatch(records, LedgerSyncEvent.class, LedgerSyncEvent::getLedgerId,
+                LedgerSyncEvent::getEventType, List.of("LEDGER_CREATED"), event -> {
+                    if (failingLedgerIds.contains(event.getLedgerId())) {
+                        throw new IllegalStateException("apply failed: " + event.getLedgerId());
+                    }
+                    applied.add(event.getLedgerId());
+                });
+    }
+
+    private static ConsumerRecord<String, byte[]> ledgerEvent(long offset, Long ledgerId) {
+        return record(offset, String.valueOf(ledgerId),
+                "{\"eventType\":\"LEDGER_UPDATED\",\"ledgerId\":" + ledgerId + ",\"userId\":1}");
+    }
+
+    private static ConsumerRecord<String, byte[]> record(long offset, String key, String payload) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, key, payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
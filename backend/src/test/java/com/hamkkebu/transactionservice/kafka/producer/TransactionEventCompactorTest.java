@@ -0,0 +1,92 @@
+package com.hamkkebu.transactionservice.kafka.producer;
+
+import com.hamkkebu.transactionservice.kafka.event.TransactionEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TransactionEventCompactor 단위 테스트
+ *
+ * <p>relay가 한 번에 가져온 거래 이벤트가 거래별로 올바르게 합쳐지는지 테스트합니다.</p>
+ */
+@DisplayName("TransactionEventCompactor 테스트")
+class TransactionEventCompactorTest {
+
+    @Test
+    @DisplayName("생성 후 수정된 거래는 마지막 상태의 생성 이벤트 하나로 합친다")
+    void compact_CreatedThenUpdated_BecomesSingleCreated() {
+        List<TransactionEvent> events = List.of(
+                event(TransactionEvent.EVENT_TYPE_CREATED, 1L, 0L, 1000),
+                updated(1L, 1L, 2000, 1000),
+                updated(1L, 2L, 3000, 2000));
+
+        List<TransactionEvent> result = TransactionEventCompactor.compact(events);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getEventType()).isEqualTo(TransactionEvent.EVENT_TYPE_CREATED);
+        assertThat(result.get(0).getVersion()).isEqualTo(2L);
+        assertThat(result.get(0).getAmount()).isEqualByComparingTo("3000");
+        assertThat(result.get(0).getPreviousAmount()).isNull();
+    }
+
+    @Test
+    @DisplayName("연속 수정은 첫 수정의 이전 값과 마지막 상태를 가진 수정 이벤트 하나로 합친다")
+    void compact_UpdatedTwice_KeepsFirstPreviousValues() {
+        List<TransactionEvent> events = List.of(
+                updated(1L, 5L, 2000, 1000),
+                updated(1L, 6L, 3000, 2000));
+
+        List<TransactionEvent> result = TransactionEventCompactor.compact(events);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getEventType()).isEqualTo(TransactionEvent.EVENT_TYPE_UPDATED);
+        assertThat(result.get(0).getVersion()).isEqualTo(6L);
+        assertThat(result.get(0).getAmount()).isEqualByComparingTo("3000");
+        assertThat(result.get(0).getPreviousAmount()).isEqualByComparingTo("1000");
+    }
+
+    @Test
+    @DisplayName("생성 후 삭제된 거래는 발행하지 않고, 수정 후 삭제는 합치지 않는다")
+    void compact_DeletedEvents() {
+        List<TransactionEvent> events = List.of(
+                event(TransactionEvent.EVENT_TYPE_CREATED, 1L, 0L, 1000),
+                updated(2L, 3L, 2000, 1000),
+                event(TransactionEvent.EVENT_TYPE_DELETED, 1L, 1L, 1000),
+                event(TransactionEvent.EVENT_TYPE_DELETED, 2L, 4L, 2000));
+
+        List<TransactionEvent> result = TransactionEventCompactor.compact(events);
+
+        assertThat(result).extracting(TransactionEvent::getTransactionId, TransactionEvent::getEventType)
+                .containsExactly(
+                        tuple(2L, TransactionEvent.EVENT_TYPE_UPDATED),
+                        tuple(2L, TransactionEvent.EVENT_TYPE_DELETED));
+    }
+
+    private static TransactionEvent event(String eventType, Long transactionId, Long version, long amount) {
+        return TransactionEvent.builder()
+                .eventId(eventType + "-" + transactionId + "-" + version)
+                .eventType(eventType)
+                .transactionId(transactionId)
+                .version(version)
+                .ledgerId(1L)
+                .type("EXPENSE")
+                .amount(BigDecimal.valueOf(amount))
+                .transactionDate(LocalDate.of(2024, 1, 10))
+                .build();
+    }
+
+    private static TransactionEvent updated(Long transactionId, Long version, long amount, long previousAmount) {
+        return event(TransactionEvent.EVENT_TYPE_UPDATED, transactionId, version, amount).toBuilder()
+                .previousLedgerId(1L)
+                .previousType("EXPENSE")
+                .previousAmount(BigDecimal.valueOf(previousAmount))
+                .previousTransactionDate(LocalDate.of(2024, 1, 10))
+                .build();
+    }
+}
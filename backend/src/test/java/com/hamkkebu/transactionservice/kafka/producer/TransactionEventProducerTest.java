@@ -1,11 +1,10 @@
 package com.hamkkebu.transactionservice.kafka.producer;
 
-import com.hamkkebu.boilerplate.common.publisher.OutboxEventPublisher;
-import com.hamkkebu.boilerplate.data.event.TransactionCreatedEvent;
-import com.hamkkebu.boilerplate.data.event.TransactionDeletedEvent;
-import com.hamkkebu.boilerplate.data.event.TransactionUpdatedEvent;
 import com.hamkkebu.transactionservice.data.entity.Transaction;
 import com.hamkkebu.transactionservice.data.entity.enums.TransactionType;
+import com.hamkkebu.transactionservice.kafka.event.TransactionEvent;
+import com.hamkkebu.transactionservice.repository.TransactionOutboxRepository;
+import com.hamkkebu.transactionservice.service.TransactionRollupService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,14 +25,14 @@ import static org.mockito.Mockito.*;
 /**
  * TransactionEventProducer 단위 테스트
  *
- * <p>Transactional Outbox 패턴을 사용하여 이벤트가 올바르게 발행되는지 테스트합니다.</p>
+ * <p>Transactional Outbox 패턴을 사용하여 이벤트가 올바르게 저장되는지 테스트합니다.</p>
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("TransactionEventProducer 테스트")
 class TransactionEventProducerTest {
 
     @Mock
-    private OutboxEventPublisher outboxEventPublisher;
+    private TransactionOutboxRepository transactionOutboxRepository;
 
     @InjectMocks
     private TransactionEventProducer transactionEventProducer;
@@ -42,9 +41,6 @@ class TransactionEventProducerTest {
 
     @BeforeEach
     void setUp() {
-        // Kafka 토픽 설정
-        ReflectionTestUtils.setField(transactionEventProducer, "transactionEventsTopic", "transaction.events");
-
         // 테스트용 거래 데이터
         transaction = Transaction.builder()
                 .ledgerId(1L)
@@ -57,113 +53,124 @@ class TransactionEventProducerTest {
                 .memo("팀 점심")
                 .build();
         ReflectionTestUtils.setField(transaction, "id", 1L);
+        ReflectionTestUtils.setField(transaction, "version", 0L);
     }
 
     @Test
-    @DisplayName("거래 생성 이벤트 발행 성공")
+    @DisplayName("거래 생성 이벤트 발행 성공 - 거래 전체 상태와 버전 포함")
     void publishTransactionCreated_Success() {
         // Given
-        doNothing().when(outboxEventPublisher).publish(anyString(), any(TransactionCreatedEvent.class));
+        doNothing().when(transactionOutboxRepository).append(any(TransactionEvent.class));
 
         // When
         transactionEventProducer.publishTransactionCreated(transaction);
 
         // Then
-        ArgumentCaptor<String> topicCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<TransactionCreatedEvent> eventCaptor = ArgumentCaptor.forClass(TransactionCreatedEvent.class);
-
-        verify(outboxEventPublisher).publish(topicCaptor.capture(), eventCaptor.capture());
+        ArgumentCaptor<TransactionEvent> eventCaptor = ArgumentCaptor.forClass(TransactionEvent.class);
 
-        assertThat(topicCaptor.getValue()).isEqualTo("transaction.events");
+        verify(transactionOutboxRepository).append(eventCaptor.capture());
 
-        TransactionCreatedEvent capturedEvent = eventCaptor.getValue();
+        TransactionEvent capturedEvent = eventCaptor.getValue();
         assertThat(capturedEvent).isNotNull();
-        assertThat(capturedEvent.getResourceId()).isEqualTo("1");
-        assertThat(capturedEvent.getUserId()).isEqualTo("1");
-        assertThat(capturedEvent.getLedgerId()).isEqualTo("1");
-        assertThat(capturedEvent.getEventType()).isEqualTo("TRANSACTION_CREATED");
+        assertThat(capturedEvent.getTransactionId()).isEqualTo(1L);
+        assertThat(capturedEvent.getUserId()).isEqualTo(1L);
+        assertThat(capturedEvent.getLedgerId()).isEqualTo(1L);
+        assertThat(capturedEvent.getEventType()).isEqualTo(TransactionEvent.EVENT_TYPE_CREATED);
         assertThat(capturedEvent.getEventId()).isNotNull();
+        assertThat(capturedEvent.getVersion()).isEqualTo(0L);
+        assertThat(capturedEvent.getType()).isEqualTo("EXPENSE");
+        assertThat(capturedEvent.getAmount()).isEqualByComparingTo("50000");
+        assertThat(capturedEvent.getCategory()).isEqualTo("식비");
+        assertThat(capturedEvent.getTransactionDate()).isEqualTo(transaction.getTransactionDate());
+        assertThat(capturedEvent.getPreviousAmount()).isNull();
     }
 
     @Test
-    @DisplayName("거래 수정 이벤트 발행 성공")
+    @DisplayName("거래 수정 이벤트 발행 성공 - 수정 전 금액/유형/거래일 포함")
     void publishTransactionUpdated_Success() {
         // Given
-        doNothing().when(outboxEventPublisher).publish(anyString(), any(TransactionUpdatedEvent.class));
+        doNothing().when(transactionOutboxRepository).append(any(TransactionEvent.class));
+        TransactionRollupService.RollupEntry previous = new TransactionRollupService.RollupEntry(
+                1L, LocalDate.of(2024, 1, 10), TransactionType.INCOME, BigDecimal.valueOf(30000));
+        ReflectionTestUtils.setField(transaction, "version", 3L);
 
         // When
-        transactionEventProducer.publishTransactionUpdated(transaction);
+        transactionEventProducer.publishTransactionUpdated(transaction, previous);
 
         // Then
-        ArgumentCaptor<String> topicCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<TransactionUpdatedEvent> eventCaptor = ArgumentCaptor.forClass(TransactionUpdatedEvent.class);
+        ArgumentCaptor<TransactionEvent> eventCaptor = ArgumentCaptor.forClass(TransactionEvent.class);
 
-        verify(outboxEventPublisher).publish(topicCaptor.capture(), eventCaptor.capture());
+        verify(transactionOutboxRepository).append(eventCaptor.capture());
 
-        assertThat(topicCaptor.getValue()).isEqualTo("transaction.events");
-
-        TransactionUpdatedEvent capturedEvent = eventCaptor.getValue();
+        TransactionEvent capturedEvent = eventCaptor.getValue();
         assertThat(capturedEvent).isNotNull();
-        assertThat(capturedEvent.getResourceId()).isEqualTo("1");
-        assertThat(capturedEvent.getUserId()).isEqualTo("1");
-        assertThat(capturedEvent.getLedgerId()).isEqualTo("1");
-        assertThat(capturedEvent.getEventType()).isEqualTo("TRANSACTION_UPDATED");
+        assertThat(capturedEvent.getTransactionId()).isEqualTo(1L);
+        assertThat(capturedEvent.getUserId()).isEqualTo(1L);
+        assertThat(capturedEvent.getLedgerId()).isEqualTo(1L);
+        assertThat(capturedEvent.getEventType()).isEqualTo(TransactionEvent.EVENT_TYPE_UPDATED);
+        assertThat(capturedEvent.getVersion()).isEqualTo(3L);
+        assertThat(capturedEvent.getAmount()).isEqualByComparingTo("50000");
+        assertThat(capturedEvent.getPreviousLedgerId()).isEqualTo(1L);
+        assertThat(capturedEvent.getPreviousType()).isEqualTo("INCOME");
+        assertThat(capturedEvent.getPreviousAmount()).isEqualByComparingTo("30000");
+        assertThat(capturedEvent.getPreviousTransactionDate()).isEqualTo(LocalDate.of(2024, 1, 10));
     }
 
     @Test
-    @DisplayName("거래 삭제 이벤트 발행 성공")
+    @DisplayName("거래 삭제 이벤트 발행 성공 - 삭제 직전 상태 포함")
     void publishTransactionDeleted_Success() {
         // Given
-        doNothing().when(outboxEventPublisher).publish(anyString(), any(TransactionDeletedEvent.class));
+        doNothing().when(transactionOutboxRepository).append(any(TransactionEvent.class));
+        ReflectionTestUtils.setField(transaction, "version", 4L);
 
         // When
         transactionEventProducer.publishTransactionDeleted(transaction);
 
         // Then
-        ArgumentCaptor<String> topicCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<TransactionDeletedEvent> eventCaptor = ArgumentCaptor.forClass(TransactionDeletedEvent.class);
-
-        verify(outboxEventPublisher).publish(topicCaptor.capture(), eventCaptor.capture());
+        ArgumentCaptor<TransactionEvent> eventCaptor = ArgumentCaptor.forClass(TransactionEvent.class);
 
-        assertThat(topicCaptor.getValue()).isEqualTo("transaction.events");
+        verify(transactionOutboxRepository).append(eventCaptor.capture());
 
-        TransactionDeletedEvent capturedEvent = eventCaptor.getValue();
+        TransactionEvent capturedEvent = eventCaptor.getValue();
         assertThat(capturedEvent).isNotNull();
-        assertThat(capturedEvent.getResourceId()).isEqualTo("1");
-        assertThat(capturedEvent.getUserId()).isEqualTo("1");
-        assertThat(capturedEvent.getLedgerId()).isEqualTo("1");
-        assertThat(capturedEvent.getEventType()).isEqualTo("TRANSACTION_DELETED");
+        assertThat(capturedEvent.getTransactionId()).isEqualTo(1L);
+        assertThat(capturedEvent.getUserId()).isEqualTo(1L);
+        assertThat(capturedEvent.getLedgerId()).isEqualTo(1L);
+        assertThat(capturedEvent.getEventType()).isEqualTo(TransactionEvent.EVENT_TYPE_DELETED);
+        assertThat(capturedEvent.getVersion()).isEqualTo(4L);
+        assertThat(capturedEvent.getAmount()).isEqualByComparingTo("50000");
     }
 
     @Test
-    @DisplayName("이벤트 발행 시 OutboxEventPublisher 호출 검증")
+    @DisplayName("이벤트 발행 시 Outbox 저장 호출 검증")
     void publishEvent_VerifyOutboxPublisherCalled() {
         // Given
-        doNothing().when(outboxEventPublisher).publish(anyString(), any());
+        doNothing().when(transactionOutboxRepository).append(any());
 
         // When
         transactionEventProducer.publishTransactionCreated(transaction);
-        transactionEventProducer.publishTransactionUpdated(transaction);
+        transactionEventProducer.publishTransactionUpdated(transaction,
+                TransactionRollupService.RollupEntry.of(transaction));
         transactionEventProducer.publishTransactionDeleted(transaction);
 
         // Then
-        verify(outboxEventPublisher, times(3)).publish(eq("transaction.events"), any());
+        verify(transactionOutboxRepository, times(3)).append(any());
     }
 
     @Test
     @DisplayName("이벤트 ID가 고유하게 생성되는지 확인")
     void publishEvents_UniqueEventIds() {
         // Given
-        doNothing().when(outboxEventPublisher).publish(anyString(), any());
+        doNothing().when(transactionOutboxRepository).append(any());
 
-        ArgumentCaptor<TransactionCreatedEvent> eventCaptor = ArgumentCaptor.forClass(TransactionCreatedEvent.class);
+        ArgumentCaptor<TransactionEvent> eventCaptor = ArgumentCaptor.forClass(TransactionEvent.class);
 
         // When - 두 번 호출
         transactionEventProducer.publishTransactionCreated(transaction);
         transactionEventProducer.publishTransactionCreated(transaction);
 
         // Then
-        verify(outboxEventPublisher, times(2)).publish(eq("transaction.events"), eventCaptor.capture());
+        verify(transactionOutboxRepository, times(2)).append(eventCaptor.capture());
 
         var capturedEvents = eventCaptor.getAllValues();
         assertThat(capturedEvents).hasSize(2);
@@ -0,0 +1,80 @@
+package com.hamkkebu.transactionservice.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CodefCallQuotaRepository 테스트
+ *
+ * <p>여러 인스턴스가 동시에 차감해도 날짜별 한도를 넘지 않는지 MySQL에서 검증합니다.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("CodefCallQuotaRepository 테스트")
+class CodefCallQuotaRepositoryTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("hamkkebu_transaction");
+
+    private JdbcTemplate jdbcTemplate;
+    private CodefCallQuotaRepository quotaRepository;
+
+    @BeforeAll
+    void setUp() {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        quotaRepository = new CodefCallQuotaRepository(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("동시에 차감해도 하루 한도만큼만 허용하고, 날짜가 바뀌면 다시 허용한다")
+    void tryConsume_ConcurrentWithinDailyLimit() throws Exception {
+        LocalDate today = LocalDate.of(2024, 3, 10);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Boolean>> calls = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                calls.add(() -> quotaRepository.tryConsume("DEMO", today, 25));
+            }
+            long granted = 0;
+            for (Future<Boolean> result : executor.invokeAll(calls)) {
+                if (result.get()) {
+                    granted++;
+                }
+            }
+
+            assertThat(granted).isEqualTo(25);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(quotaRepository.tryConsume("DEMO", today, 25)).isFalse();
+        assertThat(quotaRepository.tryConsume("DEMO", today.plusDays(1), 25)).isTrue();
+        assertThat(quotaRepository.tryConsume("API", today, 25)).isTrue();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT call_count FROM tbl_codef_call_quota WHERE service_type = 'DEMO' AND quota_date = ?",
+                Integer.class, today)).isEqualTo(25);
+    }
+}
@@ -0,0 +1,148 @@
+package com.hamkkebu.transactionservice.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SchedulerLeaseRepository 테스트
+ *
+ * <p>리스 획득/인수/해제(최소 보유 시간)와 heartbeat 조회 SQL을 MySQL에서 검증합니다.
+ * 만료는 기다리지 않고 시각 컬럼을 과거로 옮겨 재현합니다.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("SchedulerLeaseRepository 테스트")
+class SchedulerLeaseRepositoryTest {
+
+    private static final String LEASE = "transaction-sync";
+    private static final Duration LEASE_FOR = Duration.ofMinutes(10);
+    private static final Duration MIN_HOLD = Duration.ofMinutes(5);
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("hamkkebu_transaction");
+
+    private JdbcTemplate jdbcTemplate;
+    private SchedulerLeaseRepository leaseRepository;
+
+    @BeforeAll
+    void setUp() {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        leaseRepository = new SchedulerLeaseRepository(jdbcTemplate);
+    }
+
+    @BeforeEach
+    void clean() {
+        jdbcTemplate.update("DELETE FROM tbl_scheduler_leases");
+        jdbcTemplate.update("DELETE FROM tbl_scheduler_nodes");
+    }
+
+    @Test
+    @DisplayName("보유 중인 리스는 다른 인스턴스가 얻지 못하고, 소유자는 다시 얻어 연장한다")
+    void tryAcquire_HeldLease() {
+        assertThat(leaseRepository.tryAcquire(LEASE, "a", LEASE_FOR)).isTrue();
+        assertThat(leaseRepository.tryAcquire(LEASE, "b", LEASE_FOR)).isFalse();
+        assertThat(leaseRepository.tryAcquire(LEASE, "a", LEASE_FOR)).isTrue();
+
+        assertThat(owner()).isEqualTo("a");
+        assertThat(secondsUntilExpiry()).isBetween(590L, 600L);
+    }
+
+    @Test
+    @DisplayName("만료된 리스는 다른 인스턴스가 인수한다")
+    void tryAcquire_TakesOverExpiredLease() {
+        leaseRepository.tryAcquire(LEASE, "a", LEASE_FOR);
+        jdbcTemplate.update("UPDATE tbl_scheduler_leases SET expires_at = NOW(3) - INTERVAL 1 SECOND");
+
+        assertThat(leaseRepository.tryAcquire(LEASE, "b", LEASE_FOR)).isTrue();
+        assertThat(owner()).isEqualTo("b");
+        assertThat(leaseRepository.tryAcquire(LEASE, "a", LEASE_FOR)).isFalse();
+    }
+
+    @Test
+    @DisplayName("획득 직후 해제하면 최소 보유 시간까지 유지해 같은 cron의 재실행을 막는다")
+    void release_KeepsLeaseUntilMinHold() {
+        leaseRepository.tryAcquire(LEASE, "a", LEASE_FOR);
+
+        leaseRepository.release(LEASE, "a", MIN_HOLD);
+
+        assertThat(secondsUntilExpiry()).isBetween(290L, 300L);
+        assertThat(leaseRepository.tryAcquire(LEASE, "b", LEASE_FOR)).isFalse();
+    }
+
+    @Test
+    @DisplayName("최소 보유 시간이 지난 뒤 해제하면 바로 만료되어 다른 인스턴스가 얻는다")
+    void release_AfterMinHold_ExpiresNow() {
+        leaseRepository.tryAcquire(LEASE, "a", LEASE_FOR);
+        jdbcTemplate.update("UPDATE tbl_scheduler_leases SET acquired_at = NOW(3) - INTERVAL 6 MINUTE");
+
+        leaseRepository.release(LEASE, "a", MIN_HOLD);
+
+        assertThat(secondsUntilExpiry()).isLessThanOrEqualTo(0L);
+        assertThat(leaseRepository.tryAcquire(LEASE, "b", LEASE_FOR)).isTrue();
+    }
+
+    @Test
+    @DisplayName("소유자가 아닌 인스턴스의 해제는 리스를 바꾸지 않는다")
+    void release_ByOtherOwner_Ignored() {
+        leaseRepository.tryAcquire(LEASE, "a", LEASE_FOR);
+        jdbcTemplate.update("UPDATE tbl_scheduler_leases SET acquired_at = NOW(3) - INTERVAL 6 MINUTE");
+
+        leaseRepository.release(LEASE, "b", MIN_HOLD);
+
+        assertThat(owner()).isEqualTo("a");
+        assertThat(secondsUntilExpiry()).isGreaterThan(200L);
+    }
+
+    @Test
+    @DisplayName("ttl 안에 heartbeat를 보낸 인스턴스만 ID 순으로 조회하고, 오래된 행은 삭제한다")
+    void heartbeat_FindsLiveInstancesInIdOrder() {
+        leaseRepository.heartbeat("c");
+        leaseRepository.heartbeat("a");
+        leaseRepository.heartbeat("b");
+        jdbcTemplate.update("UPDATE tbl_scheduler_nodes SET heartbeat_at = NOW(3) - INTERVAL 2 MINUTE " +
+                "WHERE instance_id = 'b'");
+        jdbcTemplate.update("UPDATE tbl_scheduler_nodes SET heartbeat_at = NOW(3) - INTERVAL 1 HOUR " +
+                "WHERE instance_id = 'c'");
+
+        assertThat(leaseRepository.findLiveInstanceIds(Duration.ofSeconds(90))).containsExactly("a");
+        assertThat(leaseRepository.findLiveInstanceIds(Duration.ofMinutes(3))).containsExactly("a", "b");
+
+        leaseRepository.heartbeat("c");
+        assertThat(leaseRepository.findLiveInstanceIds(Duration.ofSeconds(90))).containsExactly("a", "c");
+
+        jdbcTemplate.update("UPDATE tbl_scheduler_nodes SET heartbeat_at = NOW(3) - INTERVAL 1 HOUR " +
+                "WHERE instance_id = 'c'");
+        assertThat(leaseRepository.deleteStaleInstances(Duration.ofMinutes(15))).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT instance_id FROM tbl_scheduler_nodes ORDER BY instance_id",
+                String.class)).containsExactly("a", "b");
+    }
+
+    private String owner() {
+        return jdbcTemplate.queryForObject(
+                "SELECT owner_id FROM tbl_scheduler_leases WHERE lease_name = ?", String.class, LEASE);
+    }
+
+    private long secondsUntilExpiry() {
+        return jdbcTemplate.queryForObject(
+                "SELECT TIMESTAMPDIFF(SECOND, NOW(3), expires_at) FROM tbl_scheduler_leases WHERE lease_name = ?",
+                Long.class, LEASE);
+    }
+}
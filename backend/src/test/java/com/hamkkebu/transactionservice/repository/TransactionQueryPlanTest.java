@@ -0,0 +1,321 @@
+package com.hamkkebu.transactionservice.repository;
+
+import com.hamkkebu.transactionservice.data.entity.Transaction;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TransactionRepository 쿼리 실행 계획 테스트
+ *
+ * <p>schema.sql의 인덱스로 각 Repository 쿼리가 full scan(type=ALL)이나
+ * filesort 없이 실행되는지 EXPLAIN으로 검증합니다.</p>
+ * <p>실제 Repository 메서드를 호출하고, Hibernate와 JdbcTemplate이 실행하는 SQL을 같은 바인딩 값으로
+ * EXPLAIN 합니다 ({@link ExplainingDataSource}). 쿼리를 바꾸면 이 테스트도 바뀐 SQL을 검증합니다.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("TransactionRepository 실행 계획 테스트")
+class TransactionQueryPlanTest {
+
+    private static final int LEDGER_COUNT = 20;
+    private static final int ROWS_PER_LEDGER = 250;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("hamkkebu_transaction")
+            .withUrlParam("rewriteBatchedStatements", "true");
+
+    private Connection connection;
+    private ExplainingDataSource dataSource;
+    private EntityManagerFactory entityManagerFactory;
+    private TransactionTemplate transactionTemplate;
+    private TransactionRepository transactionRepository;
+    private TransactionDailyRollupRepository rollupRepository;
+    private TransactionJdbcRepository transactionJdbcRepository;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        dataSource = new ExplainingDataSource(
+                new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword()));
+        connection = dataSource.getTargetDataSource().getConnection();
+        ScriptUtils.executeSqlScript(connection, new ClassPathResource("schema.sql"));
+        seedTransactions();
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE tbl_transactions");
+        }
+
+        // 애플리케이션과 같은 엔티티 매핑/이름 규칙으로 Repository 구성
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.hamkkebu.transactionservice.data.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "none",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+        JpaRepositoryFactory repositoryFactory =
+                new JpaRepositoryFactory(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+        transactionRepository = repositoryFactory.getRepository(TransactionRepository.class);
+        rollupRepository = repositoryFactory.getRepository(TransactionDailyRollupRepository.class);
+        transactionJdbcRepository = new TransactionJdbcRepository(new JdbcTemplate(dataSource));
+    }
+
+    @AfterAll
+    void tearDown() throws Exception {
+        if (entityManagerFactory != null) {
+            entityManagerFactory.close();
+        }
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    // PER_CLASS 이므로 인스턴스 메서드로 Repository 필드를 사용 (호출은 각 테스트 실행 시점)
+    Stream<Arguments> repositoryQueries() {
+        LocalDate cursorDate = LocalDate.of(2024, 3, 10);
+        return Stream.of(
+                Arguments.of("findByLedgerIdAndIsDeletedFalseOrderByTransactionDateDescIdDesc (page)",
+                        (Runnable) () -> transactionRepository
+                                .findByLedgerIdAndIsDeletedFalseOrderByTransactionDateDescIdDesc(
+                                        3L, PageRequest.of(2, 20))),
+                Arguments.of("findFirstSliceByLedgerId",
+                        (Runnable) () -> transactionRepository.findFirstSliceByLedgerId(3L, PageRequest.of(0, 21))),
+                Arguments.of("findSliceByLedgerIdAfterCursor",
+                        (Runnable) () -> transactionRepository.findSliceByLedgerIdAfterCursor(
+                                3L, cursorDate, 900L, PageRequest.of(0, 21))),
+                Arguments.of("streamByLedgerId",
+                        (Runnable) () -> {
+                            try (Stream<Transaction> transactions = transactionRepository.streamByLedgerId(3L)) {
+                                transactions.forEach(transaction -> { });
+                            }
+                        }),
+                Arguments.of("findByLedgerIdAndTransactionDateBetweenAndIsDeletedFalseOrderByTransactionDateDescIdDesc",
+                        (Runnable) () -> transactionRepository
+                                .findByLedgerIdAndTransactionDateBetweenAndIsDeletedFalseOrderByTransactionDateDescIdDesc(
+                                        3L, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31))),
+                Arguments.of("findByLedgerIdAndCategoryAndIsDeletedFalseOrderByTransactionDateDescIdDesc (page)",
+                        (Runnable) () -> transactionRepository
+                                .findByLedgerIdAndCategoryAndIsDeletedFalseOrderByTransactionDateDescIdDesc(
+                                        3L, "식비", PageRequest.of(0, 20))),
+                Arguments.of("aggregateDailyByLedgerId",
+                        (Runnable) () -> transactionRepository.aggregateDailyByLedgerId(3L)),
+                Arguments.of("existsByLedgerIdAndUserIdAndIsDeletedFalse",
+                        (Runnable) () -> transactionRepository.existsByLedgerIdAndUserIdAndIsDeletedFalse(3L, 3L)),
+                Arguments.of("countByLedgerIdAndUserId",
+                        (Runnable) () -> transactionRepository.countByLedgerIdAndUserId(3L, 3L)),
+                Arguments.of("findByLinkedCardIdAndExternalApprovalNoInAndIsDeletedFalse",
+                        (Runnable) () -> transactionRepository
+                                .findByLinkedCardIdAndExternalApprovalNoInAndIsDeletedFalse(
+                                        3L, List.of("AP-3-10", "AP-3-12", "AP-3-14"))),
+                Arguments.of("findByLinkedCardIdAndIsDeletedFalse",
+                        (Runnable) () -> transactionRepository.findByLinkedCardIdAndIsDeletedFalse(3L)),
+                Arguments.of("softDeleteByLinkedCardId",
+                        (Runnable) () -> transactionRepository.softDeleteByLinkedCardId(3L)),
+                Arguments.of("TransactionJdbcRepository.findActiveImportHashes",
+                        (Runnable) () -> transactionJdbcRepository.findActiveImportHashes(
+                                3L, List.of("a".repeat(64), "b".repeat(64)))),
+                Arguments.of("TransactionJdbcRepository.deleteSoftDeletedByLinkedCardId",
+                        (Runnable) () -> transactionJdbcRepository.deleteSoftDeletedByLinkedCardId(3L, 1000)),
+                Arguments.of("TransactionDailyRollupRepository.subtractActiveByLinkedCardId",
+                        (Runnable) () -> rollupRepository.subtractActiveByLinkedCardId(3L)),
+                Arguments.of("TransactionDailyRollupRepository.refreshFromTransactionsByLedgerIdAndDates",
+                        (Runnable) () -> rollupRepository.refreshFromTransactionsByLedgerIdAndDates(
+                                3L, List.of(LocalDate.of(2023, 1, 4), LocalDate.of(2023, 1, 7)))),
+                Arguments.of("TransactionDailyRollupRepository.insertFromTransactionsByLedgerId",
+                        (Runnable) () -> rollupRepository.insertFromTransactionsByLedgerId(3L))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    @DisplayName("Repository 쿼리는 full scan과 filesort 없이 인덱스로 실행된다")
+    void repositoryQuery_UsesIndexWithoutFilesort(String queryName, Runnable query) {
+        dataSource.reset();
+
+        // 수정 쿼리도 실행 계획만 확인하고 시드 데이터는 되돌림
+        transactionTemplate.executeWithoutResult(status -> {
+            query.run();
+            status.setRollbackOnly();
+        });
+
+        assertThat(dataSource.explainedSql())
+                .as("Statements executed by %s", queryName)
+                .isNotEmpty();
+        assertThat(dataSource.violations())
+                .as("Query plan of %s (SQL: %s)", queryName, dataSource.explainedSql())
+                .isEmpty();
+    }
+
+    private void seedTransactions() throws Exception {
+        String sql = "INSERT INTO tbl_transactions " +
+                "(ledger_id, user_id, transaction_type, amount, category, transaction_date, " +
+                "source_type, external_approval_no, linked_card_id, is_deleted) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String[] categories = {"식비", "교통", "쇼핑", "급여", "주거"};
+        LocalDate baseDate = LocalDate.of(2023, 1, 1);
+
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (long ledgerId = 1; ledgerId <= LEDGER_COUNT; ledgerId++) {
+                for (int i = 0; i < ROWS_PER_LEDGER; i++) {
+                    boolean codef = i % 2 == 0;
+                    ps.setLong(1, ledgerId);
+                    ps.setLong(2, ledgerId);
+                    ps.setString(3, i % 5 == 3 ? "INCOME" : "EXPENSE");
+                    ps.setBigDecimal(4, java.math.BigDecimal.valueOf(1000L + i * 37L));
+                    ps.setString(5, categories[i % categories.length]);
+                    ps.setObject(6, baseDate.plusDays(i * 3L));
+                    ps.setString(7, codef ? "CODEF" : "MANUAL");
+                    ps.setString(8, codef ? "AP-" + ledgerId + "-" + i : null);
+                    if (codef) {
+                        ps.setLong(9, ledgerId);
+                    } else {
+                        ps.setNull(9, java.sql.Types.BIGINT);
+                    }
+                    ps.setBoolean(10, i % 17 == 0);
+                    ps.addBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
+    /**
+     * 실행되는 PreparedStatement마다 같은 연결에서 같은 SQL·바인딩 값으로 EXPLAIN을 먼저 실행해
+     * full scan과 filesort를 기록하는 DataSource
+     */
+    static final class ExplainingDataSource extends DelegatingDataSource {
+
+        private final List<String> explainedSql = new ArrayList<>();
+        private final List<String> violations = new ArrayList<>();
+
+        ExplainingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        void reset() {
+            explainedSql.clear();
+            violations.clear();
+        }
+
+        List<String> explainedSql() {
+            return explainedSql;
+        }
+
+        List<String> violations() {
+            return violations;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection target = super.getConnection();
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(target, method, args);
+                        if (method.getName().equals("prepareStatement")) {
+                            return explaining(target, (PreparedStatement) result, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private PreparedStatement explaining(Connection connection, PreparedStatement target, String sql) {
+            Map<Integer, Object> parameters = new TreeMap<>();
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] {PreparedStatement.class}, (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2
+                                && args[0] instanceof Integer index) {
+                            parameters.put(index, name.equals("setNull") ? null : args[1]);
+                        } else if (name.equals("clearParameters")) {
+                            parameters.clear();
+                        } else if (name.startsWith("execute") && (args == null || args.length == 0)) {
+                            explain(connection, sql, parameters);
+                        }
+                        return invoke(target, method, args);
+                    });
+        }
+
+        private void explain(Connection connection, String sql, Map<Integer, Object> parameters) throws SQLException {
+            explainedSql.add(sql);
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (Map.Entry<Integer, Object> parameter : parameters.entrySet()) {
+                    if (parameter.getValue() == null) {
+                        explain.setNull(parameter.getKey(), Types.NULL);
+                    } else {
+                        explain.setObject(parameter.getKey(), parameter.getValue());
+                    }
+                }
+                try (ResultSet plan = explain.executeQuery()) {
+                    while (plan.next()) {
+                        String table = plan.getString("table");
+                        String key = plan.getString("key");
+                        String extra = plan.getString("Extra");
+
+                        // INSERT ... SELECT의 INSERT 대상 행은 접근 경로가 없음
+                        if ("ALL".equals(plan.getString("type")) && !"INSERT".equals(plan.getString("select_type"))) {
+                            violations.add(table + ": full table scan");
+                        }
+                        if (extra != null && extra.contains("Using filesort")) {
+                            violations.add(table + ": filesort (key=" + key + ")");
+                        }
+                    }
+                }
+            }
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.hamkkebu.transactionservice.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CsvRowReader 단위 테스트
+ *
+ * <p>따옴표 필드, 필드 안 줄바꿈, CRLF, BOM을 RFC 4180대로 읽는지 테스트합니다.</p>
+ */
+@DisplayName("CsvRowReader 테스트")
+class CsvRowReaderTest {
+
+    @Test
+    @DisplayName("따옴표 필드 안의 쉼표/줄바꿈/이중 따옴표를 하나의 필드로 읽는다")
+    void next_ReadsQuotedFields() throws IOException {
+        String csv = "\uFEFFdate,description,amount\r\n"
+                + "2024-03-01,\"스타벅스, 강남\",\"-4,500\"\r\n"
+                + "2024-03-02,\"여러\n줄 \"\"메모\"\"\",1000\n";
+
+        try (CsvRowReader reader = new CsvRowReader(new StringReader(csv))) {
+            assertThat(reader.next()).containsExactly("date", "description", "amount");
+            assertThat(reader.next()).containsExactly("2024-03-01", "스타벅스, 강남", "-4,500");
+            assertThat(reader.next()).containsExactly("2024-03-02", "여러\n줄 \"메모\"", "1000");
+            assertThat(reader.recordLine()).isEqualTo(3);
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 따옴표는 레코드 시작 행 번호와 함께 실패한다")
+    void next_UnclosedQuote_Throws() throws IOException {
+        try (CsvRowReader reader = new CsvRowReader(new StringReader("a,b\n1,\"open\n"))) {
+            List<String> header = reader.next();
+
+            assertThat(header).containsExactly("a", "b");
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("2행");
+        }
+    }
+}
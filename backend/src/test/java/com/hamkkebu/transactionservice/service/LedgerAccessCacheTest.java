@@ -0,0 +1,118 @@
+package com.hamkkebu.transactionservice.service;
+
+import com.hamkkebu.transactionservice.service.LedgerAccessCache.LedgerAccess;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LedgerAccessCache 단위 테스트
+ *
+ * <p>무효화 알림 발행/수신과 로딩 중 무효화된 항목이 남지 않는지 테스트합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LedgerAccessCache 테스트")
+class LedgerAccessCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private LedgerAccessCache accessCache;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        accessCache = new LedgerAccessCache(redisTemplate, 100, Duration.ofMinutes(5), Duration.ofSeconds(30),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("무효화하면 자신의 항목을 지우고 다른 레플리카에 알린다")
+    void invalidate_EvictsAndBroadcasts() {
+        accessCache.get(1L, 10L, this::loadShared);
+        accessCache.get(1L, 20L, this::loadShared);
+
+        accessCache.invalidate(1L, 10L);
+        accessCache.get(1L, 10L, this::loadShared);
+        accessCache.get(1L, 20L, this::loadShared);
+        accessCache.invalidateLedger(1L);
+        accessCache.get(1L, 20L, this::loadShared);
+
+        assertThat(loads).hasValue(4);
+        verify(redisTemplate).convertAndSend(LedgerAccessCache.INVALIDATION_CHANNEL, "1:10");
+        verify(redisTemplate).convertAndSend(LedgerAccessCache.INVALIDATION_CHANNEL, "1");
+    }
+
+    @Test
+    @DisplayName("다른 레플리카의 무효화 알림을 받으면 해당 항목을 다시 판정한다")
+    void onMessage_EvictsFromOtherReplica() {
+        accessCache.get(1L, 10L, this::loadShared);
+        accessCache.get(2L, 10L, this::loadShared);
+
+        accessCache.onMessage(message("1:10"), null);
+        accessCache.onMessage(message("2"), null);
+        accessCache.onMessage(message("not-a-ledger"), null);
+        accessCache.get(1L, 10L, this::loadShared);
+        accessCache.get(2L, 10L, this::loadShared);
+
+        assertThat(loads).hasValue(4);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("판정 로딩 중 가계부가 무효화되면 로딩 결과는 이후 조회에 쓰이지 않는다")
+    void invalidateLedger_DuringInFlightLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<LedgerAccess> inFlight = CompletableFuture.supplyAsync(() ->
+                accessCache.get(1L, 10L, () -> {
+                    loading.countDown();
+                    await(release);
+                    return LedgerAccess.SHARED;
+                }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 공유 해제 반영 후 무효화, 그 뒤 로딩이 변경 전 판정으로 끝남
+        accessCache.invalidateLedger(1L);
+        release.countDown();
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo(LedgerAccess.SHARED);
+
+        assertThat(accessCache.get(1L, 10L, () -> LedgerAccess.DENIED)).isEqualTo(LedgerAccess.DENIED);
+    }
+
+    private LedgerAccess loadShared() {
+        loads.incrementAndGet();
+        return LedgerAccess.SHARED;
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(LedgerAccessCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
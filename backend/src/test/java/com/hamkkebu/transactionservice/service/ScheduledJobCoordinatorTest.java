@@ -0,0 +1,113 @@
+package com.hamkkebu.transactionservice.service;
+
+import com.hamkkebu.transactionservice.repository.SchedulerLeaseRepository;
+import com.hamkkebu.transactionservice.service.ScheduledJobCoordinator.Shard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ScheduledJobCoordinator 단위 테스트
+ *
+ * <p>분담 샤드의 키 분배와 살아있는 인스턴스 목록으로 샤드를 정하는 과정을 테스트합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduledJobCoordinator 테스트")
+class ScheduledJobCoordinatorTest {
+
+    private static final int KEY_COUNT = 12_000;
+
+    @Mock
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    @ParameterizedTest(name = "count={0}")
+    @ValueSource(ints = {2, 3, 4, 7})
+    @DisplayName("연속된 키와 샤드 수의 배수 키 모두 각 키를 정확히 한 샤드에 고르게 나눈다")
+    void owns_SpreadsKeysEvenly(int count) {
+        long expected = KEY_COUNT / count;
+        for (int stride : new int[] {1, count}) {
+            long[] owned = new long[count];
+            for (long i = 1; i <= KEY_COUNT; i++) {
+                long key = i * stride;
+                int owners = 0;
+                for (int index = 0; index < count; index++) {
+                    if (new Shard(index, count).owns(key)) {
+                        owned[index]++;
+                        owners++;
+                    }
+                }
+                assertThat(owners).as("owners of key %d", key).isEqualTo(1);
+            }
+            for (long shardKeys : owned) {
+                assertThat(shardKeys).as("stride %d", stride).isBetween(expected * 9 / 10, expected * 11 / 10);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("샤드가 하나 이하이면 모든 키를 맡는다")
+    void owns_SingleShardOwnsEverything() {
+        for (long key : new long[] {Long.MIN_VALUE, -1L, 0L, 1L, 42L, Long.MAX_VALUE}) {
+            assertThat(Shard.SINGLE.owns(key)).isTrue();
+            assertThat(new Shard(0, 0).owns(key)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("살아있는 인스턴스 목록에서 자신의 순번을 샤드 번호로 쓴다")
+    void currentShard_UsesOwnIndex() {
+        ScheduledJobCoordinator coordinator = coordinator(true);
+        AtomicReference<String> self = captureInstanceId();
+        when(schedulerLeaseRepository.findLiveInstanceIds(Duration.ofSeconds(90)))
+                .thenAnswer(invocation -> List.of("a:00000000", self.get(), "z:00000000"));
+
+        assertThat(coordinator.currentShard()).isEqualTo(new Shard(1, 3));
+    }
+
+    @Test
+    @DisplayName("목록에서 자신을 찾지 못하면 전체를 맡는다")
+    void currentShard_NotListed_FallsBackToSingle() {
+        ScheduledJobCoordinator coordinator = coordinator(true);
+        when(schedulerLeaseRepository.findLiveInstanceIds(any()))
+                .thenReturn(List.of("a:00000000", "b:00000000"));
+
+        assertThat(coordinator.currentShard()).isEqualTo(Shard.SINGLE);
+        verify(schedulerLeaseRepository).heartbeat(startsWith("node-1:"));
+    }
+
+    @Test
+    @DisplayName("조정을 끄면 저장소를 조회하지 않고 전체를 맡는다")
+    void currentShard_Disabled() {
+        ScheduledJobCoordinator coordinator = coordinator(false);
+
+        assertThat(coordinator.currentShard()).isEqualTo(Shard.SINGLE);
+        verifyNoInteractions(schedulerLeaseRepository);
+    }
+
+    private ScheduledJobCoordinator coordinator(boolean enabled) {
+        return new ScheduledJobCoordinator(schedulerLeaseRepository, enabled, "node-1",
+                Duration.ofSeconds(90), Duration.ofMinutes(5));
+    }
+
+    // 인스턴스 ID는 생성 시 임의 접미사가 붙으므로 heartbeat 인자로 확인
+    private AtomicReference<String> captureInstanceId() {
+        AtomicReference<String> instanceId = new AtomicReference<>();
+        doAnswer(invocation -> {
+            instanceId.set(invocation.getArgument(0));
+            return null;
+        }).when(schedulerLeaseRepository).heartbeat(anyString());
+        return instanceId;
+    }
+}
@@ -0,0 +1,186 @@
+package com.hamkkebu.transactionservice.service;
+
+import com.hamkkebu.transactionservice.data.dto.TransactionBatchRequest;
+import com.hamkkebu.transactionservice.data.dto.TransactionBatchRequest.Operation;
+import com.hamkkebu.transactionservice.data.dto.TransactionBatchRequest.OperationType;
+import com.hamkkebu.transactionservice.data.dto.TransactionBatchResponse;
+import com.hamkkebu.transactionservice.data.dto.TransactionRequest;
+import com.hamkkebu.transactionservice.data.entity.Transaction;
+import com.hamkkebu.transactionservice.data.entity.enums.TransactionType;
+import com.hamkkebu.transactionservice.data.mapper.TransactionMapper;
+import com.hamkkebu.transactionservice.kafka.event.TransactionEvent;
+import com.hamkkebu.transactionservice.kafka.producer.TransactionEventProducer;
+import com.hamkkebu.transactionservice.repository.TransactionJdbcRepository;
+import com.hamkkebu.transactionservice.repository.TransactionRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TransactionBatchService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionBatchService 테스트")
+class TransactionBatchServiceTest {
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionJdbcRepository transactionJdbcRepository;
+
+    @Mock
+    private TransactionRollupService transactionRollupService;
+
+    @Mock
+    private TransactionMapper transactionMapper;
+
+    @Mock
+    private TransactionEventProducer transactionEventProducer;
+
+    private TransactionBatchService transactionBatchService;
+
+    private Transaction existingTransaction;
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        transactionBatchService = new TransactionBatchService(transactionService, transactionRepository,
+                transactionJdbcRepository, transactionRollupService, transactionMapper, transactionEventProducer,
+                validator);
+
+        existingTransaction = Transaction.builder()
+                .ledgerId(1L)
+                .userId(1L)
+                .type(TransactionType.EXPENSE)
+                .amount(BigDecimal.valueOf(10000))
+                .transactionDate(LocalDate.of(2024, 3, 1))
+                .build();
+        ReflectionTestUtils.setField(existingTransaction, "id", 10L);
+        ReflectionTestUtils.setField(existingTransaction, "version", 2L);
+    }
+
+    @Test
+    @DisplayName("일괄 작업 - 권한은 한 번만 검증하고, 실패한 작업만 제외하고 반영한다")
+    void execute_MixedOperations_PartialSuccess() {
+        // Given
+        Long userId = 1L;
+        TransactionBatchRequest request = TransactionBatchRequest.builder()
+                .ledgerId(1L)
+                .operations(List.of(
+                        Operation.builder().op(OperationType.CREATE).clientRef("local-1")
+                                .type(TransactionType.EXPENSE).amount(BigDecimal.valueOf(5000))
+                                .transactionDate(LocalDate.of(2024, 3, 2)).build(),
+                        Operation.builder().op(OperationType.CREATE).clientRef("local-2")
+                                .type(TransactionType.EXPENSE).transactionDate(LocalDate.of(2024, 3, 2)).build(),
+                        Operation.builder().op(OperationType.UPDATE).transactionId(10L)
+                                .type(TransactionType.EXPENSE).amount(BigDecimal.valueOf(20000))
+                                .transactionDate(LocalDate.of(2024, 3, 1)).build(),
+                        Operation.builder().op(OperationType.DELETE).transactionId(99L).build()))
+                .build();
+
+        when(transactionRepository.findByLedgerIdAndUserIdAndIdInAndIsDeletedFalse(eq(1L), eq(userId), anyCollection()))
+                .thenReturn(List.of(existingTransaction));
+        when(transactionMapper.toEntity(any(TransactionRequest.class))).thenAnswer(invocation -> {
+            TransactionRequest source = invocation.getArgument(0);
+            return Transaction.builder()
+                    .ledgerId(source.getLedgerId())
+                    .type(source.getType())
+                    .amount(source.getAmount())
+                    .transactionDate(source.getTransactionDate())
+                    .build();
+        });
+        doAnswer(invocation -> {
+            TransactionRequest source = invocation.getArgument(0);
+            Transaction target = invocation.getArgument(1);
+            target.setAmount(source.getAmount());
+            return null;
+        }).when(transactionMapper).updateEntity(any(TransactionRequest.class), any(Transaction.class));
+        doAnswer(invocation -> {
+            List<Transaction> created = invocation.getArgument(0);
+            created.forEach(t -> {
+                t.setId(100L);
+                t.setVersion(0L);
+            });
+            return null;
+        }).when(transactionJdbcRepository).batchInsert(anyList());
+
+        // When
+        TransactionBatchResponse response = transactionBatchService.execute(request, userId);
+
+        // Then
+        verify(transactionService, times(1)).checkLedgerAccess(1L, userId);
+        verify(transactionJdbcRepository).batchInsert(argThat(list -> list.size() == 1));
+        verify(transactionRepository).saveAllAndFlush(argThat(list -> list.iterator().next() == existingTransaction));
+        verify(transactionRollupService).applyAll(anyCollection(), anyCollection());
+
+        assertThat(response.getTotal()).isEqualTo(4);
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getResults())
+                .extracting(TransactionBatchResponse.ItemResult::isSuccess,
+                        TransactionBatchResponse.ItemResult::getTransactionId,
+                        TransactionBatchResponse.ItemResult::getErrorCode)
+                .containsExactly(
+                        tuple(true, 100L, null),
+                        tuple(false, null, TransactionBatchService.ERROR_INVALID_REQUEST),
+                        tuple(true, 10L, null),
+                        tuple(false, 99L, TransactionBatchService.ERROR_NOT_FOUND));
+        assertThat(response.getResults().get(0).getClientRef()).isEqualTo("local-1");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TransactionEvent>> eventsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(transactionEventProducer).publishAll(eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue())
+                .extracting(TransactionEvent::getEventType, TransactionEvent::getTransactionId)
+                .containsExactly(
+                        tuple(TransactionEvent.EVENT_TYPE_CREATED, 100L),
+                        tuple(TransactionEvent.EVENT_TYPE_UPDATED, 10L));
+        assertThat(eventsCaptor.getValue().get(1).getPreviousAmount()).isEqualByComparingTo("10000");
+    }
+
+    @Test
+    @DisplayName("일괄 작업 - 같은 배치에서 삭제한 거래를 다시 수정하면 실패로 처리한다")
+    void execute_UpdateAfterDelete_Fails() {
+        // Given
+        Long userId = 1L;
+        TransactionBatchRequest request = TransactionBatchRequest.builder()
+                .ledgerId(1L)
+                .operations(List.of(
+                        Operation.builder().op(OperationType.DELETE).transactionId(10L).build(),
+                        Operation.builder().op(OperationType.UPDATE).transactionId(10L)
+                                .type(TransactionType.EXPENSE).amount(BigDecimal.valueOf(20000))
+                                .transactionDate(LocalDate.of(2024, 3, 1)).build()))
+                .build();
+
+        when(transactionRepository.findByLedgerIdAndUserIdAndIdInAndIsDeletedFalse(eq(1L), eq(userId), anyCollection()))
+                .thenReturn(List.of(existingTransaction));
+
+        // When
+        TransactionBatchResponse response = transactionBatchService.execute(request, userId);
+
+        // Then
+        assertThat(response.getResults())
+                .extracting(TransactionBatchResponse.ItemResult::isSuccess)
+                .containsExactly(true, false);
+        verify(transactionMapper, never()).updateEntity(any(), any());
+    }
+}
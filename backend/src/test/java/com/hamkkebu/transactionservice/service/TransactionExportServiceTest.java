@@ -0,0 +1,44 @@
+package com.hamkkebu.transactionservice.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TransactionExportService CSV 필드 이스케이프 테스트
+ *
+ * <p>스프레드시트 수식 주입 방지와 RFC 4180 따옴표 처리를 테스트합니다.</p>
+ */
+@DisplayName("TransactionExportService 테스트")
+class TransactionExportServiceTest {
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource(delimiter = '|', quoteCharacter = '`', value = {
+            "=1+2|'=1+2",
+            "+82 10|'+82 10",
+            "-5000|'-5000",
+            "@SUM(A1)|'@SUM(A1)",
+            "`=HYPERLINK(\"http://x\",\"클릭\")`|`\"'=HYPERLINK(\"\"http://x\"\",\"\"클릭\"\")\"`",
+            "스타벅스=커피|스타벅스=커피",
+            "'따옴표|'따옴표"
+    })
+    @DisplayName("수식으로 해석되는 문자로 시작하면 작은따옴표를 붙인 뒤 RFC 4180 규칙으로 감싼다")
+    void csv_NeutralizesFormula(String value, String expected) {
+        assertThat(TransactionExportService.csv(value)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("탭이나 CR로 시작하는 값도 수식 방지 처리하고, 구분자/따옴표/개행은 따옴표로 감싼다")
+    void csv_ControlCharactersAndQuoting() {
+        assertThat(TransactionExportService.csv("\t=1")).isEqualTo("'\t=1");
+        assertThat(TransactionExportService.csv("\r=1")).isEqualTo("\"'\r=1\"");
+        assertThat(TransactionExportService.csv("식비, 카페")).isEqualTo("\"식비, 카페\"");
+        assertThat(TransactionExportService.csv("그는 \"네\"라고")).isEqualTo("\"그는 \"\"네\"\"라고\"");
+        assertThat(TransactionExportService.csv("첫째\n둘째")).isEqualTo("\"첫째\n둘째\"");
+        assertThat(TransactionExportService.csv(null)).isEmpty();
+        assertThat(TransactionExportService.csv(12L)).isEqualTo("12");
+    }
+}
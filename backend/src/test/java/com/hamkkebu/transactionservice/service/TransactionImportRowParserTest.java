@@ -0,0 +1,85 @@
+package com.hamkkebu.transactionservice.service;
+
+import com.hamkkebu.transactionservice.data.entity.enums.TransactionType;
+import com.hamkkebu.transactionservice.service.TransactionImportRowParser.ImportRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TransactionImportRowParser 단위 테스트
+ *
+ * <p>내보내기 CSV와 은행 거래내역 양식의 행이 가져오기 거래로 올바르게 변환되는지 테스트합니다.</p>
+ */
+@DisplayName("TransactionImportRowParser 테스트")
+class TransactionImportRowParserTest {
+
+    @Test
+    @DisplayName("내보내기 CSV 행은 유형 컬럼과 금액을 그대로 사용한다")
+    void parse_ExportFormat() {
+        TransactionImportRowParser parser = TransactionImportRowParser.fromHeader(List.of(
+                "id", "transactionDate", "type", "amount", "category", "description", "memo", "createdAt"));
+
+        ImportRow row = parser.parse(List.of(
+                "10", "2024-03-01", "EXPENSE", "4500.0000", "식비", "스타벅스", "", "2024-03-01T09:00:00"));
+
+        assertThat(row.transactionDate()).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(row.type()).isEqualTo(TransactionType.EXPENSE);
+        assertThat(row.amount()).isEqualByComparingTo("4500");
+        assertThat(row.category()).isEqualTo("식비");
+        assertThat(row.description()).isEqualTo("스타벅스");
+        assertThat(row.memo()).isNull();
+    }
+
+    @Test
+    @DisplayName("내보내기에서 수식 방지로 붙인 작은따옴표는 떼고 가져온다")
+    void parse_ExportFormat_FormulaEscaped() {
+        TransactionImportRowParser parser = TransactionImportRowParser.fromHeader(List.of(
+                "transactionDate", "type", "amount", "category", "description", "memo"));
+
+        ImportRow row = parser.parse(List.of(
+                "2024-03-01", "EXPENSE", "4500", "'@식비", "'=HYPERLINK(\"x\")", "'it's mine"));
+
+        assertThat(row.category()).isEqualTo("@식비");
+        assertThat(row.description()).isEqualTo("=HYPERLINK(\"x\")");
+        assertThat(row.memo()).isEqualTo("'it's mine");
+    }
+
+    @Test
+    @DisplayName("은행 양식 행은 출금/입금 컬럼으로 유형을 정한다")
+    void parse_BankStatementFormat() {
+        TransactionImportRowParser parser = TransactionImportRowParser.fromHeader(List.of(
+                "거래일시", "적요", "출금액", "입금액", "잔액"));
+
+        ImportRow expense = parser.parse(List.of("2024.03.01 12:30:00", "카드대금", "1,200,000", "0", "500,000"));
+        ImportRow income = parser.parse(List.of("20240325", "급여", "", "3,000,000원", "3,500,000"));
+
+        assertThat(expense.type()).isEqualTo(TransactionType.EXPENSE);
+        assertThat(expense.amount()).isEqualByComparingTo("1200000");
+        assertThat(expense.transactionDate()).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(income.type()).isEqualTo(TransactionType.INCOME);
+        assertThat(income.amount()).isEqualByComparingTo(new BigDecimal("3000000"));
+        assertThat(income.transactionDate()).isEqualTo(LocalDate.of(2024, 3, 25));
+    }
+
+    @Test
+    @DisplayName("필수 컬럼이 없거나 값 형식이 잘못되면 실패하고, 금액 표기 차이는 같은 중복 판별 키가 된다")
+    void parse_InvalidRowsAndDedupeKey() {
+        assertThatThrownBy(() -> TransactionImportRowParser.fromHeader(List.of("date", "description")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        TransactionImportRowParser parser = TransactionImportRowParser.fromHeader(List.of("date", "amount", "내용"));
+
+        assertThatThrownBy(() -> parser.parse(List.of("2024-13-01", "1000", "x")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse(List.of("2024-03-01", "abc", "x")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(parser.parse(List.of("2024-03-01", "-1,000", "편의점")).dedupeKey())
+                .isEqualTo(parser.parse(List.of("2024/3/1", "(1000.00)", "편의점 ")).dedupeKey());
+    }
+}
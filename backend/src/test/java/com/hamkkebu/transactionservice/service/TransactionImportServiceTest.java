@@ -0,0 +1,107 @@
+package com.hamkkebu.transactionservice.service;
+
+import com.hamkkebu.boilerplate.common.exception.BusinessException;
+import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import com.hamkkebu.transactionservice.kafka.producer.TransactionEventProducer;
+import com.hamkkebu.transactionservice.repository.TransactionImportJobRepository;
+import com.hamkkebu.transactionservice.repository.TransactionJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TransactionImportService 단위 테스트
+ *
+ * <p>가져오기 요청 검증(인코딩, 빈 파일)과 작업 조회 실패 시 오류 코드를 테스트합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionImportService 테스트")
+class TransactionImportServiceTest {
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private TransactionJdbcRepository transactionJdbcRepository;
+
+    @Mock
+    private TransactionImportJobRepository importJobRepository;
+
+    @Mock
+    private TransactionRollupService transactionRollupService;
+
+    @Mock
+    private TransactionEventProducer transactionEventProducer;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionImportService importService;
+
+    private final MockMultipartFile csvFile = new MockMultipartFile("file", "bank.csv", "text/csv",
+            "거래일,적요,출금,입금\n2024-03-01,스타벅스,4500,\n".getBytes(StandardCharsets.UTF_8));
+
+    @BeforeEach
+    void setUp() {
+        importService = new TransactionImportService(transactionService, transactionJdbcRepository,
+                importJobRepository, transactionRollupService, transactionEventProducer, transactionManager,
+                1, 1, 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.shutdown();
+    }
+
+    @ParameterizedTest(name = "encoding={0}")
+    @ValueSource(strings = {"NOT-A-CHARSET", "bad charset name!", ""})
+    @DisplayName("지원하지 않거나 잘못된 인코딩 이름은 작업을 만들지 않고 입력 오류로 거절한다")
+    void startImport_InvalidEncoding(String encoding) {
+        assertThatThrownBy(() -> importService.startImport(1L, 1L, csvFile, encoding))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+
+        verify(importJobRepository, never()).create(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("빈 파일은 작업을 만들지 않고 입력 오류로 거절한다")
+    void startImport_EmptyFile() {
+        MockMultipartFile empty = new MockMultipartFile("file", "bank.csv", "text/csv", new byte[0]);
+
+        assertThatThrownBy(() -> importService.startImport(1L, 1L, empty, "UTF-8"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+
+        verify(transactionService).checkLedgerAccess(1L, 1L);
+        verify(importJobRepository, never()).create(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("없거나 다른 사용자의 작업 조회는 가져오기 작업 없음 오류로 응답한다")
+    void getJob_NotFound() {
+        when(importJobRepository.findByIdAndUserId(7L, 1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> importService.getJob(7L, 1L))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.TRANSACTION_IMPORT_JOB_NOT_FOUND);
+    }
+}
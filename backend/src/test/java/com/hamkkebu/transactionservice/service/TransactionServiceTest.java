@@ -1,7 +1,13 @@
 package com.hamkkebu.transactionservice.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hamkkebu.boilerplate.common.exception.BusinessException;
 import com.hamkkebu.boilerplate.common.exception.ErrorCode;
+import com.hamkkebu.transactionservice.data.dto.DailyTransactionAggregate;
+import com.hamkkebu.transactionservice.data.dto.MonthlyTransactionAggregate;
+import com.hamkkebu.transactionservice.data.dto.PeriodTransactionSummary;
+import com.hamkkebu.transactionservice.data.dto.TransactionCursor;
+import com.hamkkebu.transactionservice.data.dto.TransactionCursorPage;
 import com.hamkkebu.transactionservice.data.dto.TransactionRequest;
 import com.hamkkebu.transactionservice.data.dto.TransactionResponse;
 import com.hamkkebu.transactionservice.data.dto.TransactionSummary;
@@ -9,21 +15,28 @@ import com.hamkkebu.transactionservice.data.entity.Transaction;
 import com.hamkkebu.transactionservice.data.entity.enums.TransactionType;
 import com.hamkkebu.transactionservice.data.mapper.TransactionMapper;
 import com.hamkkebu.transactionservice.kafka.producer.TransactionEventProducer;
+import com.hamkkebu.transactionservice.repository.LedgerRepository;
+import com.hamkkebu.transactionservice.repository.LedgerShareRepository;
+import com.hamkkebu.transactionservice.repository.TransactionDailyRollupRepository;
 import com.hamkkebu.transactionservice.repository.TransactionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -42,6 +55,29 @@ class TransactionServiceTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Mock
+    private LedgerRepository ledgerRepository;
+
+    @Mock
+    private LedgerShareRepository ledgerShareRepository;
+
+    @Spy
+    private LedgerAccessCache ledgerAccessCache =
+            new LedgerAccessCache(mock(StringRedisTemplate.class), 100, Duration.ofMinutes(5),
+                    Duration.ofSeconds(30), new SimpleMeterRegistry());
+
+    // 캐시 비활성화 (요약은 매번 집계 버킷으로부터 계산)
+    @Spy
+    private TransactionSummaryCache summaryCache = new TransactionSummaryCache(null, new ObjectMapper(),
+            new SimpleMeterRegistry(), false, Duration.ofMinutes(10), Duration.ofDays(7), 100,
+            Duration.ofSeconds(1), Duration.ofSeconds(30));
+
+    @Mock
+    private TransactionDailyRollupRepository rollupRepository;
+
+    @Mock
+    private TransactionRollupService transactionRollupService;
+
     @Mock
     private TransactionMapper transactionMapper;
 
@@ -115,6 +151,7 @@ class TransactionServiceTest {
 
         verify(transactionMapper).toEntity(validRequest);
         verify(transactionRepository).save(any(Transaction.class));
+        verify(transactionRollupService).applyCreated(savedTransaction);
         verify(transactionEventProducer).publishTransactionCreated(any(Transaction.class));
         verify(transactionMapper).toResponse(savedTransaction);
     }
@@ -199,9 +236,10 @@ class TransactionServiceTest {
 
         when(transactionRepository.findByIdAndUserIdAndIsDeletedFalse(1L, userId)).thenReturn(Optional.of(savedTransaction));
         doNothing().when(transactionMapper).updateEntity(updateRequest, savedTransaction);
-        when(transactionRepository.save(savedTransaction)).thenReturn(savedTransaction);
+        when(transactionRepository.saveAndFlush(savedTransaction)).thenReturn(savedTransaction);
         when(transactionMapper.toResponse(savedTransaction)).thenReturn(transactionResponse);
-        doNothing().when(transactionEventProducer).publishTransactionUpdated(any(Transaction.class));
+        doNothing().when(transactionEventProducer)
+                .publishTransactionUpdated(any(Transaction.class), any(TransactionRollupService.RollupEntry.class));
 
         // When
         TransactionResponse result = transactionService.updateTransaction(1L, updateRequest, userId);
@@ -211,8 +249,10 @@ class TransactionServiceTest {
 
         verify(transactionRepository).findByIdAndUserIdAndIsDeletedFalse(1L, userId);
         verify(transactionMapper).updateEntity(updateRequest, savedTransaction);
-        verify(transactionRepository).save(savedTransaction);
-        verify(transactionEventProducer).publishTransactionUpdated(savedTransaction);
+        verify(transactionRepository).saveAndFlush(savedTransaction);
+        verify(transactionRollupService).applyUpdated(any(TransactionRollupService.RollupEntry.class), eq(savedTransaction));
+        verify(transactionEventProducer)
+                .publishTransactionUpdated(eq(savedTransaction), any(TransactionRollupService.RollupEntry.class));
     }
 
     @Test
@@ -229,7 +269,7 @@ class TransactionServiceTest {
                 .isEqualTo(ErrorCode.TRANSACTION_NOT_FOUND);
 
         verify(transactionRepository).findByIdAndUserIdAndIsDeletedFalse(999L, userId);
-        verify(transactionRepository, never()).save(any());
+        verify(transactionRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -238,7 +278,7 @@ class TransactionServiceTest {
         // Given
         Long userId = 1L;
         when(transactionRepository.findByIdAndUserIdAndIsDeletedFalse(1L, userId)).thenReturn(Optional.of(savedTransaction));
-        when(transactionRepository.save(savedTransaction)).thenReturn(savedTransaction);
+        when(transactionRepository.saveAndFlush(savedTransaction)).thenReturn(savedTransaction);
         doNothing().when(transactionEventProducer).publishTransactionDeleted(any(Transaction.class));
 
         // When
@@ -246,7 +286,8 @@ class TransactionServiceTest {
 
         // Then
         verify(transactionRepository).findByIdAndUserIdAndIsDeletedFalse(1L, userId);
-        verify(transactionRepository).save(savedTransaction);
+        verify(transactionRepository).saveAndFlush(savedTransaction);
+        verify(transactionRollupService).applyDeleted(savedTransaction);
         verify(transactionEventProducer).publishTransactionDeleted(savedTransaction);
     }
 
@@ -264,7 +305,7 @@ class TransactionServiceTest {
                 .isEqualTo(ErrorCode.TRANSACTION_NOT_FOUND);
 
         verify(transactionRepository).findByIdAndUserIdAndIsDeletedFalse(999L, userId);
-        verify(transactionRepository, never()).save(any());
+        verify(transactionRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -277,12 +318,10 @@ class TransactionServiceTest {
         BigDecimal totalExpense = BigDecimal.valueOf(500000);
         Long transactionCount = 10L;
 
-        when(transactionRepository.existsByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId)).thenReturn(true);
-        when(transactionRepository.sumAmountByLedgerIdAndType(ledgerId, TransactionType.INCOME))
-                .thenReturn(totalIncome);
-        when(transactionRepository.sumAmountByLedgerIdAndType(ledgerId, TransactionType.EXPENSE))
-                .thenReturn(totalExpense);
-        when(transactionRepository.countByLedgerId(ledgerId)).thenReturn(transactionCount);
+        when(ledgerRepository.existsByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId)).thenReturn(true);
+        when(rollupRepository.aggregateByLedgerId(ledgerId)).thenReturn(List.of(
+                aggregate(null, TransactionType.INCOME, 1000000, 4L),
+                aggregate(null, TransactionType.EXPENSE, 500000, 6L)));
 
         // When
         TransactionSummary result = transactionService.getSummaryByLedger(ledgerId, userId);
@@ -290,14 +329,12 @@ class TransactionServiceTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getLedgerId()).isEqualTo(ledgerId);
-        assertThat(result.getTotalIncome()).isEqualTo(totalIncome);
-        assertThat(result.getTotalExpense()).isEqualTo(totalExpense);
-        assertThat(result.getBalance()).isEqualTo(BigDecimal.valueOf(500000));
+        assertThat(result.getTotalIncome()).isEqualByComparingTo(totalIncome);
+        assertThat(result.getTotalExpense()).isEqualByComparingTo(totalExpense);
+        assertThat(result.getBalance()).isEqualByComparingTo(BigDecimal.valueOf(500000));
         assertThat(result.getTransactionCount()).isEqualTo(transactionCount);
 
-        verify(transactionRepository).sumAmountByLedgerIdAndType(ledgerId, TransactionType.INCOME);
-        verify(transactionRepository).sumAmountByLedgerIdAndType(ledgerId, TransactionType.EXPENSE);
-        verify(transactionRepository).countByLedgerId(ledgerId);
+        verify(rollupRepository).aggregateByLedgerId(ledgerId);
     }
 
     @Test
@@ -307,14 +344,9 @@ class TransactionServiceTest {
         Long ledgerId = 1L;
         Long userId = 1L;
 
-        // 거래가 없는 경우 - 새로운 가계부
-        when(transactionRepository.existsByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId)).thenReturn(false);
-        when(transactionRepository.countByLedgerIdAndUserId(ledgerId, userId)).thenReturn(0L);
-        when(transactionRepository.countByLedgerId(ledgerId)).thenReturn(0L);
-        when(transactionRepository.sumAmountByLedgerIdAndType(ledgerId, TransactionType.INCOME))
-                .thenReturn(BigDecimal.ZERO);
-        when(transactionRepository.sumAmountByLedgerIdAndType(ledgerId, TransactionType.EXPENSE))
-                .thenReturn(BigDecimal.ZERO);
+        // 거래가 없는 경우 - 새로운 가계부 (집계 행 없음)
+        when(ledgerRepository.existsByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId)).thenReturn(true);
+        when(rollupRepository.aggregateByLedgerId(ledgerId)).thenReturn(List.of());
 
         // When
         TransactionSummary result = transactionService.getSummaryByLedger(ledgerId, userId);
@@ -363,7 +395,6 @@ class TransactionServiceTest {
 
         when(transactionRepository.existsByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId)).thenReturn(false);
         when(transactionRepository.countByLedgerIdAndUserId(ledgerId, userId)).thenReturn(0L);
-        when(transactionRepository.countByLedgerId(ledgerId)).thenReturn(5L); // 다른 사용자의 거래가 있음
 
         // When & Then
         assertThatThrownBy(() -> transactionService.getTransactionsByLedger(ledgerId, userId, pageable))
@@ -371,4 +402,216 @@ class TransactionServiceTest {
                 .extracting(ex -> ((BusinessException) ex).getErrorCode())
                 .isEqualTo(ErrorCode.LEDGER_ACCESS_DENIED);
     }
+
+    @Test
+    @DisplayName("가계부 접근 권한 캐시 - 같은 사용자의 반복 조회는 DB 확인 없이 통과, 무효화 후 재확인")
+    void validateLedgerAccess_CachedUntilInvalidated() {
+        // Given
+        Long ledgerId = 1L;
+        Long userId = 1L;
+        when(ledgerRepository.existsByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId)).thenReturn(true);
+        when(transactionRepository.findByLedgerIdAndIsDeletedFalseOrderByTransactionDateDescIdDesc(ledgerId))
+                .thenReturn(List.of());
+
+        // When
+        transactionService.getAllTransactionsByLedger(ledgerId, userId);
+        transactionService.getAllTransactionsByLedger(ledgerId, userId);
+
+        // Then
+        verify(ledgerRepository, times(1)).existsByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId);
+
+        // When - 가계부 이벤트로 무효화 (트랜잭션 밖에서는 즉시 반영)
+        ledgerAccessCache.invalidateLedger(ledgerId);
+        transactionService.getAllTransactionsByLedger(ledgerId, userId);
+
+        // Then
+        verify(ledgerRepository, times(2)).existsByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId);
+    }
+
+    @Test
+    @DisplayName("월별 거래 요약 조회 - 일별 집계 버킷으로 합계와 일별 상세 계산")
+    void getMonthlySummary_AggregatesFromBuckets() {
+        // Given
+        Long ledgerId = 1L;
+        Long userId = 1L;
+        LocalDate startDate = LocalDate.of(2025, 1, 1);
+        LocalDate endDate = LocalDate.of(2025, 1, 31);
+        LocalDate day1 = LocalDate.of(2025, 1, 5);
+        LocalDate day2 = LocalDate.of(2025, 1, 20);
+
+        when(ledgerRepository.existsByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId)).thenReturn(true);
+        when(rollupRepository.findDailyByLedgerIdAndDateRange(ledgerId, startDate, endDate))
+                .thenReturn(List.of(
+                        aggregate(day1, TransactionType.INCOME, 300000, 1L),
+                        aggregate(day1, TransactionType.EXPENSE, 50000, 2L),
+                        aggregate(day2, TransactionType.EXPENSE, 20000, 1L)));
+        when(transactionRepository.findByLedgerIdAndTransactionDateBetweenAndIsDeletedFalseOrderByTransactionDateDescIdDesc(
+                ledgerId, startDate, endDate)).thenReturn(List.of(savedTransaction));
+        when(transactionMapper.toResponseList(List.of(savedTransaction))).thenReturn(List.of(transactionResponse));
+
+        // When
+        PeriodTransactionSummary result = transactionService.getMonthlySummary(ledgerId, 2025, 1, userId);
+
+        // Then
+        assertThat(result.getTotalIncome()).isEqualByComparingTo(BigDecimal.valueOf(300000));
+        assertThat(result.getTotalExpense()).isEqualByComparingTo(BigDecimal.valueOf(70000));
+        assertThat(result.getBalance()).isEqualByComparingTo(BigDecimal.valueOf(230000));
+        assertThat(result.getTransactionCount()).isEqualTo(4L);
+        assertThat(result.getTransactions()).hasSize(1);
+        assertThat(result.getPeriodDetails()).hasSize(2);
+        assertThat(result.getPeriodDetails().get(0).getStartDate()).isEqualTo(day2);
+        assertThat(result.getPeriodDetails().get(1).getTransactionCount()).isEqualTo(3L);
+
+        verify(transactionRepository, times(1))
+                .findByLedgerIdAndTransactionDateBetweenAndIsDeletedFalseOrderByTransactionDateDescIdDesc(
+                        ledgerId, startDate, endDate);
+    }
+
+    @Test
+    @DisplayName("년별 거래 요약 조회 - 월별 버킷 단일 쿼리, 거래 목록 미포함")
+    void getYearlySummary_SingleGroupedQueryWithoutTransactions() {
+        // Given
+        Long ledgerId = 1L;
+        Long userId = 1L;
+        LocalDate startDate = LocalDate.of(2025, 1, 1);
+        LocalDate endDate = LocalDate.of(2025, 12, 31);
+
+        when(ledgerRepository.existsByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId)).thenReturn(true);
+        when(rollupRepository.aggregateMonthlyByLedgerIdAndDateRange(ledgerId, startDate, endDate))
+                .thenReturn(List.of(
+                        monthlyAggregate(3, TransactionType.EXPENSE, 40000, 2L),
+                        monthlyAggregate(1, TransactionType.INCOME, 300000, 1L),
+                        monthlyAggregate(1, TransactionType.EXPENSE, 10000, 1L)));
+
+        // When
+        PeriodTransactionSummary result = transactionService.getYearlySummary(ledgerId, 2025, false, userId);
+
+        // Then
+        assertThat(result.getTotalIncome()).isEqualByComparingTo(BigDecimal.valueOf(300000));
+        assertThat(result.getTotalExpense()).isEqualByComparingTo(BigDecimal.valueOf(50000));
+        assertThat(result.getTransactionCount()).isEqualTo(4L);
+        assertThat(result.getTransactions()).isNull();
+        assertThat(result.getPeriodDetails()).extracting(PeriodTransactionSummary.PeriodDetail::getPeriodLabel)
+                .containsExactly("2025-01", "2025-03");
+
+        verify(transactionRepository, never())
+                .findByLedgerIdAndTransactionDateBetweenAndIsDeletedFalseOrderByTransactionDateDescIdDesc(
+                        any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("커서 기반 거래 목록 조회 - size + 1건으로 다음 페이지 판단, COUNT 쿼리 없음")
+    void getTransactionsByLedgerCursor_ReturnsNextCursorWithoutCount() {
+        // Given
+        Long ledgerId = 1L;
+        Long userId = 1L;
+        LocalDate date = LocalDate.of(2025, 1, 20);
+        Transaction older = Transaction.builder()
+                .ledgerId(ledgerId)
+                .userId(userId)
+                .type(TransactionType.EXPENSE)
+                .amount(BigDecimal.valueOf(10000))
+                .transactionDate(date)
+                .build();
+        ReflectionTestUtils.setField(older, "id", 7L);
+        TransactionResponse newestResponse = TransactionResponse.builder().id(9L).transactionDate(date).build();
+
+        when(ledgerRepository.existsByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId)).thenReturn(true);
+        when(transactionRepository.findFirstSliceByLedgerId(ledgerId, PageRequest.of(0, 2)))
+                .thenReturn(List.of(savedTransaction, older));
+        when(transactionMapper.toResponseList(List.of(savedTransaction))).thenReturn(List.of(newestResponse));
+
+        // When
+        TransactionCursorPage firstPage = transactionService.getTransactionsByLedgerCursor(ledgerId, userId, null, 1);
+
+        // Then
+        assertThat(firstPage.getContent()).hasSize(1);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(TransactionCursor.decode(firstPage.getNextCursor()))
+                .isEqualTo(new TransactionCursor(date, 9L));
+
+        // When - 다음 페이지
+        when(transactionRepository.findSliceByLedgerIdAfterCursor(ledgerId, date, 9L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(older));
+        when(transactionMapper.toResponseList(List.of(older))).thenReturn(List.of(transactionResponse));
+
+        TransactionCursorPage nextPage = transactionService.getTransactionsByLedgerCursor(
+                ledgerId, userId, firstPage.getNextCursor(), 1);
+
+        // Then
+        assertThat(nextPage.getContent()).hasSize(1);
+        assertThat(nextPage.isHasNext()).isFalse();
+        assertThat(nextPage.getNextCursor()).isNull();
+
+        verify(transactionRepository, never())
+                .findByLedgerIdAndIsDeletedFalseOrderByTransactionDateDescIdDesc(any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("커서 기반 거래 목록 조회 실패 - 잘못된 커서")
+    void getTransactionsByLedgerCursor_InvalidCursor() {
+        // Given
+        Long ledgerId = 1L;
+        Long userId = 1L;
+        when(ledgerRepository.existsByLedgerIdAndUserIdAndIsDeletedFalse(ledgerId, userId)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> transactionService.getTransactionsByLedgerCursor(ledgerId, userId, "not-a-cursor", 20))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    private MonthlyTransactionAggregate monthlyAggregate(int month, TransactionType type, long amount, Long count) {
+        return new MonthlyTransactionAggregate() {
+            @Override
+            public Integer getTransactionYear() {
+                return 2025;
+            }
+
+            @Override
+            public Integer getTransactionMonth() {
+                return month;
+            }
+
+            @Override
+            public TransactionType getType() {
+                return type;
+            }
+
+            @Override
+            public BigDecimal getTotalAmount() {
+                return BigDecimal.valueOf(amount);
+            }
+
+            @Override
+            public Long getTransactionCount() {
+                return count;
+            }
+        };
+    }
+
+    private DailyTransactionAggregate aggregate(LocalDate date, TransactionType type, long amount, Long count) {
+        return new DailyTransactionAggregate() {
+            @Override
+            public LocalDate getTransactionDate() {
+                return date;
+            }
+
+            @Override
+            public TransactionType getType() {
+                return type;
+            }
+
+            @Override
+            public BigDecimal getTotalAmount() {
+                return BigDecimal.valueOf(amount);
+            }
+
+            @Override
+            public Long getTransactionCount() {
+                return count;
+            }
+        };
+    }
 }
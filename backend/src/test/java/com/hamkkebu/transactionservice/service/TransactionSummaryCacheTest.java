@@ -0,0 +1,96 @@
+package com.hamkkebu.transactionservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hamkkebu.transactionservice.data.dto.TransactionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TransactionSummaryCache 단위 테스트
+ *
+ * <p>L1 적중(호출마다 새 DTO), 버전 증가 후 재계산, Redis 장애 시 우회 동작을 테스트합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionSummaryCache 테스트")
+class TransactionSummaryCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private TransactionSummaryCache summaryCache;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        summaryCache = new TransactionSummaryCache(redisTemplate, new ObjectMapper(), new SimpleMeterRegistry(),
+                true, Duration.ofMinutes(10), Duration.ofDays(7), 100, Duration.ofMinutes(1), Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("같은 버전은 L1에서 반환하고, 버전이 오르면 새 키로 다시 계산한다")
+    void get_ReloadsOnlyAfterVersionBump() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(100L, 101L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        TransactionSummary first = summaryCache.get(1L, "total", TransactionSummary.class, this::load);
+        // 호출자가 응답 DTO를 수정해도 캐시된 값은 바뀌지 않음
+        first.setTransactionCount(99L);
+        TransactionSummary second = summaryCache.get(1L, "total", TransactionSummary.class, this::load);
+        TransactionSummary third = summaryCache.get(1L, "total", TransactionSummary.class, this::load);
+        summaryCache.bumpVersion(1L);
+        summaryCache.get(1L, "total", TransactionSummary.class, this::load);
+
+        assertThat(second).isNotSameAs(first).isNotSameAs(third);
+        assertThat(second.getTransactionCount()).isEqualTo(2L);
+        assertThat(second.getTotalIncome()).isEqualByComparingTo(BigDecimal.TEN);
+        assertThat(loads).hasValue(2);
+        verify(valueOperations).get("txsummary:v1:1:100:total");
+        verify(valueOperations).get("txsummary:v1:1:101:total");
+        verify(valueOperations).set(eq("txsummary:v1:1:101:total"), anyString(), eq(Duration.ofMinutes(10)));
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 DB 계산 결과를 반환하고 backoff 동안 Redis를 호출하지 않는다")
+    void get_RedisFailure_BypassesCache() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        summaryCache.get(1L, "total", TransactionSummary.class, this::load);
+        summaryCache.get(2L, "total", TransactionSummary.class, this::load);
+
+        assertThat(loads).hasValue(2);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(), any());
+    }
+
+    private TransactionSummary load() {
+        loads.incrementAndGet();
+        return TransactionSummary.builder()
+                .ledgerId(1L)
+                .totalIncome(BigDecimal.TEN)
+                .totalExpense(BigDecimal.ONE)
+                .balance(BigDecimal.valueOf(9))
+                .transactionCount(2L)
+                .build();
+    }
+}